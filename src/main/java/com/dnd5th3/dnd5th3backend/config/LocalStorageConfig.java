@@ -0,0 +1,28 @@
+package com.dnd5th3.dnd5th3backend.config;
+
+import com.dnd5th3.dnd5th3backend.utils.storage.LocalObjectStorage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 로컬 저장소에 올린 이미지를 /local-storage/** 로 제공
+ */
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+@Configuration
+public class LocalStorageConfig implements WebMvcConfigurer {
+
+    public static final String RESOURCE_PATH = "/local-storage/**";
+
+    private final LocalObjectStorage localObjectStorage;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        String location = localObjectStorage.getBaseDir().toUri().toString();
+        registry.addResourceHandler(RESOURCE_PATH)
+                .addResourceLocations(location.endsWith("/") ? location : location + "/");
+    }
+}
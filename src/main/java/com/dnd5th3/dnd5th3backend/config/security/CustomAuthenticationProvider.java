@@ -2,15 +2,16 @@ package com.dnd5th3.dnd5th3backend.config.security;
 
 import com.dnd5th3.dnd5th3backend.domain.member.Member;
 import com.dnd5th3.dnd5th3backend.domain.member.MemberType;
+import com.dnd5th3.dnd5th3backend.exception.PasswordHashingQueueFullException;
+import com.dnd5th3.dnd5th3backend.exception.PasswordHashingTimeoutException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import javax.transaction.Transactional;
@@ -20,7 +21,7 @@ import javax.transaction.Transactional;
 public class CustomAuthenticationProvider implements AuthenticationProvider {
 
     private final UserDetailsService userDetailsService;
-    private PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    private final PasswordHasher passwordHasher;
 
     @Transactional
     @Override
@@ -35,13 +36,24 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
             throw new UsernameNotFoundException("소셜로그인이 필요한 계정입니다. ["+email+"]");
         }
 
-        if(!passwordEncoder.matches(password,memberContext.getPassword())){
+        if(!matchesPassword(password,memberContext.getPassword())){
             throw new BadCredentialsException("비밀번호가 일치하지 않습니다.");
         }
 
         return new CustomAuthenticationToken(member,null,memberContext.getAuthorities());
     }
 
+    /**
+     * 해시 대기열이 가득 차거나 대기 시간을 넘기면 CustomAuthenticationFailureHandler 에서 429, 503 으로 응답하도록 원인을 담아 던진다.
+     */
+    private boolean matchesPassword(String password, String encodedPassword) {
+        try {
+            return passwordHasher.matches(password,encodedPassword);
+        } catch (PasswordHashingQueueFullException | PasswordHashingTimeoutException e) {
+            throw new AuthenticationServiceException(e.getMessage(), e);
+        }
+    }
+
     @Override
     public boolean supports(Class<?> authentication) {
         return authentication.equals(CustomAuthenticationToken.class);
@@ -2,7 +2,7 @@ package com.dnd5th3.dnd5th3backend.config.security;
 
 import com.dnd5th3.dnd5th3backend.domain.member.Member;
 import com.dnd5th3.dnd5th3backend.domain.member.MemberType;
-import com.dnd5th3.dnd5th3backend.repository.member.MemberRepository;
+import com.dnd5th3.dnd5th3backend.repository.member.MemberCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -18,11 +18,11 @@ import java.util.List;
 @Service("userDetailService")
 public class CustomUserDetailServiceImpl implements UserDetailsService {
 
-    private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Member member = memberRepository.findByEmail(username);
+        Member member = memberCache.findByEmail(username);
         if(member == null || MemberType.WITHDRAWAL.equals(member.getMemberType())){
             throw new UsernameNotFoundException("등록된 계정이 없습니다. ["+username+"]");
         }
@@ -0,0 +1,114 @@
+package com.dnd5th3.dnd5th3backend.config.security;
+
+import com.dnd5th3.dnd5th3backend.exception.PasswordHashingQueueFullException;
+import com.dnd5th3.dnd5th3backend.exception.PasswordHashingTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 생성, 비교 (bcrypt)
+ * 해시 계산은 CPU 를 오래 쓰므로 요청 스레드가 아닌 코어 수 만큼의 전용 스레드에서 처리한다.
+ * 로그인이 몰려도 요청 스레드는 결과를 기다리기만 하므로 다른 API 는 계속 처리할 수 있다.
+ * 대기열이 가득 차면 바로 PasswordHashingQueueFullException(429),
+ * wait-timeout-ms 안에 끝나지 않으면 PasswordHashingTimeoutException(503) 을 던진다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMillis;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter queueFullCounter;
+    private final Counter timeoutCounter;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${password.hash.threads:0}") int threads,
+                          @Value("${password.hash.queue-capacity:64}") int queueCapacity,
+                          @Value("${password.hash.wait-timeout-ms:3000}") long waitTimeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        //0 이면 코어 수
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.encodeTimer = Timer.builder("password.hash.duration")
+                .tag("operation", "encode")
+                .description("비밀번호 해시 생성 시간 (대기 시간 제외)")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash.duration")
+                .tag("operation", "matches")
+                .description("비밀번호 해시 비교 시간 (대기 시간 제외)")
+                .register(meterRegistry);
+        this.queueFullCounter = Counter.builder("password.hash.rejected")
+                .tag("reason", "queue-full")
+                .description("대기열이 가득 차 거절한 비밀번호 해시 요청 수")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("password.hash.rejected")
+                .tag("reason", "timeout")
+                .description("대기 시간을 넘겨 거절한 비밀번호 해시 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue.size", executor, pool -> pool.getQueue().size())
+                .description("해시 계산을 기다리는 요청 수")
+                .register(meterRegistry);
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            queueFullCounter.increment();
+            throw new PasswordHashingQueueFullException("비밀번호 처리 요청이 많아 대기열이 가득 찼습니다.");
+        }
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            //취소한 작업이 대기열 자리를 차지하지 않도록 바로 제거
+            future.cancel(true);
+            executor.purge();
+            timeoutCounter.increment();
+            throw new PasswordHashingTimeoutException("비밀번호 처리 대기 시간을 초과했습니다.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            executor.purge();
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingTimeoutException("비밀번호 처리 대기 중 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.dnd5th3.dnd5th3backend.config.security;
 
+import com.dnd5th3.dnd5th3backend.config.LocalStorageConfig;
 import com.dnd5th3.dnd5th3backend.config.security.handler.CustomAccessDeniedHandler;
 import com.dnd5th3.dnd5th3backend.config.security.handler.CustomAuthenticationFailureHandler;
 import com.dnd5th3.dnd5th3backend.config.security.handler.CustomAuthenticationSuccessHandler;
@@ -49,7 +50,9 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                         .antMatchers("/api/v1/posts/**").permitAll()
                         .antMatchers("/api/v1/mypage").permitAll()
                         .antMatchers("/docs/**").permitAll()
+                        .antMatchers(HttpMethod.GET, LocalStorageConfig.RESOURCE_PATH).permitAll()
                         .antMatchers("/admin/**").hasRole("ADMIN")
+                        .antMatchers("/actuator/**").hasRole("ADMIN")
                     .anyRequest().authenticated()
                     .and()
                         .addFilterBefore(customAuthenticationProcessingFilter(), UsernamePasswordAuthenticationFilter.class)
@@ -78,8 +81,11 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         return customAuthenticationProcessingFilter;
     }
 
+    /**
+     * PasswordHasher 를 사용하는 CustomAuthenticationProvider 를 이 설정이 주입받으므로 static 으로 등록한다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder(){
+    public static PasswordEncoder passwordEncoder(){
         return PasswordEncoderFactories.createDelegatingPasswordEncoder();
     }
 }
@@ -1,5 +1,7 @@
 package com.dnd5th3.dnd5th3backend.config.security.handler;
 
+import com.dnd5th3.dnd5th3backend.exception.PasswordHashingQueueFullException;
+import com.dnd5th3.dnd5th3backend.exception.PasswordHashingTimeoutException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -22,9 +24,24 @@ public class CustomAuthenticationFailureHandler implements AuthenticationFailure
 
     @Override
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response, AuthenticationException exception) throws IOException, ServletException {
-        response.setStatus(HttpStatus.UNAUTHORIZED.value());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setCharacterEncoding(StandardCharsets.UTF_8.toString());
+
+        //비밀번호 해시 대기열 초과, 대기 시간 초과는 인증 실패가 아니므로 재시도 가능한 상태로 응답
+        if(exception.getCause() instanceof PasswordHashingQueueFullException){
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            log.warn("로그인 요청 거절 : {}",exception.getMessage());
+            objectMapper.writeValue(response.getWriter(),"요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+        if(exception.getCause() instanceof PasswordHashingTimeoutException){
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            log.warn("로그인 요청 거절 : {}",exception.getMessage());
+            objectMapper.writeValue(response.getWriter(),"서버가 혼잡합니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
         log.warn("로그인 인증 실패 : {}",exception.getMessage());
 
         objectMapper.writeValue(response.getWriter(),"로그인 인증에 실패했습니다.");
@@ -0,0 +1,253 @@
+package com.dnd5th3.dnd5th3backend.config.security.jwt;
+
+import com.dnd5th3.dnd5th3backend.domain.member.RefreshToken;
+import com.dnd5th3.dnd5th3backend.repository.member.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서버 메모리의 리프레시 토큰 저장소
+ * 토큰 해시 -> 토큰 정보 Map 으로 조회, 폐기는 O(1) 이고 회원별 토큰 목록으로 회원의 토큰을 한 번에 폐기한다.
+ * 만료된 토큰은 만료 시간 구간(ExpiryBuckets)별로 모아 두었다가 purgeExpired 에서 구간 단위로 정리한다.
+ * 회원별 토큰은 max-tokens-per-member 개까지 유지하고, 넘으면 가장 먼저 만료되는 토큰부터 폐기한다.
+ *
+ * persistent 가 true 이면 refresh_token 테이블에도 저장해 재시작 후 다시 읽고, 여러 서버가 같은 토큰을 공유한다.
+ * 이때 토큰 사용(교체)과 폐기는 DB 행 삭제 결과를 기준으로 하므로 같은 토큰은 한 번만 재발급에 사용할 수 있다.
+ */
+@Slf4j
+@Component
+public class EmbeddedRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Clock clock;
+    private final boolean persistent;
+    private final int maxTokensPerMember;
+    private final Map<String, StoredToken> tokens = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> memberTokens = new ConcurrentHashMap<>();
+    private final ExpiryBuckets<String> expiryBuckets;
+
+    @Autowired
+    public EmbeddedRefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                                     @Value("${jwt.refresh-token-store.persistent:true}") boolean persistent,
+                                     @Value("${jwt.refresh-token-store.max-tokens-per-member:10}") int maxTokensPerMember,
+                                     @Value("${jwt.refresh-token-store.bucket-seconds:60}") long bucketSeconds) {
+        this(refreshTokenRepository, Clock.systemDefaultZone(), persistent, maxTokensPerMember, Duration.ofSeconds(bucketSeconds));
+    }
+
+    EmbeddedRefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                              Clock clock,
+                              boolean persistent,
+                              int maxTokensPerMember,
+                              Duration bucket) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.clock = clock;
+        this.persistent = persistent;
+        this.maxTokensPerMember = maxTokensPerMember;
+        this.expiryBuckets = new ExpiryBuckets<>(bucket.toMillis());
+    }
+
+    @PostConstruct
+    public void load() {
+        if (!persistent) {
+            return;
+        }
+        List<RefreshToken> refreshTokens = refreshTokenRepository.findAllByExpiredAtAfter(toLocalDateTime(clock.millis()));
+        refreshTokens.forEach(refreshToken -> index(StoredToken.of(refreshToken)));
+        log.info("리프레시 토큰 {}건 로드", refreshTokens.size());
+    }
+
+    @Override
+    public void save(String refreshToken, long memberId, Date expiredAt) {
+        StoredToken storedToken = new StoredToken(hash(refreshToken), memberId, expiredAt.getTime());
+        if (persistent) {
+            refreshTokenRepository.insertToken(storedToken.tokenHash, memberId, toLocalDateTime(storedToken.expiredAt));
+        }
+        index(storedToken);
+        removeOverflow(memberId);
+    }
+
+    @Override
+    public boolean rotate(String refreshToken, String newRefreshToken, long memberId, Date expiredAt) {
+        Optional<StoredToken> claimed = claim(hash(refreshToken));
+        if (claimed.isEmpty() || claimed.get().memberId != memberId || claimed.get().isExpired(clock.millis())) {
+            return false;
+        }
+        save(newRefreshToken, memberId, expiredAt);
+        return true;
+    }
+
+    @Override
+    public boolean revoke(String refreshToken) {
+        return claim(hash(refreshToken)).isPresent();
+    }
+
+    /**
+     * 트랜잭션 안에서 호출하면 메모리의 토큰은 커밋 후 제거한다. (롤백되면 폐기하지 않는다.)
+     */
+    @Override
+    public void revokeAll(long memberId) {
+        if (persistent) {
+            refreshTokenRepository.removeAllTokens(memberId);
+        }
+        runAfterCommit(() -> removeMemberTokens(memberId));
+    }
+
+    @Override
+    public void purgeExpired() {
+        long now = clock.millis();
+        int purged = 0;
+        for (String tokenHash : expiryBuckets.pollExpired(now)) {
+            StoredToken storedToken = tokens.get(tokenHash);
+            if (storedToken != null && storedToken.isExpired(now) && tokens.remove(tokenHash, storedToken)) {
+                unindexMember(storedToken);
+                purged++;
+            }
+        }
+        if (persistent) {
+            purged = Math.max(purged, refreshTokenRepository.removeExpiredTokens(toLocalDateTime(now)));
+        }
+        if (purged > 0) {
+            log.debug("만료된 리프레시 토큰 {}건 정리", purged);
+        }
+    }
+
+    int size() {
+        return tokens.size();
+    }
+
+    /**
+     * 토큰을 저장소에서 꺼낸다. 동시에 같은 토큰을 꺼내면 한 곳만 성공한다.
+     */
+    private Optional<StoredToken> claim(String tokenHash) {
+        StoredToken storedToken = tokens.remove(tokenHash);
+        if (storedToken != null) {
+            expiryBuckets.remove(tokenHash, storedToken.expiredAt);
+            unindexMember(storedToken);
+        }
+        if (!persistent) {
+            return Optional.ofNullable(storedToken);
+        }
+        if (storedToken == null) {
+            //다른 서버에서 발급한 토큰
+            storedToken = refreshTokenRepository.findById(tokenHash).map(StoredToken::of).orElse(null);
+        }
+        //서버 여러 대에서 같은 토큰을 동시에 사용해도 행을 삭제한 한 곳만 성공
+        if (storedToken == null || refreshTokenRepository.removeToken(tokenHash) == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(storedToken);
+    }
+
+    private void index(StoredToken storedToken) {
+        tokens.put(storedToken.tokenHash, storedToken);
+        memberTokens.compute(storedToken.memberId, (memberId, tokenHashes) -> {
+            Set<String> memberTokenHashes = tokenHashes == null ? ConcurrentHashMap.newKeySet() : tokenHashes;
+            memberTokenHashes.add(storedToken.tokenHash);
+            return memberTokenHashes;
+        });
+        expiryBuckets.add(storedToken.tokenHash, storedToken.expiredAt);
+    }
+
+    private void removeMemberTokens(long memberId) {
+        Set<String> tokenHashes = memberTokens.remove(memberId);
+        if (tokenHashes != null) {
+            tokenHashes.forEach(tokenHash -> {
+                StoredToken storedToken = tokens.remove(tokenHash);
+                if (storedToken != null) {
+                    expiryBuckets.remove(tokenHash, storedToken.expiredAt);
+                }
+            });
+        }
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private void unindexMember(StoredToken storedToken) {
+        memberTokens.computeIfPresent(storedToken.memberId, (memberId, tokenHashes) -> {
+            tokenHashes.remove(storedToken.tokenHash);
+            return tokenHashes.isEmpty() ? null : tokenHashes;
+        });
+    }
+
+    /**
+     * 회원의 토큰이 최대 개수를 넘으면 가장 먼저 만료되는 토큰부터 폐기 (회원별 토큰은 최대 개수 만큼이므로 탐색 비용이 작다)
+     */
+    private void removeOverflow(long memberId) {
+        Set<String> tokenHashes = memberTokens.get(memberId);
+        while (tokenHashes != null && tokenHashes.size() > maxTokensPerMember) {
+            Optional<StoredToken> oldest = tokenHashes.stream()
+                    .map(tokens::get)
+                    .filter(Objects::nonNull)
+                    .min(Comparator.comparingLong(storedToken -> storedToken.expiredAt));
+            if (oldest.isEmpty()) {
+                return;
+            }
+            claim(oldest.get().tokenHash);
+        }
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static class StoredToken {
+        private final String tokenHash;
+        private final long memberId;
+        private final long expiredAt;
+
+        private StoredToken(String tokenHash, long memberId, long expiredAt) {
+            this.tokenHash = tokenHash;
+            this.memberId = memberId;
+            this.expiredAt = expiredAt;
+        }
+
+        private static StoredToken of(RefreshToken refreshToken) {
+            return new StoredToken(refreshToken.getTokenHash(), refreshToken.getMemberId(),
+                    refreshToken.getExpiredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+
+        private boolean isExpired(long now) {
+            return expiredAt <= now;
+        }
+    }
+}
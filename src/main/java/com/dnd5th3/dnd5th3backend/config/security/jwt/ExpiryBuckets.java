@@ -0,0 +1,56 @@
+package com.dnd5th3.dnd5th3backend.config.security.jwt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 만료 시간 구간별 키 목록 (만료된 키를 전체 탐색 없이 구간 단위로 꺼내기 위한 용도)
+ * 키는 만료 시간이 속한 bucketMillis 길이의 구간에 들어가고, 구간이 모두 지나면 pollExpired 로 한 번에 꺼낸다.
+ * 구간 단위로 꺼내므로 키는 만료 후 최대 bucketMillis 동안 남을 수 있다. (조회하는 쪽에서 만료 시간을 다시 확인)
+ */
+class ExpiryBuckets<K> {
+
+    private final long bucketMillis;
+    private final ConcurrentSkipListMap<Long, Set<K>> buckets = new ConcurrentSkipListMap<>();
+
+    ExpiryBuckets(long bucketMillis) {
+        this.bucketMillis = bucketMillis;
+    }
+
+    /**
+     * 이미 지난 구간에 넣은 키는 pollExpired 와 겹치면 빠질 수 있으므로 만료 전인 키만 넣는다.
+     */
+    void add(K key, long expiredAt) {
+        buckets.computeIfAbsent(expiredAt / bucketMillis, bucket -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    void remove(K key, long expiredAt) {
+        Set<K> keys = buckets.get(expiredAt / bucketMillis);
+        if (keys != null) {
+            keys.remove(key);
+        }
+    }
+
+    /**
+     * 만료 시간이 속한 구간만 확인하므로 전체 키 수와 관계없이 구간 탐색 + 해시 조회 한 번이다.
+     */
+    boolean contains(K key, long expiredAt) {
+        Set<K> keys = buckets.get(expiredAt / bucketMillis);
+        return keys != null && keys.contains(key);
+    }
+
+    List<K> pollExpired(long now) {
+        List<K> expired = new ArrayList<>();
+        Map.Entry<Long, Set<K>> bucket;
+        while ((bucket = buckets.firstEntry()) != null && (bucket.getKey() + 1) * bucketMillis <= now) {
+            if (buckets.remove(bucket.getKey(), bucket.getValue())) {
+                expired.addAll(bucket.getValue());
+            }
+        }
+        return expired;
+    }
+}
@@ -1,5 +1,7 @@
 package com.dnd5th3.dnd5th3backend.config.security.jwt;
 
+import com.dnd5th3.dnd5th3backend.exception.TokenException;
+import io.jsonwebtoken.ExpiredJwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -25,10 +27,14 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
         HttpServletRequest httpRequest = (HttpServletRequest)request;
         String accessToken = httpRequest.getHeader("Authorization");
-        if(accessToken != null && jwtTokenProvider.isValidToken(accessToken)){
+        if(accessToken != null){
             try {
                 Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+            }catch (ExpiredJwtException e){
+                log.warn("토큰이 만료되었습니다. - {}",e.getMessage());
+            }catch (TokenException e){
+                log.warn("폐기된 토큰입니다.");
             }catch (Exception e){
                 log.warn("authentication 에러 {}",e.getMessage());
             }
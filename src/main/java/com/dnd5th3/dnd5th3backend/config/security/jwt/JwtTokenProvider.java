@@ -3,7 +3,8 @@ package com.dnd5th3.dnd5th3backend.config.security.jwt;
 import com.dnd5th3.dnd5th3backend.config.security.CustomAuthenticationToken;
 import com.dnd5th3.dnd5th3backend.config.security.MemberContext;
 import com.dnd5th3.dnd5th3backend.domain.member.Member;
-import com.dnd5th3.dnd5th3backend.repository.member.MemberRepository;
+import com.dnd5th3.dnd5th3backend.domain.member.Role;
+import com.dnd5th3.dnd5th3backend.exception.TokenException;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -11,43 +12,61 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import java.util.Date;
-import java.util.UUID;
+import java.util.*;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    private static final String MEMBER_ID_CLAIM = "id";
+    private static final String ROLE_CLAIM = "role";
+
     private final String SECRET;
     private final long ACCESS_TOKEN_EXPIRED_TIME;
     private final long REFRESH_TOKEN_EXPIRED_TIME;
     private final UserDetailsService userDetailsService;
-    private final MemberRepository memberRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationList tokenRevocationList;
 
     private final SecretKey secretKey;
     private final JwtParser jwtParser;
+    private final long principalCacheTtlMillis;
+    private final Map<String, TokenPrincipal> principalCache;
 
     public JwtTokenProvider(@Value("${jwt.secret}") String secret
             , @Value("${jwt.access-token-expired-time}") long accessTokenExpiredTime
             , @Value("${jwt.refresh-token-expired-time}") long refreshTokenExpiredTime
+            , @Value("${jwt.principal-cache.max-size:10000}") int principalCacheMaxSize
+            , @Value("${jwt.principal-cache.ttl-seconds:300}") long principalCacheTtlSeconds
             , @Autowired UserDetailsService userDetailsService
-            , @Autowired MemberRepository memberRepository) {
+            , @Autowired RefreshTokenStore refreshTokenStore
+            , @Autowired TokenRevocationList tokenRevocationList) {
 
         this.SECRET = secret;
         this.ACCESS_TOKEN_EXPIRED_TIME = accessTokenExpiredTime;
         this.REFRESH_TOKEN_EXPIRED_TIME = refreshTokenExpiredTime;
         this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(this.SECRET));
         this.userDetailsService = userDetailsService;
-        this.memberRepository = memberRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.tokenRevocationList = tokenRevocationList;
         this.jwtParser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+        this.principalCacheTtlMillis = principalCacheTtlSeconds * 1000;
+        this.principalCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenPrincipal> eldest) {
+                return size() > principalCacheMaxSize;
+            }
+        });
     }
 
-    private String createToken(Member member,long expiredTime,boolean isRefreshToken){
+    private String createToken(Member member,Date expiredDate,boolean isRefreshToken){
         if(isRefreshToken){
             Claims claims = Jwts.claims();
             UUID uuid = UUID.randomUUID();
@@ -55,31 +74,88 @@ public class JwtTokenProvider {
             return Jwts.builder()
                     .claim("claim",claims)
                     .signWith(secretKey,SignatureAlgorithm.HS256)
-                    .setExpiration(new Date(System.currentTimeMillis() + expiredTime * 1000))
+                    .setExpiration(expiredDate)
                     .compact();
         }else {
 
+            //요청마다 회원을 조회하지 않도록 회원 id, 권한을 함께 담는다.
+            //jti, 발급 시간은 폐기 여부 확인용
             return Jwts.builder()
+                    .setId(UUID.randomUUID().toString())
+                    .setIssuedAt(new Date())
                     .setSubject(member.getEmail())
+                    .claim(MEMBER_ID_CLAIM,member.getId())
+                    .claim(ROLE_CLAIM,member.getRole().name())
                     .signWith(secretKey,SignatureAlgorithm.HS256)
-                    .setExpiration(new Date(System.currentTimeMillis() + expiredTime * 1000))
+                    .setExpiration(expiredDate)
                     .compact();
         }
     }
 
+    /**
+     * 로그인(기기)마다 새 리프레시 토큰을 발급해 저장소에 저장한다. (회원 테이블은 변경하지 않음)
+     */
     public String createRefreshToken(Member member){
-        String refreshToken = createToken(member, REFRESH_TOKEN_EXPIRED_TIME, true);
-        saveRefreshToken(member,refreshToken);
+        Date expiredDate = getExpiredDate(REFRESH_TOKEN_EXPIRED_TIME);
+        String refreshToken = createToken(member, expiredDate, true);
+        refreshTokenStore.save(refreshToken, member.getId(), expiredDate);
         return refreshToken;
     }
 
+    /**
+     * 사용한 리프레시 토큰을 폐기하고 새 리프레시 토큰 발급 (같은 토큰은 한 번만 재발급에 사용할 수 있다)
+     * @throws TokenException 만료되었거나 유효하지 않은 토큰
+     * @throws IllegalArgumentException 이미 사용했거나 폐기된 토큰, 다른 회원의 토큰
+     */
+    public String rotateRefreshToken(Member member,String refreshToken){
+        if(!isValidToken(refreshToken)){
+            throw new TokenException();
+        }
+        Date expiredDate = getExpiredDate(REFRESH_TOKEN_EXPIRED_TIME);
+        String newRefreshToken = createToken(member, expiredDate, true);
+        if(!refreshTokenStore.rotate(refreshToken, newRefreshToken, member.getId(), expiredDate)){
+            throw new IllegalArgumentException("refreshToken이 유효하지 않습니다.");
+        }
+        return newRefreshToken;
+    }
+
+    /**
+     * 회원의 리프레시 토큰, 지금까지 발급한 엑세스 토큰 모두 폐기 (탈퇴, 비밀번호 변경)
+     * 회원 테이블에 남은 이전 리프레시 토큰도 지우므로 조회한 회원 엔티티를 넘기고, 호출한 곳에서 MemberCache 를 비운다.
+     * 메모리의 저장소, 폐기 목록에는 커밋 후 반영한다.
+     */
+    public void revokeTokens(Member member){
+        member.clearRefreshToken();
+        refreshTokenStore.revokeAll(member.getId());
+        tokenRevocationList.revokeMember(member.getId());
+    }
+
+    /**
+     * 로그아웃, 이미 만료되었거나 유효하지 않은 토큰은 폐기할 필요가 없으므로 무시한다.
+     */
+    public void revokeTokens(String accessToken,String refreshToken){
+        if(accessToken != null){
+            try{
+                Claims claims = jwtParser.parseClaimsJws(accessToken).getBody();
+                Number memberId = claims.get(MEMBER_ID_CLAIM, Number.class);
+                if(claims.getId() != null && memberId != null){
+                    tokenRevocationList.revokeToken(claims.getId(), memberId.longValue(), claims.getExpiration());
+                }
+            }catch (JwtException | IllegalArgumentException e){
+                log.warn("폐기할 엑세스 토큰이 유효하지 않습니다. - {}",e.getMessage());
+            }
+        }
+        if(refreshToken != null){
+            refreshTokenStore.revoke(refreshToken);
+        }
+    }
+
     public String createAccessToken(Member member){
-      return createToken(member,ACCESS_TOKEN_EXPIRED_TIME,false);
+      return createToken(member,getExpiredDate(ACCESS_TOKEN_EXPIRED_TIME),false);
     }
 
-    public void saveRefreshToken(Member member,String refreshToken){
-        member.setRefreshToken(refreshToken);
-        memberRepository.save(member);
+    private Date getExpiredDate(long expiredTime){
+        return new Date(System.currentTimeMillis() + expiredTime * 1000);
     }
 
     public boolean isValidToken(String token){
@@ -96,10 +172,72 @@ public class JwtTokenProvider {
         return false;
     }
 
+    /**
+     * 엑세스 토큰 검증 후 인증 정보 반환
+     * 토큰을 한 번만 파싱하고 토큰에 담긴 회원 id, 이메일, 권한으로 principal 을 만든다. (DB 조회 없음)
+     * 검증한 토큰은 만료 시간과 ttl 중 빠른 시간까지 캐시하므로 같은 토큰은 다시 서명을 검증하지 않는다.
+     * principal 은 id, email, role 만 채워진 Member 이므로 다른 필드가 필요하면 id 로 회원을 조회한다.
+     * 회원 id 가 없는 이전 토큰은 기존처럼 회원을 조회한다.
+     * 캐시한 토큰도 요청마다 폐기 여부를 확인한다. (TokenRevocationList, 메모리 조회)
+     * @throws JwtException 토큰이 유효하지 않거나 만료된 경우
+     * @throws TokenException 폐기된 토큰인 경우
+     */
     public Authentication getAuthentication(String token) throws UsernameNotFoundException {
-        String memberEmail = jwtParser.parseClaimsJws(token).getBody().getSubject();
-        MemberContext memberContext = (MemberContext) userDetailsService.loadUserByUsername(memberEmail);
-        return new CustomAuthenticationToken(memberContext.getMember(),null,memberContext.getAuthorities());
+        long now = System.currentTimeMillis();
+        TokenPrincipal tokenPrincipal = principalCache.get(token);
+        if(tokenPrincipal == null || tokenPrincipal.cachedUntil <= now){
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            Number memberId = claims.get(MEMBER_ID_CLAIM, Number.class);
+            String role = claims.get(ROLE_CLAIM, String.class);
+            if(memberId == null || role == null){
+                MemberContext memberContext = (MemberContext) userDetailsService.loadUserByUsername(claims.getSubject());
+                if(tokenRevocationList.isRevoked(null, memberContext.getMember().getId(), null, claims.getExpiration())){
+                    throw new TokenException();
+                }
+                return new CustomAuthenticationToken(memberContext.getMember(),null,memberContext.getAuthorities());
+            }
+            long cachedUntil = Math.min(claims.getExpiration().getTime(), now + principalCacheTtlMillis);
+            tokenPrincipal = new TokenPrincipal(memberId.longValue(), claims.getSubject(), Role.valueOf(role),
+                    claims.getId(), claims.getIssuedAt(), claims.getExpiration(), cachedUntil);
+            principalCache.put(token, tokenPrincipal);
+        }
+        if(tokenRevocationList.isRevoked(tokenPrincipal.tokenId, tokenPrincipal.memberId, tokenPrincipal.issuedAt, tokenPrincipal.expiredAt)){
+            throw new TokenException();
+        }
+        return tokenPrincipal.toAuthentication();
     }
-}
 
+    /**
+     * 요청마다 새 Member 를 만들어 스레드 사이에 엔티티를 공유하지 않는다.
+     */
+    private static class TokenPrincipal {
+        private final long memberId;
+        private final String email;
+        private final Role role;
+        private final String tokenId;
+        private final Date issuedAt;
+        private final Date expiredAt;
+        private final long cachedUntil;
+        private final List<GrantedAuthority> authorities;
+
+        private TokenPrincipal(long memberId, String email, Role role, String tokenId, Date issuedAt, Date expiredAt, long cachedUntil) {
+            this.memberId = memberId;
+            this.email = email;
+            this.role = role;
+            this.tokenId = tokenId;
+            this.issuedAt = issuedAt;
+            this.expiredAt = expiredAt;
+            this.cachedUntil = cachedUntil;
+            this.authorities = List.of(new SimpleGrantedAuthority(role.name()));
+        }
+
+        private Authentication toAuthentication() {
+            Member member = Member.builder()
+                    .id(memberId)
+                    .email(email)
+                    .role(role)
+                    .build();
+            return new CustomAuthenticationToken(member,null,authorities);
+        }
+    }
+}
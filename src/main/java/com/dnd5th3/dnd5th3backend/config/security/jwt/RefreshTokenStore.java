@@ -0,0 +1,30 @@
+package com.dnd5th3.dnd5th3backend.config.security.jwt;
+
+import java.util.Date;
+
+/**
+ * 발급한 리프레시 토큰 저장소
+ * 로그인(기기)마다 별도의 토큰을 저장하고, 재발급할 때는 사용한 토큰을 폐기하고 새 토큰으로 교체한다.
+ */
+public interface RefreshTokenStore {
+
+    void save(String refreshToken, long memberId, Date expiredAt);
+
+    /**
+     * 저장된 토큰을 폐기하고 새 토큰 저장
+     * 토큰이 없거나(이미 사용, 폐기, 만료) 다른 회원의 토큰이면 저장하지 않고 false
+     */
+    boolean rotate(String refreshToken, String newRefreshToken, long memberId, Date expiredAt);
+
+    boolean revoke(String refreshToken);
+
+    /**
+     * 회원의 모든 토큰 폐기 (탈퇴, 비밀번호 변경)
+     */
+    void revokeAll(long memberId);
+
+    /**
+     * 만료된 토큰 정리
+     */
+    void purgeExpired();
+}
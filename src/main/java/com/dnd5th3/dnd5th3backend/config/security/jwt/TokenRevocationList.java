@@ -0,0 +1,185 @@
+package com.dnd5th3.dnd5th3backend.config.security.jwt;
+
+import com.dnd5th3.dnd5th3backend.domain.member.RevokedToken;
+import com.dnd5th3.dnd5th3backend.repository.member.RevokedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 만료 전에 폐기한 엑세스 토큰 목록 (로그아웃, 탈퇴, 비밀번호 변경)
+ * 요청마다 확인하므로 DB 를 조회하지 않고 서버 메모리에서만 확인한다.
+ *
+ * 토큰 단위 폐기는 jti 를 토큰 만료 시간 구간(ExpiryBuckets)에 넣는다.
+ * 확인할 때는 토큰의 만료 시간으로 구간을 바로 찾으므로 폐기된 토큰 수와 관계없이 구간 탐색 + 해시 조회 한 번이고,
+ * 만료 시간이 지난 구간은 통째로 버린다.
+ * 회원 단위 폐기는 회원 id -> 폐기 시간만 저장하고 폐기 시간 이전에 발급한 토큰을 거부한다.
+ * 폐기 시간 + 엑세스 토큰 유효 시간이 지나면 그 전에 발급한 토큰은 모두 만료되므로 함께 정리한다.
+ *
+ * persistent 가 true 이면 revoked_token 테이블에 저장해 시작할 때 다시 읽고,
+ * sync 에서 다른 서버가 폐기한 토큰을 가져온다. (다른 서버의 폐기는 sync 주기 만큼 늦게 반영된다.)
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final String MEMBER_TOKEN_ID_PREFIX = "member:";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Clock clock;
+    private final boolean persistent;
+    private final long accessTokenLifetimeMillis;
+    private final long bucketMillis;
+    private final ExpiryBuckets<String> revokedTokens;
+    private final Map<Long, Long> revokedMembers = new ConcurrentHashMap<>();
+    private final ExpiryBuckets<Long> revokedMemberExpiry;
+    private volatile long syncedAt;
+
+    @Autowired
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               @Value("${jwt.access-token-expired-time}") long accessTokenExpiredTime,
+                               @Value("${jwt.revocation.persistent:true}") boolean persistent,
+                               @Value("${jwt.revocation.bucket-seconds:60}") long bucketSeconds) {
+        this(revokedTokenRepository, Clock.systemDefaultZone(), persistent,
+                Duration.ofSeconds(accessTokenExpiredTime), Duration.ofSeconds(bucketSeconds));
+    }
+
+    TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                        Clock clock,
+                        boolean persistent,
+                        Duration accessTokenLifetime,
+                        Duration bucket) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.clock = clock;
+        this.persistent = persistent;
+        this.accessTokenLifetimeMillis = accessTokenLifetime.toMillis();
+        this.bucketMillis = bucket.toMillis();
+        this.revokedTokens = new ExpiryBuckets<>(bucketMillis);
+        this.revokedMemberExpiry = new ExpiryBuckets<>(bucketMillis);
+    }
+
+    @PostConstruct
+    public void load() {
+        if (!persistent) {
+            return;
+        }
+        long now = clock.millis();
+        List<RevokedToken> revoked = revokedTokenRepository.findAllByExpiredAtAfter(toLocalDateTime(now));
+        revoked.forEach(this::apply);
+        syncedAt = now;
+        log.info("폐기된 엑세스 토큰 {}건 로드", revoked.size());
+    }
+
+    /**
+     * 토큰 하나 폐기 (로그아웃)
+     */
+    public void revokeToken(String tokenId, long memberId, Date expiredAt) {
+        long now = clock.millis();
+        if (expiredAt.getTime() <= now) {
+            return;
+        }
+        if (persistent) {
+            revokedTokenRepository.saveToken(tokenId, memberId, toLocalDateTime(now), toLocalDateTime(expiredAt.getTime()));
+        }
+        revokedTokens.add(tokenId, expiredAt.getTime());
+    }
+
+    /**
+     * 지금까지 발급한 회원의 토큰 모두 폐기 (탈퇴, 비밀번호 변경)
+     * 트랜잭션 안에서 호출하면 메모리 목록에는 커밋 후 반영한다. (롤백되면 폐기하지 않는다.)
+     */
+    public void revokeMember(long memberId) {
+        long now = clock.millis();
+        if (persistent) {
+            revokedTokenRepository.saveToken(MEMBER_TOKEN_ID_PREFIX + memberId, memberId,
+                    toLocalDateTime(now), toLocalDateTime(now + accessTokenLifetimeMillis));
+        }
+        runAfterCommit(() -> revokeMemberBefore(memberId, now));
+    }
+
+    /**
+     * 토큰 발급 시간은 초 단위이므로 폐기와 같은 초에 발급한 토큰도 폐기된 것으로 본다.
+     * @param tokenId jti, 없는 이전 토큰은 null
+     * @param issuedAt 발급 시간, 없는 이전 토큰은 null (회원 단위 폐기가 있으면 폐기된 것으로 본다.)
+     */
+    public boolean isRevoked(String tokenId, long memberId, Date issuedAt, Date expiredAt) {
+        if (tokenId != null && revokedTokens.contains(tokenId, expiredAt.getTime())) {
+            return true;
+        }
+        Long revokedAt = revokedMembers.get(memberId);
+        return revokedAt != null && (issuedAt == null || issuedAt.getTime() <= revokedAt);
+    }
+
+    /**
+     * 만료된 폐기 정보 정리, 다른 서버에서 폐기한 토큰 반영
+     */
+    public void sync() {
+        long now = clock.millis();
+        if (persistent) {
+            //서버 사이 시간 차이를 고려해 한 구간 겹쳐서 읽는다.
+            List<RevokedToken> revoked = revokedTokenRepository.findAllByRevokedAtAfterAndExpiredAtAfter(
+                    toLocalDateTime(syncedAt - bucketMillis), toLocalDateTime(now));
+            revoked.forEach(this::apply);
+            syncedAt = now;
+        }
+
+        int purged = revokedTokens.pollExpired(now).size();
+        for (Long memberId : revokedMemberExpiry.pollExpired(now)) {
+            revokedMembers.computeIfPresent(memberId, (id, revokedAt) -> revokedAt + accessTokenLifetimeMillis <= now ? null : revokedAt);
+        }
+        if (persistent) {
+            purged = Math.max(purged, revokedTokenRepository.removeExpiredTokens(toLocalDateTime(now)));
+        }
+        if (purged > 0) {
+            log.debug("만료된 폐기 토큰 {}건 정리", purged);
+        }
+    }
+
+    private void apply(RevokedToken revokedToken) {
+        if ((MEMBER_TOKEN_ID_PREFIX + revokedToken.getMemberId()).equals(revokedToken.getTokenId())) {
+            revokeMemberBefore(revokedToken.getMemberId(), toEpochMillis(revokedToken.getRevokedAt()));
+        } else {
+            revokedTokens.add(revokedToken.getTokenId(), toEpochMillis(revokedToken.getExpiredAt()));
+        }
+    }
+
+    private void revokeMemberBefore(long memberId, long revokedAt) {
+        long latest = revokedMembers.merge(memberId, revokedAt, Math::max);
+        revokedMemberExpiry.add(memberId, latest + accessTokenLifetimeMillis);
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMillis(LocalDateTime localDateTime) {
+        return localDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
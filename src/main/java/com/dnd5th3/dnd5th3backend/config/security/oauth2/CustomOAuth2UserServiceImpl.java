@@ -1,13 +1,13 @@
 package com.dnd5th3.dnd5th3backend.config.security.oauth2;
 
+import com.dnd5th3.dnd5th3backend.config.security.PasswordHasher;
 import com.dnd5th3.dnd5th3backend.domain.member.Member;
 import com.dnd5th3.dnd5th3backend.domain.member.MemberType;
 import com.dnd5th3.dnd5th3backend.domain.member.Role;
+import com.dnd5th3.dnd5th3backend.repository.member.MemberCache;
 import com.dnd5th3.dnd5th3backend.repository.member.MemberRepository;
 import com.dnd5th3.dnd5th3backend.utils.RandomNumber;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
@@ -22,7 +22,8 @@ import org.springframework.stereotype.Component;
 public class CustomOAuth2UserServiceImpl implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
     private final MemberRepository memberRepository;
-    private PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    private final MemberCache memberCache;
+    private final PasswordHasher passwordHasher;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -39,7 +40,7 @@ public class CustomOAuth2UserServiceImpl implements OAuth2UserService<OAuth2User
                 isExistName = memberRepository.existsByName(name);
             }
 
-            String password = passwordEncoder.encode(RandomNumber.generatePassword());
+            String password = passwordHasher.encode(RandomNumber.generatePassword());
 
             Member member = Member.builder()
                     .email(email)
@@ -52,7 +53,7 @@ public class CustomOAuth2UserServiceImpl implements OAuth2UserService<OAuth2User
 
         }else {
 
-            Member member = memberRepository.findByEmail(email);
+            Member member = memberCache.findByEmail(email);
             if(!MemberType.SOCIAL.equals(member.getMemberType())){
                 throw new OAuth2AuthenticationException(new OAuth2Error(OAuth2ErrorCodes.ACCESS_DENIED),"Oauth2 접근 오류 ["+email+"], MemberType ["+member.getMemberType().name()+"]");
             }
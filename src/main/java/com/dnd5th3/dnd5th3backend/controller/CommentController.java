@@ -45,14 +45,20 @@ public class CommentController {
     }
 
     @GetMapping("/{postId}/posts")
-    public ResponseEntity<CommentListResponseDto> getListAPI(@PathVariable Long postId, @RequestParam("pageNum") Integer pageNum, @AuthenticationPrincipal Member member){
-        CommentListResponseDto commentListResponseDto = commentService.getCommentList(postId,pageNum,member);
+    public ResponseEntity<CommentListResponseDto> getListAPI(@PathVariable Long postId,
+                                                             @RequestParam(name = "cursor", required = false) String cursor,
+                                                             @RequestParam(name = "includeTotalCount", defaultValue = "true") boolean includeTotalCount,
+                                                             @AuthenticationPrincipal Member member){
+        CommentListResponseDto commentListResponseDto = commentService.getCommentList(postId,cursor,includeTotalCount,member);
         return ResponseEntity.ok(commentListResponseDto);
     }
 
     @GetMapping("/{commentId}")
-    public ResponseEntity<CommentListResponseDto> getDetailAPI(@PathVariable Long commentId, @AuthenticationPrincipal Member member){
-        CommentListResponseDto detailComment = commentService.getDetailComment(commentId,member);
+    public ResponseEntity<CommentListResponseDto> getDetailAPI(@PathVariable Long commentId,
+                                                               @RequestParam(name = "cursor", required = false) String cursor,
+                                                               @RequestParam(name = "includeTotalCount", defaultValue = "true") boolean includeTotalCount,
+                                                               @AuthenticationPrincipal Member member){
+        CommentListResponseDto detailComment = commentService.getDetailComment(commentId,cursor,includeTotalCount,member);
         return ResponseEntity.ok(detailComment);
     }
 
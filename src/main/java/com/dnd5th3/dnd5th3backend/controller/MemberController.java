@@ -35,6 +35,13 @@ public class MemberController {
         return ResponseEntity.ok(reissueTokenResponseDto);
     }
 
+    @DeleteMapping("/token")
+    public ResponseEntity<Void> logoutAPI(@RequestHeader(value = "Authorization", required = false) String accessToken,
+                                          @RequestBody MemberRequestDto memberRequestDto){
+        memberService.logout(accessToken,memberRequestDto);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/exists/{email}/email")
     public ResponseEntity<Boolean> existCheckAPI(@PathVariable String email){
         boolean existsEmail = memberService.isExistsEmail(email);
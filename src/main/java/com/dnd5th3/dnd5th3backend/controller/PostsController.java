@@ -2,22 +2,21 @@ package com.dnd5th3.dnd5th3backend.controller;
 
 import com.dnd5th3.dnd5th3backend.controller.dto.post.*;
 import com.dnd5th3.dnd5th3backend.domain.member.Member;
-import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
-import com.dnd5th3.dnd5th3backend.domain.vote.vo.VoteRatioVo;
 import com.dnd5th3.dnd5th3backend.service.PostsService;
 import com.dnd5th3.dnd5th3backend.service.VoteService;
 import com.dnd5th3.dnd5th3backend.utils.S3Uploader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -56,8 +55,18 @@ public class PostsController {
     }
 
     @GetMapping
-    public ResponseEntity<AllPostResponseDto> getListAPI(@RequestParam(name = "sorted") String sortType) {
-        AllPostResponseDto responseDto = postsService.getPostListWithSortType(sortType);
+    public ResponseEntity<AllPostResponseDto> getListAPI(@RequestParam(name = "sorted") String sortType,
+                                                         @RequestParam(name = "cursor", required = false) String cursor) {
+        AllPostResponseDto responseDto = postsService.getPostListWithSortType(sortType, cursor);
+        return ResponseEntity.status(HttpStatus.OK).body(responseDto);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<SearchPostResponseDto> searchAPI(@RequestParam(name = "keyword") String keyword,
+                                                           @RequestParam(name = "isVoted", required = false) Boolean isVoted,
+                                                           @RequestParam(name = "isPostsEnd", required = false) Boolean isPostsEnd,
+                                                           @RequestParam(name = "page", defaultValue = "0") int page) {
+        SearchPostResponseDto responseDto = postsService.searchPosts(keyword, isVoted, isPostsEnd, page);
         return ResponseEntity.status(HttpStatus.OK).body(responseDto);
     }
 
@@ -67,30 +76,20 @@ public class PostsController {
                                                      @AuthenticationPrincipal Member member
                                         ) {
         IdResponseDto responseDto = postsService.saveVote(id, requestDto, member);
-        return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
+        //비동기 수집 모드에서는 저장 전에 응답
+        HttpStatus status = postsService.isAsyncVoteEnabled() ? HttpStatus.ACCEPTED : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(responseDto);
+    }
+
+    @GetMapping(value = "/{id}/vote/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamVoteRatioAPI(@PathVariable(name = "id") Long id) {
+        return postsService.subscribeVoteRatio(id);
     }
 
     @GetMapping("/main")
     public ResponseEntity<AllResponseDto> getMainPostsAPI() {
-        Map<String, Posts> mainPostsMap = postsService.getMainPosts();
-        Map<String, MainPostDto> resultMap = new HashMap<>();
+        Map<String, MainPostDto> resultMap = postsService.getMainPosts();
         List<MainPostDto> resultList = new ArrayList<>();
-        mainPostsMap.forEach((key, value) -> {
-            VoteRatioVo ratioVo = new VoteRatioVo(value);
-            String productImageUrl = value.getProductImageUrl() == null ? "" : value.getProductImageUrl();
-            MainPostDto postDto = MainPostDto.builder()
-                    .id(value.getId())
-                    .name(value.getMember().getName())
-                    .title(value.getTitle())
-                    .productImageUrl(productImageUrl)
-                    .isVoted(value.getIsVoted())
-                    .permitRatio(ratioVo.getPermitRatio())
-                    .rejectRatio(ratioVo.getRejectRatio())
-                    .createdDate(value.getCreatedDate())
-                    .voteDeadline(value.getVoteDeadline())
-                    .build();
-            resultMap.put(key, postDto);
-        });
 
         if (resultMap.get("neckAndNeckPost") == null) {
             MainPostDto mock = MainPostDto.builder()
@@ -98,6 +97,8 @@ public class PostsController {
                     .name("no content")
                     .title("no content")
                     .productImageUrl("no content")
+                    .cardImageUrl("no content")
+                    .detailImageUrl("no content")
                     .isVoted(true)
                     .permitRatio(-99L)
                     .rejectRatio(-99L)
@@ -113,6 +114,8 @@ public class PostsController {
                     .name("no content")
                     .title("no content")
                     .productImageUrl("no content")
+                    .cardImageUrl("no content")
+                    .detailImageUrl("no content")
                     .isVoted(true)
                     .permitRatio(-99L)
                     .rejectRatio(-99L)
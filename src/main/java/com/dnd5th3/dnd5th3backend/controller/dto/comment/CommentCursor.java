@@ -0,0 +1,47 @@
+package com.dnd5th3.dnd5th3backend.controller.dto.comment;
+
+import com.dnd5th3.dnd5th3backend.domain.comment.Comment;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 댓글 목록 커서
+ * 마지막 댓글의 group_no + comment_order + comment_id 를 Base64 문자열로 감싸 클라이언트에게는 불투명한 값으로 전달한다.
+ * 최상위 댓글은 (group_no desc, comment_order asc, comment_id asc), 대댓글은 그룹 안에서 (comment_order asc, comment_id asc) 순서로 이어 읽는다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CommentCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final Long groupNo;
+    private final Integer commentOrder;
+    private final Long id;
+
+    public static CommentCursor of(Comment lastComment) {
+        return new CommentCursor(lastComment.getGroupNo(), lastComment.getCommentOrder(), lastComment.getId());
+    }
+
+    public static CommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER);
+            return new CommentCursor(Long.parseLong(values[0]), Integer.parseInt(values[1]), Long.parseLong(values[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = groupNo + DELIMITER + commentOrder + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
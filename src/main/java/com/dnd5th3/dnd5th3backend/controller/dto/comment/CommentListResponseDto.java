@@ -14,9 +14,10 @@ import java.util.List;
 public class CommentListResponseDto {
 
     private List<CommentDto> commentList;
-    private int pageNum;
-    private int totalPage;
-    private long totalCount;
+    //다음 페이지 커서 (마지막 페이지면 null)
+    private String nextCursor;
+    //includeTotalCount=false 로 요청하면 null
+    private Long totalCount;
 
     @Setter
     @Getter
@@ -13,4 +13,5 @@ import lombok.NoArgsConstructor;
 public class MemberReissueTokenResponseDto {
     private String email;
     private String accessToken;
+    private String refreshToken;
 }
@@ -10,4 +10,5 @@ import java.util.List;
 public class AllPostResponseDto {
 
     List<PostsListDto> listDtos;
+    String nextCursor;
 }
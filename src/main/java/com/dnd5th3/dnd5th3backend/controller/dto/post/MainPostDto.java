@@ -1,5 +1,7 @@
 package com.dnd5th3.dnd5th3backend.controller.dto.post;
 
+import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
+import com.dnd5th3.dnd5th3backend.domain.vote.vo.VoteRatioVo;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -13,9 +15,32 @@ public class MainPostDto {
     private String name;
     private String title;
     private String productImageUrl;
+    private String cardImageUrl;
+    private String detailImageUrl;
     private Boolean isVoted;
     private Long permitRatio;
     private Long rejectRatio;
     private LocalDateTime createdDate;
     private LocalDateTime voteDeadline;
+
+    public static MainPostDto of(Posts posts) {
+        VoteRatioVo ratioVo = new VoteRatioVo(posts);
+        String productImageUrl = posts.getProductImageUrl() == null ? "" : posts.getProductImageUrl();
+        //썸네일이 아직 없으면 원본 이미지를 사용
+        String cardImageUrl = posts.getCardImageUrl() == null ? productImageUrl : posts.getCardImageUrl();
+        String detailImageUrl = posts.getDetailImageUrl() == null ? productImageUrl : posts.getDetailImageUrl();
+        return MainPostDto.builder()
+                .id(posts.getId())
+                .name(posts.getMember().getName())
+                .title(posts.getTitle())
+                .productImageUrl(productImageUrl)
+                .cardImageUrl(cardImageUrl)
+                .detailImageUrl(detailImageUrl)
+                .isVoted(posts.isVoteFinished())
+                .permitRatio(ratioVo.getPermitRatio())
+                .rejectRatio(ratioVo.getRejectRatio())
+                .createdDate(posts.getCreatedDate())
+                .voteDeadline(posts.getVoteDeadline())
+                .build();
+    }
 }
@@ -1,5 +1,6 @@
 package com.dnd5th3.dnd5th3backend.controller.dto.post;
 
+import com.dnd5th3.dnd5th3backend.domain.image.ProductImage;
 import com.dnd5th3.dnd5th3backend.domain.member.Member;
 import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
 import lombok.AllArgsConstructor;
@@ -16,17 +17,21 @@ public class PostRequestDto {
     private String content;
     private MultipartFile file;
 
-    public Posts toEntity(Member member, String productImageUrl) {
+    public Posts toEntity(Member member, ProductImage productImage) {
         return Posts.builder()
                 .member(member)
                 .title(title)
                 .content(content)
-                .productImageUrl(productImageUrl)
+                .productImageUrl(productImage == null ? "" : productImage.getUrl())
+                .productImageId(productImage == null ? null : productImage.getId())
+                .cardImageUrl(productImage == null ? null : productImage.getCardImageUrl())
+                .detailImageUrl(productImage == null ? null : productImage.getDetailImageUrl())
                 .isVoted(false)
                 .isPostsEnd(false)
                 .permitCount(0)
                 .rejectCount(0)
                 .rankCount(0)
+                .commentCount(0L)
                 .voteDeadline(LocalDateTime.now().plusDays(1L))
                 .postsDeadline(LocalDateTime.now().plusDays(7L))
                 .build();
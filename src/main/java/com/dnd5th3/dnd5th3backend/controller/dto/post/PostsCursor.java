@@ -0,0 +1,67 @@
+package com.dnd5th3.dnd5th3backend.controller.dto.post;
+
+import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서
+ * 정렬 기준 값 + post_id 를 Base64 문자열로 감싸 클라이언트에게는 불투명한 값으로 전달한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostsCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final String sortValue;
+    private final Long id;
+
+    public static PostsCursor of(Posts lastPost, String sortType) {
+        String sortValue;
+        if (SortType.RANK_COUNT.getValue().equals(sortType)) {
+            sortValue = String.valueOf(lastPost.getRankCount());
+        } else if (SortType.ALMOST_DONE.getValue().equals(sortType) || SortType.ALREADY_DONE.getValue().equals(sortType)) {
+            sortValue = lastPost.getVoteDeadline().toString();
+        } else {
+            sortValue = lastPost.getCreatedDate().toString();
+        }
+        return new PostsCursor(sortValue, lastPost.getId());
+    }
+
+    public static PostsCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            return new PostsCursor(decoded.substring(0, delimiterIndex), Long.parseLong(decoded.substring(delimiterIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = sortValue + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Integer getSortValueAsInteger() {
+        return Integer.valueOf(sortValue);
+    }
+
+    public LocalDateTime getSortValueAsDateTime() {
+        try {
+            return LocalDateTime.parse(sortValue);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -17,6 +17,8 @@ public class PostsListDto {
     private String name;
     private String title;
     private String productImageUrl;
+    private String cardImageUrl;
+    private String detailImageUrl;
     private Boolean isVoted;
     private Long permitRatio;
     private Long rejectRatio;
@@ -27,12 +29,17 @@ public class PostsListDto {
         return posts.stream().map(p -> {
             VoteRatioVo ratioVo = new VoteRatioVo(p);
             String productImageUrl = p.getProductImageUrl() == null ? "" : p.getProductImageUrl();
+            //썸네일이 아직 없으면 원본 이미지를 사용
+            String cardImageUrl = p.getCardImageUrl() == null ? productImageUrl : p.getCardImageUrl();
+            String detailImageUrl = p.getDetailImageUrl() == null ? productImageUrl : p.getDetailImageUrl();
             return PostsListDto.builder()
                     .id(p.getId())
                     .name(p.getMember().getName())
                     .title(p.getTitle())
                     .productImageUrl(productImageUrl)
-                    .isVoted(p.getIsVoted())
+                    .cardImageUrl(cardImageUrl)
+                    .detailImageUrl(detailImageUrl)
+                    .isVoted(p.isVoteFinished())
                     .permitRatio(ratioVo.getPermitRatio())
                     .rejectRatio(ratioVo.getRejectRatio())
                     .createdDate(p.getCreatedDate())
@@ -0,0 +1,15 @@
+package com.dnd5th3.dnd5th3backend.controller.dto.post;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class SearchPostResponseDto {
+
+    List<PostsListDto> listDtos;
+    int totalCount;
+    boolean hasNext;
+}
@@ -9,7 +9,8 @@ public enum SortType {
     RANK_COUNT("rank-count"),
     CREATED_DATE("created-date"),
     ALREADY_DONE("already-done"),
-    ALMOST_DONE("almost-done");
+    ALMOST_DONE("almost-done"),
+    TRENDING("trending");
 
     private final String value;
 }
@@ -13,6 +13,10 @@ import java.util.List;
 @Builder
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_comment_post_id_layer_group_no", columnList = "post_id, comment_layer, group_no"),
+        @Index(name = "idx_comment_post_id_group_no_order", columnList = "post_id, group_no, comment_order")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @DynamicUpdate
@@ -44,6 +48,9 @@ public class Comment extends BaseTime {
     @OneToMany(fetch = FetchType.LAZY,mappedBy = "comment",cascade = CascadeType.ALL)
     private List<CommentEmoji> commentEmoji;
 
+    /**
+     * posts 의 댓글 컬렉션에는 추가하지 않는다. (컬렉션 초기화로 게시글의 모든 댓글을 읽지 않도록)
+     */
     public static Comment create(CommentRequestDto requestDto,long groupNo,int commentLayer,int commentOrder,Member member,Posts posts) {
         Comment comment = Comment.builder()
                 .groupNo(groupNo)
@@ -54,7 +61,6 @@ public class Comment extends BaseTime {
                 .member(member)
                 .posts(posts)
                 .build();
-        posts.addComment(comment);
 
         return comment;
     }
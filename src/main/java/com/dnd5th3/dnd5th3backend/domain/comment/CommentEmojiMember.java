@@ -11,6 +11,7 @@ import javax.persistence.*;
 @Builder
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_comment_emoji_member_member_id", columnList = "member_id, comment_emoji_id"))
 @NoArgsConstructor
 @AllArgsConstructor
 public class CommentEmojiMember {
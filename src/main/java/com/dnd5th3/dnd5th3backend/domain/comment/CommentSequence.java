@@ -0,0 +1,27 @@
+package com.dnd5th3.dnd5th3backend.domain.comment;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * 게시글별 댓글 그룹 번호, 댓글 그룹별 대댓글 순서의 다음 값
+ * 값은 CommentSequenceRepository 의 원자적 증가로만 변경한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CommentSequence {
+
+    @Id
+    @Column(name = "sequence_key", length = 100)
+    private String key;
+
+    //아직 발급하지 않은 첫 번째 값
+    @Column(nullable = false)
+    private Long nextValue;
+}
@@ -0,0 +1,29 @@
+package com.dnd5th3.dnd5th3backend.domain.comment.vo;
+
+import java.util.*;
+
+/**
+ * 댓글 페이지 전체의 이모지 집계와 현재 회원의 반응 여부
+ * 반응 여부는 회원이 누른 comment_emoji id 를 정렬된 배열로 들고 이진 탐색으로 확인한다.
+ */
+public class CommentEmojiSummaryVo {
+
+    private final Map<Long, List<CommentEmojiVo>> emojisByComment = new HashMap<>();
+    private final long[] reactedCommentEmojiIds;
+
+    public CommentEmojiSummaryVo(List<CommentEmojiVo> commentEmojis, long[] reactedCommentEmojiIds) {
+        for (CommentEmojiVo commentEmoji : commentEmojis) {
+            emojisByComment.computeIfAbsent(commentEmoji.getCommentId(), key -> new ArrayList<>()).add(commentEmoji);
+        }
+        this.reactedCommentEmojiIds = reactedCommentEmojiIds.clone();
+        Arrays.sort(this.reactedCommentEmojiIds);
+    }
+
+    public List<CommentEmojiVo> getEmojis(long commentId) {
+        return emojisByComment.getOrDefault(commentId, Collections.emptyList());
+    }
+
+    public boolean isReacted(long commentEmojiId) {
+        return Arrays.binarySearch(reactedCommentEmojiIds, commentEmojiId) >= 0;
+    }
+}
@@ -0,0 +1,17 @@
+package com.dnd5th3.dnd5th3backend.domain.comment.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글에 달린 이모지 하나의 집계 (반응한 회원 목록은 포함하지 않는다)
+ */
+@Getter
+@AllArgsConstructor
+public class CommentEmojiVo {
+
+    private final long commentId;
+    private final long commentEmojiId;
+    private final long emojiId;
+    private final int commentEmojiCount;
+}
@@ -0,0 +1,56 @@
+package com.dnd5th3.dnd5th3backend.domain.image;
+
+import com.dnd5th3.dnd5th3backend.domain.common.BaseTime;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 업로드된 이미지의 내용 해시(SHA-256) -> 저장 URL 인덱스
+ * 같은 내용의 이미지는 다시 업로드하지 않고 기존 URL 을 재사용한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_product_image_hash", columnNames = "hash"))
+public class ProductImage extends BaseTime {
+
+    @Id
+    @Column(name = "product_image_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String hash;
+
+    @Column(nullable = false, length = 1000)
+    private String url;
+
+    private long size;
+
+    //썸네일은 업로드 후 비동기로 만들어지므로 생성 전에는 null
+    @Column(length = 1000)
+    private String cardImageUrl;
+
+    @Column(length = 1000)
+    private String detailImageUrl;
+
+    //중복 업로드로 재사용된 마지막 시간 (미사용 이미지 정리시 유예 기간 판단에 사용)
+    private LocalDateTime lastUsedDate;
+
+    public void updateVariants(String cardImageUrl, String detailImageUrl) {
+        this.cardImageUrl = cardImageUrl;
+        this.detailImageUrl = detailImageUrl;
+    }
+
+    /**
+     * 생성 또는 마지막 재사용 시간이 기준 시간 이후인지 여부
+     */
+    public boolean isUsedAfter(LocalDateTime dateTime) {
+        return (getCreatedDate() != null && getCreatedDate().isAfter(dateTime))
+                || (lastUsedDate != null && lastUsedDate.isAfter(dateTime));
+    }
+}
@@ -37,7 +37,7 @@ public class Member extends BaseTime {
     @Enumerated(value = EnumType.STRING)
     private Role role;
 
-    @Setter
+    //리프레시 토큰 저장소(RefreshTokenStore) 도입 전에 발급한 토큰, 재발급에 한 번 사용하면 비운다.
     private String refreshToken;
 
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "member")
@@ -69,4 +69,8 @@ public class Member extends BaseTime {
     public void updateMemberType(MemberType memberType){
        this.memberType = memberType;
     }
+
+    public void clearRefreshToken(){
+        this.refreshToken = null;
+    }
 }
@@ -0,0 +1,33 @@
+package com.dnd5th3.dnd5th3backend.domain.member;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 발급한 리프레시 토큰 (토큰 원문 대신 SHA-256 해시만 저장)
+ * 로그인마다 한 행이 생기므로 회원은 기기별로 토큰을 가질 수 있다.
+ * 값은 RefreshTokenRepository 의 JDBC 쿼리로만 변경한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_refresh_token_member_id", columnList = "member_id"),
+        @Index(name = "idx_refresh_token_expired_at", columnList = "expired_at")
+})
+public class RefreshToken {
+
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "expired_at", nullable = false)
+    private LocalDateTime expiredAt;
+}
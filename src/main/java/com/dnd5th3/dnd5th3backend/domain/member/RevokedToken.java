@@ -0,0 +1,37 @@
+package com.dnd5th3.dnd5th3backend.domain.member;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 만료 전에 폐기한 엑세스 토큰
+ * token_id 는 토큰의 jti 이고, 회원의 모든 토큰을 폐기한 경우 "member:{회원 id}" 로 한 행만 저장한다.
+ * 만료 시간이 지나면 토큰 자체가 거부되므로 행을 삭제한다.
+ * 값은 RevokedTokenRepository 의 JDBC 쿼리로만 변경한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_revoked_token_revoked_at", columnList = "revoked_at"),
+        @Index(name = "idx_revoked_token_expired_at", columnList = "expired_at")
+})
+public class RevokedToken {
+
+    @Id
+    @Column(name = "token_id", length = 64)
+    private String tokenId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    @Column(name = "expired_at", nullable = false)
+    private LocalDateTime expiredAt;
+}
@@ -2,9 +2,9 @@ package com.dnd5th3.dnd5th3backend.domain.posts;
 
 import com.dnd5th3.dnd5th3backend.domain.comment.Comment;
 import com.dnd5th3.dnd5th3backend.domain.common.BaseTime;
+import com.dnd5th3.dnd5th3backend.domain.image.ProductImage;
 import com.dnd5th3.dnd5th3backend.domain.member.Member;
 import com.dnd5th3.dnd5th3backend.domain.vote.Vote;
-import com.dnd5th3.dnd5th3backend.domain.vote.VoteType;
 import lombok.*;
 
 import javax.persistence.*;
@@ -17,6 +17,7 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = @Index(name = "idx_posts_product_image_id", columnList = "product_image_id"))
 public class Posts extends BaseTime {
 
     @Id
@@ -43,6 +44,15 @@ public class Posts extends BaseTime {
     @Column(length = 1000)
     private String productImageUrl;
 
+    @Column(name = "product_image_id")
+    private Long productImageId;
+
+    @Column(length = 1000)
+    private String cardImageUrl;
+
+    @Column(length = 1000)
+    private String detailImageUrl;
+
     @NotNull
     private Boolean isVoted;
 
@@ -58,52 +68,39 @@ public class Posts extends BaseTime {
     @NotNull
     private Integer rankCount;
 
+    //삭제되지 않은 최상위 댓글 수 (null 이면 아직 집계 전이므로 처음 조회할 때 채운다)
+    private Long commentCount;
+
     @NotNull
     private LocalDateTime voteDeadline;
 
     @NotNull
     private LocalDateTime postsDeadline;
 
-    public void update(String title, String content, String productImageUrl) {
+    public void update(String title, String content, ProductImage productImage) {
         if (title != null) {
             this.title = title;
         }
         if (content != null) {
             this.content = content;
         }
-        this.productImageUrl = productImageUrl;
-    }
-
-    public void increaseRankCount() {
-        this.rankCount += 1;
-    }
-
-    public void makeVotedStatusTrue() {
-        this.isVoted = true;
-    }
-
-    public void makePostsEndStatusTrue() { this.isPostsEnd = true; }
-
-    public void updateVoteStatusAndPostStatus() {
-        //투표 종료 여부
-        if (Boolean.FALSE.equals(getIsVoted()) && LocalDateTime.now().isAfter(getVoteDeadline())) {
-            makeVotedStatusTrue();
-        }
-        //메인페이지 게시 조건 종료 여부
-        if (Boolean.FALSE.equals(getIsPostsEnd()) && LocalDateTime.now().isAfter(getPostsDeadline())) {
-            makePostsEndStatusTrue();
+        if (productImage != null) {
+            updateProductImage(productImage);
         }
     }
 
-    public void increaseVoteCount(VoteType result) {
-        if (VoteType.PERMIT.equals(result)) {
-            this.permitCount += 1;
-        } else if (VoteType.REJECT.equals(result)) {
-            this.rejectCount += 1;
-        }
+    public void updateProductImage(ProductImage productImage) {
+        this.productImageUrl = productImage.getUrl();
+        this.productImageId = productImage.getId();
+        this.cardImageUrl = productImage.getCardImageUrl();
+        this.detailImageUrl = productImage.getDetailImageUrl();
     }
 
-    public void addComment(Comment comment) {
-        this.comments.add(comment);
+    /**
+     * 투표 종료 여부
+     * 종료 플래그는 스케줄러가 일괄 변경하므로, 조회 시에는 마감 시간으로 계산한다.
+     */
+    public boolean isVoteFinished() {
+        return Boolean.TRUE.equals(isVoted) || LocalDateTime.now().isAfter(voteDeadline);
     }
 }
@@ -12,6 +12,7 @@ import javax.persistence.*;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_vote_member_post", columnNames = {"member_id", "post_id"}))
 public class Vote extends BaseTime {
 
     @Id
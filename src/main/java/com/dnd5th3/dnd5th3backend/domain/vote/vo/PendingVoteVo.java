@@ -0,0 +1,24 @@
+package com.dnd5th3.dnd5th3backend.domain.vote.vo;
+
+import com.dnd5th3.dnd5th3backend.domain.vote.VoteType;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@EqualsAndHashCode
+public class PendingVoteVo {
+
+    private final Long memberId;
+    private final Long postId;
+    private final VoteType result;
+    private final LocalDateTime createdDate;
+
+    public PendingVoteVo(Long memberId, Long postId, VoteType result) {
+        this.memberId = memberId;
+        this.postId = postId;
+        this.result = result;
+        this.createdDate = LocalDateTime.now();
+    }
+}
@@ -9,7 +9,11 @@ public enum ErrorCode {
     UNKNOWN("C000","오류가 발생했습니다."),
     INVALID_REQUEST("C001","요청에 오류가 있습니다."),
     SERVER_ERROR("C002","서버에서 오류가 발생했습니다."),
-    ACCESS_DENIED("C003","권한이 없습니다.");
+    ACCESS_DENIED("C003","권한이 없습니다."),
+    DUPLICATE_REQUEST("C004","이미 처리된 요청입니다."),
+    TOO_MANY_REQUESTS("C005","요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    SERVICE_UNAVAILABLE("C006","서버가 혼잡합니다. 잠시 후 다시 시도해주세요."),
+    NOT_FOUND("C007","요청한 대상이 존재하지 않습니다.");
 
     private final String code;
     private final String message;
@@ -19,6 +19,34 @@ public class GlobalExceptionHandler {
         return ErrorResponseDto.of(ErrorCode.INVALID_REQUEST,e);
     }
 
+    @ExceptionHandler(PostNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ErrorResponseDto notFoundError(Exception e){
+        log.warn("{}",e.getMessage());
+        return ErrorResponseDto.of(ErrorCode.NOT_FOUND,e);
+    }
+
+    @ExceptionHandler(DuplicateVoteException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponseDto duplicateError(Exception e){
+        log.warn("{}",e.getMessage());
+        return ErrorResponseDto.of(ErrorCode.DUPLICATE_REQUEST,e);
+    }
+
+    @ExceptionHandler({VoteQueueFullException.class,PasswordHashingQueueFullException.class})
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ErrorResponseDto tooManyRequestsError(Exception e){
+        log.warn("{}",e.getMessage());
+        return ErrorResponseDto.of(ErrorCode.TOO_MANY_REQUESTS,e);
+    }
+
+    @ExceptionHandler(PasswordHashingTimeoutException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponseDto serviceUnavailableError(Exception e){
+        log.warn("{}",e.getMessage());
+        return ErrorResponseDto.of(ErrorCode.SERVICE_UNAVAILABLE,e);
+    }
+
     @Builder
     @Getter
     private static class ErrorResponseDto{
@@ -0,0 +1,7 @@
+package com.dnd5th3.dnd5th3backend.exception;
+
+public class PasswordHashingTimeoutException extends RuntimeException {
+    public PasswordHashingTimeoutException(String message) {
+        super(message);
+    }
+}
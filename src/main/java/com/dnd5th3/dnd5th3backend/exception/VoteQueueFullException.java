@@ -0,0 +1,7 @@
+package com.dnd5th3.dnd5th3backend.exception;
+
+public class VoteQueueFullException extends RuntimeException {
+    public VoteQueueFullException(String message) {
+        super(message);
+    }
+}
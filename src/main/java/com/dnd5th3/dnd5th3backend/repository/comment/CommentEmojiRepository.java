@@ -3,6 +3,6 @@ package com.dnd5th3.dnd5th3backend.repository.comment;
 import com.dnd5th3.dnd5th3backend.domain.comment.CommentEmoji;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface CommentEmojiRepository extends JpaRepository<CommentEmoji,Long> {
+public interface CommentEmojiRepository extends JpaRepository<CommentEmoji,Long>,CommentEmojiRepositoryCustom {
 
 }
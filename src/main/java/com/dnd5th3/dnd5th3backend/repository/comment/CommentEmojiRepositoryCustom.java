@@ -0,0 +1,19 @@
+package com.dnd5th3.dnd5th3backend.repository.comment;
+
+import com.dnd5th3.dnd5th3backend.domain.comment.vo.CommentEmojiVo;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CommentEmojiRepositoryCustom {
+
+    /**
+     * 댓글들의 이모지 집계 (comment_emoji 행만 읽으므로 반응한 회원 수와 무관)
+     */
+    List<CommentEmojiVo> findAllByCommentIds(Collection<Long> commentIds);
+
+    /**
+     * 댓글들 중 회원이 반응한 comment_emoji id (회원 본인의 반응 수만큼만 읽는다)
+     */
+    long[] findReactedCommentEmojiIds(Collection<Long> commentIds, long memberId);
+}
@@ -0,0 +1,56 @@
+package com.dnd5th3.dnd5th3backend.repository.comment;
+
+import com.dnd5th3.dnd5th3backend.domain.comment.vo.CommentEmojiVo;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.dnd5th3.dnd5th3backend.domain.comment.QCommentEmoji.commentEmoji;
+import static com.dnd5th3.dnd5th3backend.domain.comment.QCommentEmojiMember.commentEmojiMember;
+
+@RequiredArgsConstructor
+public class CommentEmojiRepositoryCustomImpl implements CommentEmojiRepositoryCustom {
+
+    private final JPAQueryFactory query;
+
+    @Override
+    public List<CommentEmojiVo> findAllByCommentIds(Collection<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Tuple> rows = query
+                .select(commentEmoji.comment.id, commentEmoji.id, commentEmoji.emoji.id, commentEmoji.commentEmojiCount)
+                .from(commentEmoji)
+                .where(commentEmoji.comment.id.in(commentIds))
+                .orderBy(commentEmoji.id.asc())
+                .fetch();
+        return rows.stream()
+                .map(row -> new CommentEmojiVo(
+                        row.get(commentEmoji.comment.id),
+                        row.get(commentEmoji.id),
+                        row.get(commentEmoji.emoji.id),
+                        row.get(commentEmoji.commentEmojiCount)))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long[] findReactedCommentEmojiIds(Collection<Long> commentIds, long memberId) {
+        if (commentIds.isEmpty()) {
+            return new long[0];
+        }
+        return query
+                .select(commentEmojiMember.commentEmoji.id)
+                .from(commentEmojiMember)
+                .where(commentEmojiMember.member.id.eq(memberId),
+                        commentEmojiMember.commentEmoji.comment.id.in(commentIds))
+                .fetch()
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+}
@@ -5,27 +5,18 @@ import com.dnd5th3.dnd5th3backend.domain.comment.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
-import java.util.List;
-
 public interface CommentRepository extends JpaRepository<Comment,Long>,CommentRepositoryCustom {
 
-    @Query (" SELECT COUNT (c.id) FROM Comment c" +
-            " WHERE c.posts.id = :postId " +
-            " AND   c.groupNo = :groupNo " +
-            " AND   c.commentLayer = :commentLayer" +
-            " AND   c.isDeleted = false ")
-    int countReply(long postId,long groupNo,int commentLayer);
-
-    @Query( " SELECT c FROM Comment c" +
-            " WHERE c.posts.id = :postId AND c.groupNo = :groupNo" +
-            " ORDER BY c.commentLayer, c.commentOrder")
-    List<Comment> getCommentGroup(long postId,long groupNo);
+    long countByPostsIdAndCommentLayerAndIsDeletedFalse(Long postId, Integer commentLayer);
 
+    //CommentSequenceAllocator 가 게시글의 첫 번호를 발급할 때만 사용
+    //(post_id, comment_layer, group_no) 인덱스의 마지막 값만 읽으므로 댓글 수와 무관
     @Query(" SELECT COALESCE(MAX(c.groupNo),0)+1 FROM Comment c" +
            " WHERE c.posts.id = :postId AND c.commentLayer=:commentLayer")
     long nextGroupNo(long postId,int commentLayer);
 
+    //CommentSequenceAllocator 가 댓글 그룹의 첫 순서를 발급할 때만 사용
     @Query(" SELECT COALESCE(MAX(c.commentOrder),0)+1 FROM Comment c" +
-           " WHERE c.id = :commentId AND c.groupNo = :groupNo AND c.commentLayer=:commentLayer")
-    int nextCommentOrder(long commentId,long groupNo,int commentLayer);
+           " WHERE c.posts.id = :postId AND c.groupNo = :groupNo AND c.commentLayer=:commentLayer")
+    int nextCommentOrder(long postId,long groupNo,int commentLayer);
 }
@@ -1,10 +1,30 @@
 package com.dnd5th3.dnd5th3backend.repository.comment;
 
+import com.dnd5th3.dnd5th3backend.controller.dto.comment.CommentCursor;
 import com.dnd5th3.dnd5th3backend.domain.comment.Comment;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 
 public interface CommentRepositoryCustom {
-   Page<Comment> getAllCommentList(long postId, Pageable pageable);
+   List<Comment> findTopComments(long postId, CommentCursor cursor, int limit);
+
+   /**
+    * 댓글 그룹(최상위 댓글 + 대댓글)을 comment_order 순서로 limit 건 조회
+    */
+   List<Comment> findCommentGroup(long postId, long groupNo, CommentCursor cursor, int limit);
+
+   /**
+    * 댓글 그룹별 삭제되지 않은 대댓글 수를 한 번의 GROUP BY 쿼리로 조회
+    * 대댓글이 없는 그룹은 결과에 포함되지 않는다.
+    */
+   Map<Long, Long> countReplies(long postId, Collection<Long> groupNos, int commentLayer);
+
+   /**
+    * 게시글별 댓글 수(대댓글 포함)를 한 번의 GROUP BY 쿼리로 조회
+    * 댓글이 없는 게시글은 결과에 포함되지 않는다.
+    */
+   Map<Long, Long> countCommentsByPostIds(Collection<Long> postIds);
 }
@@ -1,16 +1,18 @@
 package com.dnd5th3.dnd5th3backend.repository.comment;
 
+import com.dnd5th3.dnd5th3backend.controller.dto.comment.CommentCursor;
 import com.dnd5th3.dnd5th3backend.domain.comment.Comment;
-import com.querydsl.core.QueryResults;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 
 import static com.dnd5th3.dnd5th3backend.domain.comment.QComment.comment;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
@@ -18,18 +20,87 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
     private final JPAQueryFactory query;
 
     @Override
-    public Page<Comment> getAllCommentList(long postId, Pageable pageable){
-        QueryResults<Comment> results = query
+    public List<Comment> findTopComments(long postId, CommentCursor cursor, int limit) {
+        return query
                 .selectFrom(comment)
-                .where(comment.posts.id.eq(postId).and(comment.commentLayer.eq(TOP_COMMENT)))
-                .orderBy(comment.groupNo.desc(), comment.commentOrder.asc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetchResults();
+                .where(comment.posts.id.eq(postId),
+                        comment.commentLayer.eq(TOP_COMMENT),
+                        afterTopComment(cursor))
+                .orderBy(comment.groupNo.desc(), comment.commentOrder.asc(), comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Comment> findCommentGroup(long postId, long groupNo, CommentCursor cursor, int limit) {
+        return query
+                .selectFrom(comment)
+                .where(comment.posts.id.eq(postId),
+                        comment.groupNo.eq(groupNo),
+                        afterGroupComment(cursor))
+                .orderBy(comment.commentOrder.asc(), comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, Long> countReplies(long postId, Collection<Long> groupNos, int commentLayer) {
+        Map<Long, Long> replyCounts = new HashMap<>();
+        if (groupNos.isEmpty()) {
+            return replyCounts;
+        }
+        List<Tuple> rows = query
+                .select(comment.groupNo, comment.id.count())
+                .from(comment)
+                .where(comment.posts.id.eq(postId),
+                        comment.groupNo.in(groupNos),
+                        comment.commentLayer.eq(commentLayer),
+                        comment.isDeleted.isFalse())
+                .groupBy(comment.groupNo)
+                .fetch();
+        for (Tuple row : rows) {
+            replyCounts.put(row.get(comment.groupNo), row.get(comment.id.count()));
+        }
+        return replyCounts;
+    }
+
+    @Override
+    public Map<Long, Long> countCommentsByPostIds(Collection<Long> postIds) {
+        Map<Long, Long> commentCounts = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return commentCounts;
+        }
+        List<Tuple> rows = query
+                .select(comment.posts.id, comment.id.count())
+                .from(comment)
+                .where(comment.posts.id.in(postIds))
+                .groupBy(comment.posts.id)
+                .fetch();
+        for (Tuple row : rows) {
+            commentCounts.put(row.get(comment.posts.id), row.get(comment.id.count()));
+        }
+        return commentCounts;
+    }
 
-        List<Comment> commentList = results.getResults();
-        long total = results.getTotal();
+    /**
+     * (group_no desc, comment_order asc, comment_id asc) 기준으로 커서 다음 댓글
+     */
+    private BooleanExpression afterTopComment(CommentCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return comment.groupNo.lt(cursor.getGroupNo())
+                .or(comment.groupNo.eq(cursor.getGroupNo()).and(afterGroupComment(cursor)));
+    }
 
-        return new PageImpl<>(commentList,pageable,total);
+    /**
+     * 같은 그룹 안에서 (comment_order asc, comment_id asc) 기준으로 커서 다음 댓글
+     */
+    private BooleanExpression afterGroupComment(CommentCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return comment.commentOrder.gt(cursor.getCommentOrder())
+                .or(comment.commentOrder.eq(cursor.getCommentOrder()).and(comment.id.gt(cursor.getId())));
     }
 }
@@ -0,0 +1,7 @@
+package com.dnd5th3.dnd5th3backend.repository.comment;
+
+import com.dnd5th3.dnd5th3backend.domain.comment.CommentSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CommentSequenceRepository extends JpaRepository<CommentSequence, String>, CommentSequenceRepositoryCustom {
+}
@@ -0,0 +1,13 @@
+package com.dnd5th3.dnd5th3backend.repository.comment;
+
+import java.util.function.LongSupplier;
+
+public interface CommentSequenceRepositoryCustom {
+
+    /**
+     * key 의 값을 blockSize 만큼 원자적으로 증가시켜 [반환값 - blockSize, 반환값) 구간을 예약
+     * key 가 없으면 firstValue 부터 시작하는 행을 만든다.
+     * 트랜잭션 안에서 호출해야 하며, 커밋할 때까지 해당 행이 잠긴다.
+     */
+    long reserve(String key, int blockSize, LongSupplier firstValue);
+}
@@ -0,0 +1,31 @@
+package com.dnd5th3.dnd5th3backend.repository.comment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.function.LongSupplier;
+
+@RequiredArgsConstructor
+public class CommentSequenceRepositoryCustomImpl implements CommentSequenceRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long reserve(String key, int blockSize, LongSupplier firstValue) {
+        while (true) {
+            int updated = jdbcTemplate.update("UPDATE comment_sequence SET next_value = next_value + ? WHERE sequence_key = ?", blockSize, key);
+            if (updated > 0) {
+                //UPDATE 로 잡은 행 잠금이 유지되므로 다른 트랜잭션이 값을 바꿀 수 없다.
+                return jdbcTemplate.queryForObject("SELECT next_value FROM comment_sequence WHERE sequence_key = ?", Long.class, key);
+            }
+            long nextValue = firstValue.getAsLong() + blockSize;
+            try {
+                jdbcTemplate.update("INSERT INTO comment_sequence (sequence_key, next_value) VALUES (?, ?)", key, nextValue);
+                return nextValue;
+            } catch (DuplicateKeyException e) {
+                //다른 요청이 먼저 행을 만들었으면 증가부터 다시 시도
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.dnd5th3.dnd5th3backend.repository.image;
+
+import com.dnd5th3.dnd5th3backend.domain.image.ProductImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
+
+    Optional<ProductImage> findByHash(String hash);
+
+    List<ProductImage> findAllByHashIn(Collection<String> hashes);
+
+    @Transactional
+    @Modifying
+    @Query(" UPDATE ProductImage p SET p.lastUsedDate = :lastUsedDate" +
+           " WHERE p.id = :id")
+    int updateLastUsedDate(Long id, LocalDateTime lastUsedDate);
+
+    /**
+     * 기준 시간 이후 생성/재사용되지 않았고 어떤 게시글도 참조하지 않는 이미지 정보만 삭제
+     * 확인과 삭제를 한 문장으로 실행해 확인한 뒤에 참조되거나 재사용된 이미지를 지우지 않는다.
+     */
+    @Transactional
+    @Modifying
+    @Query(" DELETE FROM ProductImage p" +
+           " WHERE p.id IN :ids" +
+           " AND (p.createdDate IS NULL OR p.createdDate < :threshold)" +
+           " AND (p.lastUsedDate IS NULL OR p.lastUsedDate < :threshold)" +
+           " AND NOT EXISTS (SELECT s.id FROM Posts s WHERE s.productImageId = p.id OR s.productImageUrl = p.url)")
+    int deleteUnusedByIdIn(Collection<Long> ids, LocalDateTime threshold);
+}
@@ -0,0 +1,171 @@
+package com.dnd5th3.dnd5th3backend.repository.member;
+
+import com.dnd5th3.dnd5th3backend.domain.member.Member;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 회원 조회 캐시 (이메일, id)
+ * 최대 max-size 건을 최근 사용 순으로 보관하고 ttl 이 지나면 다시 조회한다.
+ * 캐시의 Member 는 여러 요청이 같이 쓰므로 읽기 전용으로만 사용하고, 변경은 repository 로 조회한 엔티티에 한다.
+ * 회원 정보를 바꾼 곳에서는 evict 를 호출한다. (바로 한 번, 커밋 후 한 번 제거)
+ * 다른 서버에서 바뀐 회원 정보는 ttl 이 지날 때까지 반영되지 않는다.
+ */
+@Component
+public class MemberCache {
+
+    private final MemberRepository memberRepository;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<Long, CachedMember> members;
+    private final Map<String, Long> memberIds = new HashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    //조회 중에 제거된 회원을 다시 넣지 않도록 제거할 때마다 증가
+    private long evictionVersion;
+
+    @Autowired
+    public MemberCache(MemberRepository memberRepository,
+                       MeterRegistry meterRegistry,
+                       @Value("${member.cache.max-size:10000}") int maxSize,
+                       @Value("${member.cache.ttl-seconds:60}") long ttlSeconds) {
+        this(memberRepository, meterRegistry, Clock.systemDefaultZone(), maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    MemberCache(MemberRepository memberRepository, MeterRegistry meterRegistry, Clock clock, int maxSize, Duration ttl) {
+        this.memberRepository = memberRepository;
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        this.maxSize = maxSize;
+        this.members = new LinkedHashMap<>(16, 0.75f, true);
+        this.hitCounter = Counter.builder("member.cache.gets")
+                .tag("result", "hit")
+                .description("회원 캐시 조회 중 캐시에서 찾은 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("member.cache.gets")
+                .tag("result", "miss")
+                .description("회원 캐시 조회 중 DB 에서 조회한 수")
+                .register(meterRegistry);
+        Gauge.builder("member.cache.size", this, MemberCache::size)
+                .description("회원 캐시에 보관 중인 회원 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 회원이 없으면 null (MemberRepository.findByEmail 과 동일)
+     */
+    public Member findByEmail(String email) {
+        Member member = getCachedByEmail(email);
+        if (member != null) {
+            return member;
+        }
+        return load(() -> memberRepository.findByEmail(email));
+    }
+
+    public Optional<Member> findById(Long id) {
+        Member member = getCached(id);
+        if (member != null) {
+            return Optional.of(member);
+        }
+        return Optional.ofNullable(load(() -> memberRepository.findById(id).orElse(null)));
+    }
+
+    public void evict(Member member) {
+        evictNow(member);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            //커밋 전에 다른 요청이 이전 값을 다시 캐시했을 수 있으므로 커밋 후 한 번 더 제거
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(member);
+                }
+            });
+        }
+    }
+
+    public synchronized int size() {
+        return members.size();
+    }
+
+    private synchronized Member getCachedByEmail(String email) {
+        return getCached(memberIds.get(email));
+    }
+
+    private synchronized Member getCached(Long id) {
+        CachedMember cachedMember = id == null ? null : members.get(id);
+        if (cachedMember == null || cachedMember.expiredAt <= clock.millis()) {
+            if (cachedMember != null) {
+                remove(id);
+            }
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return cachedMember.member;
+    }
+
+    private Member load(Supplier<Member> loader) {
+        long version;
+        synchronized (this) {
+            version = evictionVersion;
+        }
+        Member member = loader.get();
+        if (member != null) {
+            put(member, version);
+        }
+        return member;
+    }
+
+    private synchronized void put(Member member, long version) {
+        if (version != evictionVersion) {
+            return;
+        }
+        remove(member.getId());
+        members.put(member.getId(), new CachedMember(member, clock.millis() + ttlMillis));
+        memberIds.put(member.getEmail(), member.getId());
+        if (members.size() > maxSize) {
+            remove(members.keySet().iterator().next());
+        }
+    }
+
+    private synchronized void evictNow(Member member) {
+        evictionVersion++;
+        remove(member.getId());
+        Long id = memberIds.remove(member.getEmail());
+        if (id != null) {
+            remove(id);
+        }
+    }
+
+    private void remove(Long id) {
+        CachedMember removed = members.remove(id);
+        if (removed != null) {
+            memberIds.remove(removed.member.getEmail());
+        }
+    }
+
+    private static class CachedMember {
+        private final Member member;
+        private final long expiredAt;
+
+        private CachedMember(Member member, long expiredAt) {
+            this.member = member;
+            this.expiredAt = expiredAt;
+        }
+    }
+}
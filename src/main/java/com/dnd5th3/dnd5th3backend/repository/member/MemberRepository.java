@@ -3,6 +3,9 @@ package com.dnd5th3.dnd5th3backend.repository.member;
 import com.dnd5th3.dnd5th3backend.domain.member.Member;
 import com.dnd5th3.dnd5th3backend.domain.member.MemberType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -11,4 +14,13 @@ public interface MemberRepository extends JpaRepository<Member,Long> {
     boolean existsByEmail(String email);
     boolean existsByName(String name);
     List<Member> findAllByMemberType(MemberType memberType);
+
+    /**
+     * 리프레시 토큰 저장소 도입 전 회원 테이블에 저장한 토큰 제거 (같은 토큰으로 동시에 호출하면 한 곳만 1)
+     */
+    @Transactional
+    @Modifying
+    @Query(" UPDATE Member m SET m.refreshToken = NULL" +
+           " WHERE m.id = :id AND m.refreshToken = :refreshToken")
+    int clearLegacyRefreshToken(Long id, String refreshToken);
 }
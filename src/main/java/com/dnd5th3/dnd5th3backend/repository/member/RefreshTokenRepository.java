@@ -0,0 +1,11 @@
+package com.dnd5th3.dnd5th3backend.repository.member;
+
+import com.dnd5th3.dnd5th3backend.domain.member.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String>, RefreshTokenRepositoryCustom {
+    List<RefreshToken> findAllByExpiredAtAfter(LocalDateTime now);
+}
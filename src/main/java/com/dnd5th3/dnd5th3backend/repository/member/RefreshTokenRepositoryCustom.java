@@ -0,0 +1,18 @@
+package com.dnd5th3.dnd5th3backend.repository.member;
+
+import java.time.LocalDateTime;
+
+public interface RefreshTokenRepositoryCustom {
+
+    void insertToken(String tokenHash, long memberId, LocalDateTime expiredAt);
+
+    /**
+     * 삭제한 행 수 반환
+     * 같은 토큰을 동시에 삭제하면 한 곳만 1을 받는다.
+     */
+    int removeToken(String tokenHash);
+
+    int removeAllTokens(long memberId);
+
+    int removeExpiredTokens(LocalDateTime now);
+}
@@ -0,0 +1,34 @@
+package com.dnd5th3.dnd5th3backend.repository.member;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class RefreshTokenRepositoryCustomImpl implements RefreshTokenRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertToken(String tokenHash, long memberId, LocalDateTime expiredAt) {
+        jdbcTemplate.update("INSERT INTO refresh_token (token_hash, member_id, expired_at) VALUES (?, ?, ?)",
+                tokenHash, memberId, Timestamp.valueOf(expiredAt));
+    }
+
+    @Override
+    public int removeToken(String tokenHash) {
+        return jdbcTemplate.update("DELETE FROM refresh_token WHERE token_hash = ?", tokenHash);
+    }
+
+    @Override
+    public int removeAllTokens(long memberId) {
+        return jdbcTemplate.update("DELETE FROM refresh_token WHERE member_id = ?", memberId);
+    }
+
+    @Override
+    public int removeExpiredTokens(LocalDateTime now) {
+        return jdbcTemplate.update("DELETE FROM refresh_token WHERE expired_at <= ?", Timestamp.valueOf(now));
+    }
+}
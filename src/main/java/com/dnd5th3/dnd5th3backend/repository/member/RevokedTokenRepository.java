@@ -0,0 +1,13 @@
+package com.dnd5th3.dnd5th3backend.repository.member;
+
+import com.dnd5th3.dnd5th3backend.domain.member.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String>, RevokedTokenRepositoryCustom {
+    List<RevokedToken> findAllByExpiredAtAfter(LocalDateTime now);
+
+    List<RevokedToken> findAllByRevokedAtAfterAndExpiredAtAfter(LocalDateTime revokedAt, LocalDateTime now);
+}
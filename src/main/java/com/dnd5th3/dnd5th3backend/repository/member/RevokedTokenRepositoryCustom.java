@@ -0,0 +1,13 @@
+package com.dnd5th3.dnd5th3backend.repository.member;
+
+import java.time.LocalDateTime;
+
+public interface RevokedTokenRepositoryCustom {
+
+    /**
+     * 같은 token_id 가 있으면 폐기 시간, 만료 시간만 변경
+     */
+    void saveToken(String tokenId, long memberId, LocalDateTime revokedAt, LocalDateTime expiredAt);
+
+    int removeExpiredTokens(LocalDateTime now);
+}
@@ -0,0 +1,38 @@
+package com.dnd5th3.dnd5th3backend.repository.member;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class RevokedTokenRepositoryCustomImpl implements RevokedTokenRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveToken(String tokenId, long memberId, LocalDateTime revokedAt, LocalDateTime expiredAt) {
+        if (updateToken(tokenId, revokedAt, expiredAt) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO revoked_token (token_id, member_id, revoked_at, expired_at) VALUES (?, ?, ?, ?)",
+                    tokenId, memberId, Timestamp.valueOf(revokedAt), Timestamp.valueOf(expiredAt));
+        } catch (DuplicateKeyException e) {
+            //다른 서버에서 같은 회원을 동시에 폐기한 경우
+            updateToken(tokenId, revokedAt, expiredAt);
+        }
+    }
+
+    @Override
+    public int removeExpiredTokens(LocalDateTime now) {
+        return jdbcTemplate.update("DELETE FROM revoked_token WHERE expired_at <= ?", Timestamp.valueOf(now));
+    }
+
+    private int updateToken(String tokenId, LocalDateTime revokedAt, LocalDateTime expiredAt) {
+        return jdbcTemplate.update("UPDATE revoked_token SET revoked_at = GREATEST(revoked_at, ?), expired_at = GREATEST(expired_at, ?) WHERE token_id = ?",
+                Timestamp.valueOf(revokedAt), Timestamp.valueOf(expiredAt), tokenId);
+    }
+}
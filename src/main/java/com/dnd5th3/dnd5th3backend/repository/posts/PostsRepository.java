@@ -3,5 +3,10 @@ package com.dnd5th3.dnd5th3backend.repository.posts;
 import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface PostsRepository extends JpaRepository<Posts, Long>, PostsRepositoryCustom {
+
+    List<Posts> findAllByPostsDeadlineAfter(LocalDateTime now);
 }
@@ -1,15 +1,36 @@
 package com.dnd5th3.dnd5th3backend.repository.posts;
 
+import com.dnd5th3.dnd5th3backend.controller.dto.post.PostsCursor;
 import com.dnd5th3.dnd5th3backend.domain.member.Member;
 import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
+import com.dnd5th3.dnd5th3backend.domain.vote.VoteType;
+import com.dnd5th3.dnd5th3backend.domain.vote.vo.PendingVoteVo;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface PostsRepositoryCustom {
 
     Posts findPostsById(Long id);
     List<Posts> findPostsTop50Ranked();
     List<Posts> findPostsByMemberOrderByCreatedDate(Member member);
-    List<Posts> findPostsWithSortType(String sortType);
+    List<Posts> findPostsWithSortType(String sortType, PostsCursor cursor, int limit);
+    void addRankCounts(Map<Long, Long> rankCountDeltas);
+    long updateVotedStatusByDeadline(LocalDateTime now);
+    long updatePostsEndStatusByDeadline(LocalDateTime now);
+    long increaseVoteCount(Long postId, VoteType result);
+    void addVoteCounts(List<PendingVoteVo> votes);
+    List<Posts> findPostsForIndex(Long lastId, int limit);
+    List<Posts> findPostsWithMemberByIdIn(List<Long> ids);
+    long updateImageVariants(Long productImageId, String cardImageUrl, String detailImageUrl);
+    Long scanProductImageUrls(Long lastId, int limit, Consumer<String> consumer);
+    List<String> findReferencedProductImageUrls(Collection<String> productImageUrls);
+    List<Long> findActivePostIds(Collection<Long> ids, LocalDateTime now);
+    Long findCommentCount(Long postId);
+    long addCommentCount(Long postId, long delta);
+    long initCommentCount(Long postId, long commentCount);
 }
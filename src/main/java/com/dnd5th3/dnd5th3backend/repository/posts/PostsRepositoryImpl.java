@@ -1,14 +1,26 @@
 package com.dnd5th3.dnd5th3backend.repository.posts;
 
+import com.dnd5th3.dnd5th3backend.controller.dto.post.PostsCursor;
 import com.dnd5th3.dnd5th3backend.controller.dto.post.SortType;
 import com.dnd5th3.dnd5th3backend.domain.member.Member;
 import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
+import com.dnd5th3.dnd5th3backend.domain.vote.VoteType;
+import com.dnd5th3.dnd5th3backend.domain.vote.vo.PendingVoteVo;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import static com.dnd5th3.dnd5th3backend.domain.posts.QPosts.posts;
 
@@ -16,6 +28,7 @@ import static com.dnd5th3.dnd5th3backend.domain.posts.QPosts.posts;
 public class PostsRepositoryImpl implements PostsRepositoryCustom {
 
     private final JPAQueryFactory query;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Posts findPostsById(Long id) {
@@ -32,9 +45,8 @@ public class PostsRepositoryImpl implements PostsRepositoryCustom {
         return query
                 .selectFrom(posts)
                 .join(posts.member)
-                .join(posts.comments)
                 .fetchJoin()
-                .where(posts.isPostsEnd.eq(false))
+                .where(posts.postsDeadline.after(LocalDateTime.now()))
                 .orderBy(posts.rankCount.desc())
                 .offset(0)
                 .limit(50)
@@ -53,28 +65,200 @@ public class PostsRepositoryImpl implements PostsRepositoryCustom {
     }
 
     @Override
-    public List<Posts> findPostsWithSortType(String sortType) {
+    public List<Posts> findPostsWithSortType(String sortType, PostsCursor cursor, int limit) {
         return query
                 .selectFrom(posts)
                 .join(posts.member)
                 .fetchJoin()
-                .where(eqSortType(sortType))
-                .orderBy(specifier(sortType))
+                .where(eqSortType(sortType, LocalDateTime.now()), afterCursor(sortType, cursor))
+                .orderBy(specifier(sortType), idSpecifier(sortType))
+                .limit(limit)
                 .fetch();
     }
 
-    private BooleanExpression eqSortType(String sortType) {
+    @Override
+    public void addRankCounts(Map<Long, Long> rankCountDeltas) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        rankCountDeltas.forEach((postId, delta) -> batchArgs.add(new Object[]{delta, postId}));
+        jdbcTemplate.batchUpdate("UPDATE posts SET rank_count = rank_count + ? WHERE post_id = ?", batchArgs);
+    }
+
+    @Override
+    public long updateVotedStatusByDeadline(LocalDateTime now) {
+        return query
+                .update(posts)
+                .set(posts.isVoted, true)
+                .where(posts.isVoted.eq(false), posts.voteDeadline.before(now))
+                .execute();
+    }
+
+    @Override
+    public long updatePostsEndStatusByDeadline(LocalDateTime now) {
+        return query
+                .update(posts)
+                .set(posts.isPostsEnd, true)
+                .where(posts.isPostsEnd.eq(false), posts.postsDeadline.before(now))
+                .execute();
+    }
+
+    /**
+     * 투표 수를 단일 UPDATE 로 증가시켜 동시 투표시에도 누락이 없도록 한다.
+     */
+    @Override
+    public long increaseVoteCount(Long postId, VoteType result) {
+        NumberPath<Integer> countPath = VoteType.PERMIT.equals(result) ? posts.permitCount : posts.rejectCount;
+        return query
+                .update(posts)
+                .set(countPath, countPath.add(1))
+                .where(posts.id.eq(postId))
+                .execute();
+    }
+
+    /**
+     * 게시글별로 찬성/반대 수를 합산해 게시글당 UPDATE 한 번으로 반영
+     */
+    @Override
+    public void addVoteCounts(List<PendingVoteVo> votes) {
+        Map<Long, int[]> countsByPost = new HashMap<>();
+        for (PendingVoteVo vote : votes) {
+            int[] counts = countsByPost.computeIfAbsent(vote.getPostId(), id -> new int[2]);
+            if (VoteType.PERMIT.equals(vote.getResult())) {
+                counts[0] += 1;
+            } else if (VoteType.REJECT.equals(vote.getResult())) {
+                counts[1] += 1;
+            }
+        }
+        List<Object[]> batchArgs = new ArrayList<>();
+        countsByPost.forEach((postId, counts) -> {
+            if (counts[0] > 0 || counts[1] > 0) {
+                batchArgs.add(new Object[]{counts[0], counts[1], postId});
+            }
+        });
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE posts SET permit_count = permit_count + ?, reject_count = reject_count + ? WHERE post_id = ?", batchArgs);
+        }
+    }
+
+    /**
+     * 검색 인덱스 적재용 post_id 기준 keyset 조회
+     */
+    @Override
+    public List<Posts> findPostsForIndex(Long lastId, int limit) {
+        return query
+                .selectFrom(posts)
+                .where(posts.id.gt(lastId))
+                .orderBy(posts.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Posts> findPostsWithMemberByIdIn(List<Long> ids) {
+        return query
+                .selectFrom(posts)
+                .join(posts.member)
+                .fetchJoin()
+                .where(posts.id.in(ids))
+                .fetch();
+    }
+
+    @Override
+    public long updateImageVariants(Long productImageId, String cardImageUrl, String detailImageUrl) {
+        return query
+                .update(posts)
+                .set(posts.cardImageUrl, cardImageUrl)
+                .set(posts.detailImageUrl, detailImageUrl)
+                .where(posts.productImageId.eq(productImageId))
+                .execute();
+    }
+
+    /**
+     * 게시글 id 순서로 limit 건의 상품 이미지 URL 을 전달
+     * 엔티티 대신 id, URL 만 조회하며 마지막으로 읽은 게시글 id 를 반환한다. (더 없으면 null)
+     */
+    @Override
+    public Long scanProductImageUrls(Long lastId, int limit, Consumer<String> consumer) {
+        List<Tuple> rows = query
+                .select(posts.id, posts.productImageUrl)
+                .from(posts)
+                .where(lastId == null ? null : posts.id.gt(lastId))
+                .orderBy(posts.id.asc())
+                .limit(limit)
+                .fetch();
+        for (Tuple row : rows) {
+            String productImageUrl = row.get(posts.productImageUrl);
+            if (productImageUrl != null && !productImageUrl.isEmpty()) {
+                consumer.accept(productImageUrl);
+            }
+        }
+        return rows.isEmpty() ? null : rows.get(rows.size() - 1).get(posts.id);
+    }
+
+    @Override
+    public List<String> findReferencedProductImageUrls(Collection<String> productImageUrls) {
+        return query
+                .select(posts.productImageUrl)
+                .distinct()
+                .from(posts)
+                .where(posts.productImageUrl.in(productImageUrls))
+                .fetch();
+    }
+
+    /**
+     * 주어진 id 중 삭제되지 않았고 게시 마감 전인 게시글 id 조회
+     */
+    @Override
+    public List<Long> findActivePostIds(Collection<Long> ids, LocalDateTime now) {
+        return query
+                .select(posts.id)
+                .from(posts)
+                .where(posts.id.in(ids), posts.postsDeadline.after(now))
+                .fetch();
+    }
+
+    /**
+     * 종료 여부는 플래그 대신 마감 시간으로 판단 (플래그는 스케줄러가 일괄 변경)
+     */
+    private BooleanExpression eqSortType(String sortType, LocalDateTime now) {
         if (SortType.RANK_COUNT.getValue().equals(sortType)) {
-            return posts.isPostsEnd.eq(false);
+            return posts.postsDeadline.after(now);
         } else if (SortType.ALMOST_DONE.getValue().equals(sortType)) {
-            return posts.isVoted.eq(false);
+            return posts.voteDeadline.after(now);
         } else if (SortType.ALREADY_DONE.getValue().equals(sortType)) {
-            return posts.isVoted.eq(true);
+            return posts.voteDeadline.before(now);
         }
 
         return null;
     }
 
+    /**
+     * 커서(마지막으로 받은 게시글의 정렬 값, post_id) 이후의 게시글만 조회
+     * 정렬 값이 같으면 post_id 로 순서를 결정한다.
+     */
+    private BooleanExpression afterCursor(String sortType, PostsCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        if (SortType.RANK_COUNT.getValue().equals(sortType)) {
+            Integer rankCount = cursor.getSortValueAsInteger();
+            return posts.rankCount.lt(rankCount)
+                    .or(posts.rankCount.eq(rankCount).and(posts.id.lt(cursor.getId())));
+        } else if (SortType.ALMOST_DONE.getValue().equals(sortType)) {
+            LocalDateTime voteDeadline = cursor.getSortValueAsDateTime();
+            return posts.voteDeadline.gt(voteDeadline)
+                    .or(posts.voteDeadline.eq(voteDeadline).and(posts.id.gt(cursor.getId())));
+        } else if (SortType.ALREADY_DONE.getValue().equals(sortType)) {
+            LocalDateTime voteDeadline = cursor.getSortValueAsDateTime();
+            return posts.voteDeadline.lt(voteDeadline)
+                    .or(posts.voteDeadline.eq(voteDeadline).and(posts.id.lt(cursor.getId())));
+        }
+
+        LocalDateTime createdDate = cursor.getSortValueAsDateTime();
+        return posts.createdDate.lt(createdDate)
+                .or(posts.createdDate.eq(createdDate).and(posts.id.lt(cursor.getId())));
+    }
+
     private OrderSpecifier specifier(String sorted) {
         if (SortType.RANK_COUNT.getValue().equals(sorted)) {
             return posts.rankCount.desc();
@@ -82,7 +266,7 @@ public class PostsRepositoryImpl implements PostsRepositoryCustom {
             return posts.createdDate.desc();
         } else if (SortType.ALMOST_DONE.getValue().equals(sorted)) {
             return posts.voteDeadline.asc();
-        } else if (SortType.ALREADY_DONE.equals(sorted)) {
+        } else if (SortType.ALREADY_DONE.getValue().equals(sorted)) {
             return posts.voteDeadline.desc();
         }
 
@@ -91,4 +275,44 @@ public class PostsRepositoryImpl implements PostsRepositoryCustom {
          */
         return posts.createdDate.desc();
     }
+
+    private OrderSpecifier idSpecifier(String sorted) {
+        if (SortType.ALMOST_DONE.getValue().equals(sorted)) {
+            return posts.id.asc();
+        }
+        return posts.id.desc();
+    }
+
+    @Override
+    public Long findCommentCount(Long postId) {
+        return query
+                .select(posts.commentCount)
+                .from(posts)
+                .where(posts.id.eq(postId))
+                .fetchOne();
+    }
+
+    /**
+     * 댓글 수를 단일 UPDATE 로 증감 (아직 집계 전인 게시글은 그대로 둔다)
+     */
+    @Override
+    public long addCommentCount(Long postId, long delta) {
+        return query
+                .update(posts)
+                .set(posts.commentCount, posts.commentCount.add(delta))
+                .where(posts.id.eq(postId), posts.commentCount.isNotNull())
+                .execute();
+    }
+
+    /**
+     * 집계 전인 게시글에만 댓글 수를 채운다.
+     */
+    @Override
+    public long initCommentCount(Long postId, long commentCount) {
+        return query
+                .update(posts)
+                .set(posts.commentCount, commentCount)
+                .where(posts.id.eq(postId), posts.commentCount.isNull())
+                .execute();
+    }
 }
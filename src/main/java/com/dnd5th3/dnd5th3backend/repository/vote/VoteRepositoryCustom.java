@@ -3,11 +3,21 @@ package com.dnd5th3.dnd5th3backend.repository.vote;
 import com.dnd5th3.dnd5th3backend.domain.member.Member;
 import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
 import com.dnd5th3.dnd5th3backend.domain.vote.Vote;
+import com.dnd5th3.dnd5th3backend.domain.vote.VoteType;
+import com.dnd5th3.dnd5th3backend.domain.vote.vo.PendingVoteVo;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface VoteRepositoryCustom {
 
     Vote findByMemberAndPosts(Member member, Posts posts);
     List<Vote> findVoteByMemberOrderByCreatedDate(Member member);
+    void insertVotes(List<PendingVoteVo> votes);
+
+    /**
+     * 게시글에 대한 회원들의 투표 결과 (회원 id -> 결과, 투표하지 않은 회원은 포함되지 않는다)
+     */
+    Map<Long, VoteType> findResultsByPostIdAndMemberIds(Long postId, Collection<Long> memberIds);
 }
@@ -3,10 +3,19 @@ package com.dnd5th3.dnd5th3backend.repository.vote;
 import com.dnd5th3.dnd5th3backend.domain.member.Member;
 import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
 import com.dnd5th3.dnd5th3backend.domain.vote.Vote;
+import com.dnd5th3.dnd5th3backend.domain.vote.VoteType;
+import com.dnd5th3.dnd5th3backend.domain.vote.vo.PendingVoteVo;
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.dnd5th3.dnd5th3backend.domain.vote.QVote.vote;
 
@@ -14,6 +23,7 @@ import static com.dnd5th3.dnd5th3backend.domain.vote.QVote.vote;
 public class VoteRepositoryImpl implements VoteRepositoryCustom{
 
     private final JPAQueryFactory query;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Vote findByMemberAndPosts(Member member, Posts posts) {
@@ -34,4 +44,32 @@ public class VoteRepositoryImpl implements VoteRepositoryCustom{
                 .fetchAll()
                 .fetch();
     }
+
+    @Override
+    public void insertVotes(List<PendingVoteVo> votes) {
+        List<Object[]> batchArgs = votes.stream()
+                .map(v -> new Object[]{Timestamp.valueOf(v.getCreatedDate()), Timestamp.valueOf(v.getCreatedDate()), v.getResult().name(), v.getMemberId(), v.getPostId()})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("INSERT INTO vote (created_date, updated_date, result, member_id, post_id) VALUES (?, ?, ?, ?, ?)", batchArgs);
+    }
+
+    /**
+     * 엔티티 대신 (회원 id, 결과)만 조회 (member_id, post_id 유니크 인덱스 사용)
+     */
+    @Override
+    public Map<Long, VoteType> findResultsByPostIdAndMemberIds(Long postId, Collection<Long> memberIds) {
+        Map<Long, VoteType> results = new HashMap<>();
+        if (memberIds.isEmpty()) {
+            return results;
+        }
+        List<Tuple> rows = query
+                .select(vote.member.id, vote.result)
+                .from(vote)
+                .where(vote.posts.id.eq(postId), vote.member.id.in(memberIds))
+                .fetch();
+        for (Tuple row : rows) {
+            results.put(row.get(vote.member.id), row.get(vote.result));
+        }
+        return results;
+    }
 }
@@ -0,0 +1,28 @@
+package com.dnd5th3.dnd5th3backend.scheduler;
+
+import com.dnd5th3.dnd5th3backend.service.ImageGarbageCollector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "image.gc.enabled", havingValue = "true")
+public class ImageScheduler {
+
+    private final ImageGarbageCollector imageGarbageCollector;
+
+    @Scheduled(cron = "${image.gc.cron:0 30 4 * * *}")
+    public void collectOrphanImages() {
+        try {
+            imageGarbageCollector.collect();
+        } catch (IOException | RuntimeException e) {
+            log.error("미사용 이미지 정리 실패", e);
+        }
+    }
+}
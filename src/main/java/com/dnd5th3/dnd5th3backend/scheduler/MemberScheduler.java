@@ -1,5 +1,7 @@
 package com.dnd5th3.dnd5th3backend.scheduler;
 
+import com.dnd5th3.dnd5th3backend.config.security.jwt.RefreshTokenStore;
+import com.dnd5th3.dnd5th3backend.config.security.jwt.TokenRevocationList;
 import com.dnd5th3.dnd5th3backend.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +15,8 @@ import org.springframework.stereotype.Component;
 public class MemberScheduler {
 
     private final MemberService memberService;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationList tokenRevocationList;
     private static final long WITHDRAWAL_MEMBER_MAINTENANCE_PERIOD = 7;
 
     @Async
@@ -20,4 +24,14 @@ public class MemberScheduler {
     public void deleteWithdrawalMember(){
         memberService.deleteWithdrawalMember(WITHDRAWAL_MEMBER_MAINTENANCE_PERIOD);
     }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-store.purge-interval:60000}")
+    public void purgeExpiredRefreshTokens(){
+        refreshTokenStore.purgeExpired();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:60000}")
+    public void syncRevokedTokens(){
+        tokenRevocationList.sync();
+    }
 }
@@ -0,0 +1,44 @@
+package com.dnd5th3.dnd5th3backend.scheduler;
+
+import com.dnd5th3.dnd5th3backend.service.MainPostsSnapshotHolder;
+import com.dnd5th3.dnd5th3backend.service.PostsRankCounter;
+import com.dnd5th3.dnd5th3backend.service.PostsService;
+import com.dnd5th3.dnd5th3backend.service.VoteRatioBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostsScheduler {
+
+    private final PostsRankCounter postsRankCounter;
+    private final MainPostsSnapshotHolder mainPostsSnapshotHolder;
+    private final PostsService postsService;
+    private final VoteRatioBroadcaster voteRatioBroadcaster;
+
+    @Scheduled(fixedDelayString = "${posts.rank-count.flush-interval:5000}")
+    public void flushRankCount() {
+        postsRankCounter.flush();
+    }
+
+    @Scheduled(fixedDelayString = "${posts.main.refresh-interval:60000}")
+    public void refreshMainPosts() {
+        mainPostsSnapshotHolder.refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${posts.deadline.update-interval:60000}")
+    public void closeExpiredPosts() {
+        postsService.closeExpiredPosts();
+    }
+
+    /**
+     * 주기마다 게시글당 최대 한 번 전송 (500ms 기준 초당 최대 2회)
+     */
+    @Scheduled(fixedRateString = "${vote.stream.publish-interval:500}")
+    public void publishVoteRatio() {
+        voteRatioBroadcaster.publish();
+    }
+}
@@ -0,0 +1,86 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.repository.comment.CommentRepository;
+import com.dnd5th3.dnd5th3backend.repository.comment.CommentSequenceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 게시글별 댓글 그룹 번호와 댓글 그룹별 대댓글 순서 발급 (hi/lo)
+ * comment_sequence 행을 원자적으로 증가시켜 block-size 만큼의 구간을 예약하고, 구간 안의 값은 메모리에서 나눠준다.
+ * 예약은 별도 트랜잭션으로 바로 커밋하므로 동시에 등록되는 댓글도 같은 번호를 받지 않는다.
+ * 서버가 재시작되거나 사용하지 않는 구간이 캐시에서 밀려나면 남은 값은 건너뛰므로 번호 사이에 빈 값이 생길 수 있다.
+ * 구간 예약은 새 커넥션을 사용하므로 다른 트랜잭션 안에서 호출하지 않는다. (커넥션 풀 고갈 방지)
+ * 서버가 여러 대라면 서버마다 다른 구간을 쓰므로 번호는 유일하지만 등록 순서와 다를 수 있다.
+ */
+@Component
+public class CommentSequenceAllocator {
+
+    private static final int TOP_LAYER = 0;
+    private static final int LOWER_LAYER = 1;
+
+    private final CommentSequenceRepository commentSequenceRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int groupBlockSize;
+    private final int orderBlockSize;
+    private final Map<String, Block> blocks;
+
+    public CommentSequenceAllocator(CommentSequenceRepository commentSequenceRepository,
+                                    CommentRepository commentRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${comment.sequence.group-block-size:20}") int groupBlockSize,
+                                    @Value("${comment.sequence.order-block-size:10}") int orderBlockSize,
+                                    @Value("${comment.sequence.max-cached-blocks:10000}") int maxCachedBlocks) {
+        this.commentSequenceRepository = commentSequenceRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.groupBlockSize = groupBlockSize;
+        this.orderBlockSize = orderBlockSize;
+        this.blocks = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Block> eldest) {
+                return size() > maxCachedBlocks;
+            }
+        });
+    }
+
+    public long nextGroupNo(long postId) {
+        //처음 발급할 때는 기존 댓글의 MAX + 1 부터 시작
+        return next("group:" + postId, groupBlockSize, () -> commentRepository.nextGroupNo(postId, TOP_LAYER));
+    }
+
+    public int nextCommentOrder(long postId, long groupNo) {
+        return Math.toIntExact(next("order:" + postId + ":" + groupNo, orderBlockSize,
+                () -> commentRepository.nextCommentOrder(postId, groupNo, LOWER_LAYER)));
+    }
+
+    /**
+     * 밀려난 구간을 다른 스레드가 아직 쓰고 있어도, DB 에서 예약한 구간끼리는 겹치지 않으므로 번호가 중복되지 않는다.
+     */
+    private long next(String key, int blockSize, LongSupplier firstValue) {
+        Block block = blocks.computeIfAbsent(key, k -> new Block());
+        synchronized (block) {
+            if (block.next >= block.end) {
+                Long end = transactionTemplate.execute(status -> commentSequenceRepository.reserve(key, blockSize, firstValue));
+                block.next = end - blockSize;
+                block.end = end;
+            }
+            return block.next++;
+        }
+    }
+
+    private static class Block {
+        private long next;
+        private long end;
+    }
+}
@@ -1,21 +1,21 @@
 package com.dnd5th3.dnd5th3backend.service;
 
+import com.dnd5th3.dnd5th3backend.controller.dto.comment.CommentCursor;
 import com.dnd5th3.dnd5th3backend.controller.dto.comment.CommentListResponseDto;
 import com.dnd5th3.dnd5th3backend.controller.dto.comment.CommentRequestDto;
 import com.dnd5th3.dnd5th3backend.domain.comment.Comment;
-import com.dnd5th3.dnd5th3backend.domain.comment.CommentEmoji;
-import com.dnd5th3.dnd5th3backend.domain.comment.CommentEmojiMember;
+import com.dnd5th3.dnd5th3backend.domain.comment.vo.CommentEmojiSummaryVo;
+import com.dnd5th3.dnd5th3backend.domain.comment.vo.CommentEmojiVo;
 import com.dnd5th3.dnd5th3backend.domain.member.Member;
 import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
-import com.dnd5th3.dnd5th3backend.domain.vote.Vote;
 import com.dnd5th3.dnd5th3backend.domain.vote.VoteType;
+import com.dnd5th3.dnd5th3backend.exception.PostNotFoundException;
+import com.dnd5th3.dnd5th3backend.repository.comment.CommentEmojiRepository;
 import com.dnd5th3.dnd5th3backend.repository.comment.CommentRepository;
 import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
 import com.dnd5th3.dnd5th3backend.repository.vote.VoteRepository;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
@@ -27,29 +27,44 @@ import java.util.stream.Collectors;
 public class CommentService {
 
     private final CommentRepository commentRepository;
+    private final CommentEmojiRepository commentEmojiRepository;
+    private final CommentSequenceAllocator commentSequenceAllocator;
+    private final CommentWriter commentWriter;
     private final PostsRepository postsRepository;
     private final ModelMapper modelMapper;
     private final VoteRepository voteRepository;
+    private final PostsTrendingRanking postsTrendingRanking;
     private static final int LOWER_LAYER = 1;
     private static final int PAGE_SIZE = 50;
     private static final int TOP_LAYER = 0;
 
-    @Transactional
+    /**
+     * 번호 발급은 자체 트랜잭션으로 커밋되므로, 요청 하나가 커넥션을 두 개 잡지 않도록 트랜잭션 밖에서 발급한 뒤 저장한다.
+     * 인기 순위는 저장 트랜잭션이 커밋된 뒤에 반영한다. (저장에 실패한 댓글이 순위에 반영되지 않도록)
+     * 없는 게시글에 번호가 발급되지 않도록 게시글 존재 여부를 먼저 확인한다.
+     */
     public Comment saveComment(CommentRequestDto requestDto, Member member){
-        Posts posts = postsRepository.findById(requestDto.getPostId()).orElseThrow();
-        long nextGroupNo = commentRepository.nextGroupNo(requestDto.getPostId(), requestDto.getCommentLayer());
+        if (requestDto.getPostId() == null || !postsRepository.existsById(requestDto.getPostId())) {
+            throw new PostNotFoundException("해당 Id의 게시글이 존재하지 않습니다.");
+        }
+        long nextGroupNo = commentSequenceAllocator.nextGroupNo(requestDto.getPostId());
+        //게시글은 조회하지 않고 참조(프록시)만 사용
+        Posts posts = postsRepository.getById(requestDto.getPostId());
         Comment comment = Comment.create(requestDto,nextGroupNo, requestDto.getCommentLayer(), TOP_LAYER,member, posts);
-        return commentRepository.save(comment);
+        Comment savedComment = commentWriter.save(comment);
+        postsTrendingRanking.recordComment(posts.getId());
+        return savedComment;
     }
 
-    @Transactional
     public Comment saveReplyComment(CommentRequestDto requestDto, long commentId ,Member member){
         Comment topComment = commentRepository.findById(commentId).orElseThrow();
         Posts posts = topComment.getPosts();
         long groupNo = topComment.getGroupNo();
-        int nextCommentOrder = commentRepository.nextCommentOrder(commentId,groupNo,requestDto.getCommentLayer());
+        int nextCommentOrder = commentSequenceAllocator.nextCommentOrder(posts.getId(), groupNo);
         Comment comment = Comment.create(requestDto, groupNo, requestDto.getCommentLayer(), nextCommentOrder, member, posts);
-        return commentRepository.save(comment);
+        Comment savedComment = commentWriter.save(comment);
+        postsTrendingRanking.recordComment(posts.getId());
+        return savedComment;
     }
 
     @Transactional
@@ -62,60 +77,78 @@ public class CommentService {
     @Transactional
     public Comment deleteComment(CommentRequestDto requestDto) {
         Comment comment = commentRepository.findById(requestDto.getCommentId()).orElseThrow();
+        if (Boolean.FALSE.equals(comment.getIsDeleted()) && comment.getCommentLayer() == TOP_LAYER) {
+            postsRepository.addCommentCount(comment.getPosts().getId(), -1);
+        }
         comment.delete();
         return comment;
     }
 
+    /**
+     * 댓글 그룹(최상위 댓글 + 대댓글)을 comment_order 순서로 PAGE_SIZE 건씩 조회
+     * totalCount 는 삭제되지 않은 대댓글 수
+     */
     @Transactional
-    public CommentListResponseDto getDetailComment(long commentId,Member member){
+    public CommentListResponseDto getDetailComment(long commentId, String cursor, boolean includeTotalCount, Member member){
         Comment requestComment = commentRepository.findById(commentId).orElseThrow();
-        List<Comment> commentList = commentRepository.getCommentGroup(requestComment.getPosts().getId(), requestComment.getGroupNo());
-        List<CommentListResponseDto.CommentDto> commentDtoList = new ArrayList<>();
+        long postId = requestComment.getPosts().getId();
+        long groupNo = requestComment.getGroupNo();
+        //다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Comment> commentList = commentRepository.findCommentGroup(postId, groupNo, CommentCursor.decode(cursor), PAGE_SIZE + 1);
+        String nextCursor = null;
+        if (commentList.size() > PAGE_SIZE) {
+            commentList = commentList.subList(0, PAGE_SIZE);
+            nextCursor = CommentCursor.of(commentList.get(PAGE_SIZE - 1)).encode();
+        }
 
-        List<Vote> voteList = voteRepository.getAllByPostId(requestComment.getPosts().getId());
-        Map<Member, Vote> votedMemberMap = voteList.stream().collect(Collectors.toMap(Vote::getMember, vote -> vote));
-        long countDeleted = 0;
+        Map<Long, VoteType> voteResults = getWriterVoteResults(postId, commentList);
+        CommentEmojiSummaryVo emojiSummary = getEmojiSummary(commentList, member);
+        List<CommentListResponseDto.CommentDto> commentDtoList = new ArrayList<>();
 
         for (Comment comment : commentList){
-
-            CommentListResponseDto.CommentDto commentDto = convertCommentDto(votedMemberMap, comment);
-
-            if(Boolean.TRUE.equals(comment.getIsDeleted())) countDeleted++;
-
-            List<CommentListResponseDto.EmojiIDto> emojiIDtoList = getEmojiIDtoList(member, comment);
-
-            commentDto.setEmojiList(emojiIDtoList);
+            CommentListResponseDto.CommentDto commentDto = convertCommentDto(voteResults, comment);
+            commentDto.setEmojiList(getEmojiIDtoList(emojiSummary, comment));
             commentDtoList.add(commentDto);
         }
-        long totalCount = commentDtoList.size() - countDeleted;
-        totalCount = totalCount > 0 ? totalCount-1:totalCount;
+
+        Long totalCount = null;
+        if (includeTotalCount) {
+            totalCount = commentRepository.countReplies(postId, List.of(groupNo), LOWER_LAYER).getOrDefault(groupNo, 0L);
+        }
 
         return CommentListResponseDto.builder()
                 .commentList(commentDtoList)
+                .nextCursor(nextCursor)
                 .totalCount(totalCount)
                 .build();
     }
 
+    /**
+     * 최상위 댓글을 (group_no desc) 순서로 PAGE_SIZE 건씩 조회
+     * totalCount 는 COUNT 쿼리 대신 게시글에 유지하는 댓글 수를 사용한다.
+     */
     @Transactional
-    public CommentListResponseDto getCommentList(long postId,int pageNum, Member member){
-        PageRequest pageRequest = PageRequest.of(pageNum, PAGE_SIZE);
-        Page<Comment> pagingComment = commentRepository.getAllCommentList(postId,pageRequest);
-        List<Comment> commentList = pagingComment.getContent();
+    public CommentListResponseDto getCommentList(long postId, String cursor, boolean includeTotalCount, Member member){
+        //다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Comment> commentList = commentRepository.findTopComments(postId, CommentCursor.decode(cursor), PAGE_SIZE + 1);
+        String nextCursor = null;
+        if (commentList.size() > PAGE_SIZE) {
+            commentList = commentList.subList(0, PAGE_SIZE);
+            nextCursor = CommentCursor.of(commentList.get(PAGE_SIZE - 1)).encode();
+        }
         List<CommentListResponseDto.CommentDto> commentDtoList = new ArrayList<>();
 
-        List<Vote> voteList = voteRepository.getAllByPostId(postId);
-        Map<Member, Vote> votedMemberMap = voteList.stream().collect(Collectors.toMap(Vote::getMember, vote -> vote));
-        long countDeleted = 0;
-
-        for(Comment comment : commentList){
-            CommentListResponseDto.CommentDto commentDto =  convertCommentDto(votedMemberMap,comment);
-            commentDto.setReplyCount(commentRepository.countReply(postId,comment.getGroupNo(), LOWER_LAYER));
-
-            if(Boolean.TRUE.equals(comment.getIsDeleted())) countDeleted++;
+        Map<Long, VoteType> voteResults = getWriterVoteResults(postId, commentList);
 
-            List<CommentListResponseDto.EmojiIDto> emojiIDtoList = getEmojiIDtoList(member, comment);
+        //댓글마다 COUNT 를 보내지 않고 페이지의 그룹 번호로 대댓글 수를 한 번에 조회
+        List<Long> groupNos = commentList.stream().map(Comment::getGroupNo).collect(Collectors.toList());
+        Map<Long, Long> replyCounts = commentRepository.countReplies(postId, groupNos, LOWER_LAYER);
+        CommentEmojiSummaryVo emojiSummary = getEmojiSummary(commentList, member);
 
-            commentDto.setEmojiList(emojiIDtoList);
+        for(Comment comment : commentList){
+            CommentListResponseDto.CommentDto commentDto =  convertCommentDto(voteResults, comment);
+            commentDto.setReplyCount(replyCounts.getOrDefault(comment.getGroupNo(), 0L).intValue());
+            commentDto.setEmojiList(getEmojiIDtoList(emojiSummary, comment));
             commentDtoList.add(commentDto);
         }
 
@@ -123,50 +156,68 @@ public class CommentService {
 
         return CommentListResponseDto.builder()
                 .commentList(commentDtoList)
-                .totalPage(pagingComment.getTotalPages())
-                .totalCount(pagingComment.getTotalElements() - countDeleted)
-                .pageNum(pagingComment.getNumber())
+                .nextCursor(nextCursor)
+                .totalCount(includeTotalCount ? getCommentCount(postId) : null)
                 .build();
     }
 
-    private CommentListResponseDto.CommentDto convertCommentDto(Map<Member, Vote> votedMemberMap, Comment comment) {
+    /**
+     * 댓글 수 집계 전인 게시글(기존 게시글)은 한 번만 COUNT 로 채운다.
+     */
+    private long getCommentCount(long postId) {
+        Long commentCount = postsRepository.findCommentCount(postId);
+        if (commentCount != null) {
+            return commentCount;
+        }
+        long countedCommentCount = commentRepository.countByPostsIdAndCommentLayerAndIsDeletedFalse(postId, TOP_LAYER);
+        postsRepository.initCommentCount(postId, countedCommentCount);
+        return countedCommentCount;
+    }
+
+    /**
+     * 게시글의 모든 투표 대신 페이지 댓글 작성자들의 투표 결과만 조회
+     */
+    private Map<Long, VoteType> getWriterVoteResults(long postId, List<Comment> commentList) {
+        Set<Long> writerIds = commentList.stream().map(comment -> comment.getMember().getId()).collect(Collectors.toSet());
+        return voteRepository.findResultsByPostIdAndMemberIds(postId, writerIds);
+    }
+
+    private CommentListResponseDto.CommentDto convertCommentDto(Map<Long, VoteType> voteResults, Comment comment) {
         CommentListResponseDto.CommentDto commentDto = modelMapper.map(comment, CommentListResponseDto.CommentDto.class);
         Member writer = comment.getMember();
         commentDto.setMemberId(writer.getId());
         commentDto.setWriterName(writer.getName());
         commentDto.setEmail(writer.getEmail());
-
-        if(votedMemberMap.containsKey(writer)){
-            Vote vote = votedMemberMap.get(writer);
-            commentDto.setVoteType(vote.getResult());
-        }else {
-            commentDto.setVoteType(VoteType.NO_RESULT);
-        }
+        commentDto.setVoteType(voteResults.getOrDefault(writer.getId(), VoteType.NO_RESULT));
 
         return commentDto;
     }
 
-    private List<CommentListResponseDto.EmojiIDto> getEmojiIDtoList(Member member, Comment comment) {
+    /**
+     * 댓글 목록 전체의 이모지 집계와 회원의 반응 여부를 두 번의 쿼리로 조회
+     * 반응한 회원 목록(comment_emoji_member)은 현재 회원의 행만 읽는다.
+     */
+    private CommentEmojiSummaryVo getEmojiSummary(List<Comment> commentList, Member member) {
+        List<Long> commentIds = commentList.stream().map(Comment::getId).collect(Collectors.toList());
+        List<CommentEmojiVo> commentEmojis = commentEmojiRepository.findAllByCommentIds(commentIds);
+        long[] reactedCommentEmojiIds = commentEmojis.isEmpty()
+                ? new long[0]
+                : commentEmojiRepository.findReactedCommentEmojiIds(commentIds, member.getId());
+        return new CommentEmojiSummaryVo(commentEmojis, reactedCommentEmojiIds);
+    }
+
+    private List<CommentListResponseDto.EmojiIDto> getEmojiIDtoList(CommentEmojiSummaryVo emojiSummary, Comment comment) {
         List<CommentListResponseDto.EmojiIDto> emojiIDtoList = new ArrayList<>();
 
-        for (CommentEmoji commentEmoji1 : comment.getCommentEmoji()) {
+        for (CommentEmojiVo commentEmoji : emojiSummary.getEmojis(comment.getId())) {
             CommentListResponseDto.EmojiIDto emojiIDto = new CommentListResponseDto.EmojiIDto();
-            emojiIDto.setCmtEmojiId(commentEmoji1.getId());
-            emojiIDto.setEmojiId(commentEmoji1.getEmoji().getId());
-            emojiIDto.setEmojiCount(commentEmoji1.getCommentEmojiCount());
-            setIsCheckedEmoji(member, commentEmoji1, emojiIDto);
+            emojiIDto.setCmtEmojiId(commentEmoji.getCommentEmojiId());
+            emojiIDto.setEmojiId(commentEmoji.getEmojiId());
+            emojiIDto.setEmojiCount(commentEmoji.getCommentEmojiCount());
+            emojiIDto.setChecked(emojiSummary.isReacted(commentEmoji.getCommentEmojiId()));
             emojiIDtoList.add(emojiIDto);
         }
         return emojiIDtoList;
     }
 
-    private void setIsCheckedEmoji(Member member, CommentEmoji commentEmoji1, CommentListResponseDto.EmojiIDto emojiIDto) {
-
-        List<CommentEmojiMember> commentEmojiMemberList = commentEmoji1.getCommentEmojiMembers();
-        Set<Long> commentEmojiMemberSet = commentEmojiMemberList.stream()
-                .map(commentEmojiMember -> commentEmojiMember.getMember().getId())
-                .collect(Collectors.toSet());
-        emojiIDto.setChecked(commentEmojiMemberSet.contains(member.getId()));
-    }
-
 }
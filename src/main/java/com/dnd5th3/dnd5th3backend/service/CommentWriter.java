@@ -0,0 +1,33 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.domain.comment.Comment;
+import com.dnd5th3.dnd5th3backend.repository.comment.CommentRepository;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 댓글 저장 트랜잭션
+ * 번호 발급(CommentSequenceAllocator)이 끝난 뒤 INSERT 와 게시글 댓글 수 증가만 같은 트랜잭션으로 실행한다.
+ * 댓글 수 증가는 게시글 행을 잠그지만, 등록 직후 댓글 목록의 totalCount 가 맞도록 조회수(PostsRankCounter)처럼 모아서 반영하지 않는다.
+ * (한 게시글에 동시에 등록할 때 처리량은 CommentInsertBenchmarkTest 로 확인)
+ */
+@RequiredArgsConstructor
+@Transactional
+@Component
+public class CommentWriter {
+
+    private static final int TOP_LAYER = 0;
+
+    private final CommentRepository commentRepository;
+    private final PostsRepository postsRepository;
+
+    public Comment save(Comment comment) {
+        Comment savedComment = commentRepository.save(comment);
+        if (savedComment.getCommentLayer() == TOP_LAYER) {
+            postsRepository.addCommentCount(savedComment.getPosts().getId(), 1);
+        }
+        return savedComment;
+    }
+}
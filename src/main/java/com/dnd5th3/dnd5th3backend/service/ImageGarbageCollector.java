@@ -0,0 +1,273 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.domain.image.ProductImage;
+import com.dnd5th3.dnd5th3backend.repository.image.ProductImageRepository;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import com.dnd5th3.dnd5th3backend.utils.LongHashSet;
+import com.dnd5th3.dnd5th3backend.utils.image.ImageVariant;
+import com.dnd5th3.dnd5th3backend.utils.storage.ObjectStorage;
+import com.dnd5th3.dnd5th3backend.utils.storage.StoredObject;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 어떤 게시글도 참조하지 않는 이미지(원본과 썸네일)를 저장소에서 삭제
+ * 참조 중인 이미지 key 는 64bit 지문으로 LongHashSet 에 담고, 저장소 목록은 page-size 단위로 읽으며 비교한다.
+ * 업로드 후 게시글 저장 전인 이미지를 지우지 않도록 grace-period 안에 올라왔거나 재사용된 이미지는 남겨둔다.
+ * 게시글의 이미지 URL 중 저장소 key 로 바꿀 수 없는 URL 이 있으면 참조 여부를 판단할 수 없으므로 아무것도 삭제하지 않는다.
+ */
+@Slf4j
+@Component
+public class ImageGarbageCollector {
+
+    private static final int REFERENCE_PAGE_SIZE = 1000;
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final ObjectStorage objectStorage;
+    private final PostsRepository postsRepository;
+    private final ProductImageRepository productImageRepository;
+    private final Clock clock;
+    private final String prefix;
+    private final Duration gracePeriod;
+    private final int pageSize;
+    private final int batchSize;
+
+    private final Counter scannedCounter;
+    private final Counter deletedCounter;
+    private final Counter reclaimedBytesCounter;
+    private final AtomicLong currentScanned = new AtomicLong();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Autowired
+    public ImageGarbageCollector(ObjectStorage objectStorage,
+                                 PostsRepository postsRepository,
+                                 ProductImageRepository productImageRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${image.gc.prefix:static}") String prefix,
+                                 @Value("${image.gc.grace-period-hours:24}") long gracePeriodHours,
+                                 @Value("${image.gc.page-size:1000}") int pageSize,
+                                 @Value("${image.gc.batch-size:500}") int batchSize) {
+        this(objectStorage, postsRepository, productImageRepository, meterRegistry, Clock.systemDefaultZone(),
+                prefix, Duration.ofHours(gracePeriodHours), pageSize, batchSize);
+    }
+
+    ImageGarbageCollector(ObjectStorage objectStorage,
+                          PostsRepository postsRepository,
+                          ProductImageRepository productImageRepository,
+                          MeterRegistry meterRegistry,
+                          Clock clock,
+                          String prefix,
+                          Duration gracePeriod,
+                          int pageSize,
+                          int batchSize) {
+        this.objectStorage = objectStorage;
+        this.postsRepository = postsRepository;
+        this.productImageRepository = productImageRepository;
+        this.clock = clock;
+        this.prefix = prefix;
+        this.gracePeriod = gracePeriod;
+        this.pageSize = pageSize;
+        this.batchSize = batchSize;
+        this.scannedCounter = Counter.builder("image.gc.scanned")
+                .description("미사용 이미지 정리 중 확인한 저장소 객체 수")
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder("image.gc.deleted")
+                .description("삭제한 미사용 이미지 객체 수")
+                .register(meterRegistry);
+        this.reclaimedBytesCounter = Counter.builder("image.gc.reclaimed")
+                .description("미사용 이미지 삭제로 확보한 저장 공간")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("image.gc.progress", currentScanned, AtomicLong::get)
+                .description("진행 중인 정리 작업에서 지금까지 확인한 객체 수 (실행 중이 아니면 0)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이미 실행 중이면 건너뛴다.
+     */
+    public Result collect() throws IOException {
+        if (!running.compareAndSet(false, true)) {
+            log.info("미사용 이미지 정리가 이미 실행 중");
+            return Result.EMPTY;
+        }
+        try {
+            Instant threshold = clock.instant().minus(gracePeriod);
+            LongHashSet referencedKeys = new LongHashSet();
+            long unknownUrlCount = loadReferencedKeys(referencedKeys);
+            Result result = new Result();
+            if (unknownUrlCount > 0) {
+                log.warn("저장소 key 로 바꿀 수 없는 게시글 이미지 URL {}건 - 미사용 이미지 정리 중단", unknownUrlCount);
+                return result;
+            }
+
+            List<StoredObject> orphans = new ArrayList<>();
+            String startAfter = null;
+            List<StoredObject> page;
+            do {
+                page = objectStorage.list(prefix, startAfter, pageSize);
+                for (StoredObject storedObject : page) {
+                    result.scanned++;
+                    if (storedObject.getLastModified().isBefore(threshold)
+                            && !referencedKeys.contains(fingerprint(ImageVariant.baseKeyOf(storedObject.getKey())))) {
+                        orphans.add(storedObject);
+                    }
+                }
+                scannedCounter.increment(page.size());
+                currentScanned.addAndGet(page.size());
+                if (orphans.size() >= batchSize) {
+                    deleteOrphans(orphans, threshold, result);
+                    orphans.clear();
+                }
+                if (!page.isEmpty()) {
+                    startAfter = page.get(page.size() - 1).getKey();
+                }
+            } while (page.size() == pageSize);
+            deleteOrphans(orphans, threshold, result);
+
+            log.info("미사용 이미지 정리 - 참조 {}건, 확인 {}건, 삭제 {}건, 확보 {}bytes",
+                    referencedKeys.size(), result.scanned, result.deleted, result.reclaimedBytes);
+            return result;
+        } finally {
+            currentScanned.set(0);
+            running.set(false);
+        }
+    }
+
+    /**
+     * @return key 로 바꿀 수 없는 URL 수
+     */
+    private long loadReferencedKeys(LongHashSet referencedKeys) {
+        AtomicLong unknownUrlCount = new AtomicLong();
+        Long lastId = null;
+        do {
+            lastId = postsRepository.scanProductImageUrls(lastId, REFERENCE_PAGE_SIZE, productImageUrl -> {
+                String key = objectStorage.keyOf(productImageUrl);
+                if (key == null) {
+                    if (unknownUrlCount.getAndIncrement() == 0) {
+                        log.warn("저장소 key 로 바꿀 수 없는 게시글 이미지 URL [{}]", productImageUrl);
+                    }
+                    return;
+                }
+                referencedKeys.add(fingerprint(ImageVariant.baseKeyOf(key)));
+            });
+        } while (lastId != null);
+        return unknownUrlCount.get();
+    }
+
+    /**
+     * 목록을 읽는 동안 새로 참조되거나 재사용된 이미지가 있을 수 있으므로 삭제 직전에 DB 에서 한 번 더 확인
+     * 내용 해시 이미지는 참조/재사용 확인과 이미지 정보 삭제를 한 문장으로 실행하고, 실제로 정보가 지워진 이미지의 객체만 삭제한다.
+     * 이미지 정보를 먼저 지워 이후 같은 내용의 업로드가 삭제될 객체를 재사용하지 않도록 한다.
+     * 이전 방식(UUID) 이미지는 이미지 정보가 없으므로 게시글이 같은 URL 을 참조하는지 확인한다.
+     * 업로드는 객체를 먼저 쓰고 이미지 정보를 등록하므로, 확인 사이에 같은 내용으로 다시 올린 객체는 수정 시간을 보고 남긴다.
+     */
+    private void deleteOrphans(List<StoredObject> orphans, Instant threshold, Result result) throws IOException {
+        if (orphans.isEmpty()) {
+            return;
+        }
+        Map<String, List<StoredObject>> orphansByHash = new HashMap<>();
+        Map<String, List<StoredObject>> legacyOrphansByUrl = new HashMap<>();
+        for (StoredObject orphan : orphans) {
+            String hash = hashOf(orphan.getKey());
+            if (hash == null) {
+                String url = objectStorage.urlOf(ImageVariant.baseKeyOf(orphan.getKey()));
+                legacyOrphansByUrl.computeIfAbsent(url, key -> new ArrayList<>()).add(orphan);
+            } else {
+                orphansByHash.computeIfAbsent(hash, key -> new ArrayList<>()).add(orphan);
+            }
+        }
+
+        List<StoredObject> deletable = new ArrayList<>();
+        if (!legacyOrphansByUrl.isEmpty()) {
+            postsRepository.findReferencedProductImageUrls(legacyOrphansByUrl.keySet()).forEach(legacyOrphansByUrl::remove);
+            legacyOrphansByUrl.values().forEach(deletable::addAll);
+        }
+
+        if (!orphansByHash.isEmpty()) {
+            List<ProductImage> productImages = productImageRepository.findAllByHashIn(orphansByHash.keySet());
+            if (!productImages.isEmpty()) {
+                LocalDateTime thresholdDateTime = LocalDateTime.ofInstant(threshold, clock.getZone());
+                productImageRepository.deleteUnusedByIdIn(productImages.stream().map(ProductImage::getId).collect(Collectors.toList()), thresholdDateTime);
+                //삭제되지 않았거나 그 사이 같은 내용으로 다시 등록된 이미지는 남긴다.
+                productImageRepository.findAllByHashIn(orphansByHash.keySet())
+                        .forEach(productImage -> orphansByHash.remove(productImage.getHash()));
+            }
+            for (List<StoredObject> hashOrphans : orphansByHash.values()) {
+                for (StoredObject orphan : hashOrphans) {
+                    if (isUnchangedSince(orphan.getKey(), threshold)) {
+                        deletable.add(orphan);
+                    }
+                }
+            }
+        }
+
+        if (deletable.isEmpty()) {
+            return;
+        }
+        objectStorage.delete(deletable.stream().map(StoredObject::getKey).collect(Collectors.toList()));
+        long reclaimedBytes = deletable.stream().mapToLong(StoredObject::getSize).sum();
+        result.deleted += deletable.size();
+        result.reclaimedBytes += reclaimedBytes;
+        deletedCounter.increment(deletable.size());
+        reclaimedBytesCounter.increment(reclaimedBytes);
+    }
+
+    /**
+     * 목록 조회 이후 다시 업로드되었거나 이미 지워진 객체는 false
+     */
+    private boolean isUnchangedSince(String key, Instant threshold) throws IOException {
+        StoredObject current = objectStorage.stat(key);
+        return current != null && current.getLastModified().isBefore(threshold);
+    }
+
+    /**
+     * 내용 해시로 저장된 key 의 해시 (static/{hash}_card.jpg -> {hash}), 이전 방식(UUID) key 는 null
+     */
+    private String hashOf(String key) {
+        String baseKey = ImageVariant.baseKeyOf(key);
+        String name = baseKey.substring(baseKey.lastIndexOf('/') + 1);
+        return HASH_PATTERN.matcher(name).matches() ? name : null;
+    }
+
+    /**
+     * FNV-1a 64bit
+     * 충돌하면 미사용 이미지를 지우지 못할 뿐 참조 중인 이미지를 지우지는 않는다.
+     */
+    static long fingerprint(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    @Getter
+    public static class Result {
+
+        private static final Result EMPTY = new Result();
+
+        private long scanned;
+        private long deleted;
+        private long reclaimedBytes;
+    }
+}
@@ -0,0 +1,34 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.controller.dto.post.MainPostDto;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 메인페이지 후보 게시글 스냅샷
+ * 주기적으로 새로 만들어 교체하며, 만들어진 뒤에는 변경되지 않는다.
+ */
+@Getter
+public class MainPostsSnapshot {
+
+    public static final MainPostsSnapshot EMPTY = new MainPostsSnapshot(List.of(), List.of(), List.of());
+
+    private final List<MainPostDto> topRankedPosts;
+    private final List<MainPostDto> bestResponsePosts;
+    private final List<MainPostDto> neckAndNeckPosts;
+    private final Instant createdAt;
+
+    public MainPostsSnapshot(List<MainPostDto> topRankedPosts, List<MainPostDto> bestResponsePosts, List<MainPostDto> neckAndNeckPosts) {
+        this.topRankedPosts = List.copyOf(topRankedPosts);
+        this.bestResponsePosts = List.copyOf(bestResponsePosts);
+        this.neckAndNeckPosts = List.copyOf(neckAndNeckPosts);
+        this.createdAt = Instant.now();
+    }
+
+    public long getAgeMillis() {
+        return Duration.between(createdAt, Instant.now()).toMillis();
+    }
+}
@@ -0,0 +1,86 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.controller.dto.post.MainPostDto;
+import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
+import com.dnd5th3.dnd5th3backend.domain.vote.vo.VoteRatioVo;
+import com.dnd5th3.dnd5th3backend.repository.comment.CommentRepository;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 메인페이지 스냅샷 보관소
+ * 상위 50개 게시글 조회와 후보군 계산은 스케줄러에서만 수행하고, 요청 스레드는 스냅샷에서 랜덤 선택만 한다.
+ */
+@Slf4j
+@Component
+public class MainPostsSnapshotHolder {
+
+    private static final int BEST_RESPONSE_CANDIDATE_SIZE = 5;
+    private static final long NECK_AND_NECK_RATIO_GAP = 10;
+
+    private final PostsRepository postsRepository;
+    private final CommentRepository commentRepository;
+    private volatile MainPostsSnapshot snapshot;
+
+    public MainPostsSnapshotHolder(PostsRepository postsRepository, CommentRepository commentRepository, MeterRegistry meterRegistry) {
+        this.postsRepository = postsRepository;
+        this.commentRepository = commentRepository;
+        Gauge.builder("posts.main.snapshot.age", this, holder -> holder.getSnapshotAgeMillis() / 1000.0)
+                .description("메인페이지 스냅샷 생성 후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public MainPostsSnapshot getSnapshot() {
+        MainPostsSnapshot current = snapshot;
+        //첫 갱신 전에는 빈 스냅샷 반환
+        return current == null ? MainPostsSnapshot.EMPTY : current;
+    }
+
+    @Transactional(readOnly = true)
+    public synchronized void refresh() {
+        //상위 50개 컨텐츠 추출
+        List<Posts> top50RankedList = postsRepository.findPostsTop50Ranked();
+
+        //반응(댓글)이 있는 게시글을 댓글수로 정렬한 뒤 상위 5개 (댓글 컬렉션을 읽지 않고 GROUP BY 로 댓글 수만 조회)
+        Map<Long, Long> commentCounts = commentRepository.countCommentsByPostIds(
+                top50RankedList.stream().map(Posts::getId).collect(Collectors.toList()));
+        List<MainPostDto> bestResponsePosts = top50RankedList.stream()
+                .filter(p -> commentCounts.containsKey(p.getId()))
+                .sorted(Comparator.comparingLong((Posts p) -> commentCounts.get(p.getId())).reversed())
+                .limit(BEST_RESPONSE_CANDIDATE_SIZE)
+                .map(MainPostDto::of)
+                .collect(Collectors.toList());
+
+        //투표비율 차이가 10% 이내인 게시글
+        List<MainPostDto> neckAndNeckPosts = top50RankedList.stream()
+                .filter(p -> {
+                    VoteRatioVo ratioVo = new VoteRatioVo(p);
+                    return (ratioVo.getRejectRatio() != 0 && ratioVo.getPermitRatio() != 0)
+                            && Math.abs(ratioVo.getPermitRatio() - ratioVo.getRejectRatio()) <= NECK_AND_NECK_RATIO_GAP;
+                })
+                .map(MainPostDto::of)
+                .collect(Collectors.toList());
+
+        List<MainPostDto> topRankedPosts = top50RankedList.stream()
+                .map(MainPostDto::of)
+                .collect(Collectors.toList());
+
+        snapshot = new MainPostsSnapshot(topRankedPosts, bestResponsePosts, neckAndNeckPosts);
+        log.debug("메인페이지 스냅샷 갱신 - 후보 {}건", topRankedPosts.size());
+    }
+
+    private long getSnapshotAgeMillis() {
+        MainPostsSnapshot current = snapshot;
+        return current == null ? 0 : current.getAgeMillis();
+    }
+}
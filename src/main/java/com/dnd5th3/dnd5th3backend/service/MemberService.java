@@ -1,5 +1,6 @@
 package com.dnd5th3.dnd5th3backend.service;
 
+import com.dnd5th3.dnd5th3backend.config.security.PasswordHasher;
 import com.dnd5th3.dnd5th3backend.config.security.jwt.JwtTokenProvider;
 import com.dnd5th3.dnd5th3backend.controller.dto.member.MemberListResponseDto;
 import com.dnd5th3.dnd5th3backend.controller.dto.member.MemberReissueTokenResponseDto;
@@ -10,6 +11,7 @@ import com.dnd5th3.dnd5th3backend.domain.member.MemberType;
 import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
 import com.dnd5th3.dnd5th3backend.exception.TokenException;
 import com.dnd5th3.dnd5th3backend.repository.comment.CommentRepository;
+import com.dnd5th3.dnd5th3backend.repository.member.MemberCache;
 import com.dnd5th3.dnd5th3backend.repository.member.MemberRepository;
 import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
 import com.dnd5th3.dnd5th3backend.utils.EmailSender;
@@ -21,15 +23,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.mail.MessagingException;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -37,42 +41,70 @@ import java.util.List;
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final MemberCache memberCache;
+    private final MemberWriter memberWriter;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
     private final CommentRepository commentRepository;
     private final PostsRepository postsRepository;
     private final EmailSender emailSender;
     private final ModelMapper modelMapper;
     private static final int PAGE_SIZE = 3;
+    private static final int TOP_COMMENT_LAYER = 0;
 
 
     public Member saveMember(MemberRequestDto memberRequestDto) {
-        String encode = passwordEncoder.encode(memberRequestDto.getPassword());
+        String encode = passwordHasher.encode(memberRequestDto.getPassword());
         Member member = Member.create(memberRequestDto, encode);
         return memberRepository.save(member);
     }
 
+    /**
+     * 엑세스 토큰 재발급, 사용한 리프레시 토큰은 폐기하고 새 리프레시 토큰으로 교체한다.
+     */
     public MemberReissueTokenResponseDto reissueAccessToken(MemberRequestDto memberRequestDto){
-        Member member = memberRepository.findByEmail(memberRequestDto.getEmail());
-        String refreshToken = member.getRefreshToken();
-        String reissueAccessToken;
-
-        if(memberRequestDto.getRefreshToken().equals(refreshToken)){
-            if(jwtTokenProvider.isValidToken(refreshToken)){
-              reissueAccessToken = jwtTokenProvider.createAccessToken(member);
-            }else {
-                throw new TokenException();
-            }
-        }else {
+        Member member = memberCache.findByEmail(memberRequestDto.getEmail());
+        String refreshToken = memberRequestDto.getRefreshToken();
+        //탈퇴한 회원은 탈퇴 전에 받은 리프레시 토큰으로도 재발급할 수 없다.
+        if(member == null || refreshToken == null || MemberType.WITHDRAWAL.equals(member.getMemberType())){
             throw new IllegalArgumentException("refreshToken이 유효하지 않습니다.");
         }
 
+        String reissueRefreshToken;
+        if(refreshToken.equals(member.getRefreshToken())){
+            reissueRefreshToken = reissueLegacyRefreshToken(member, refreshToken);
+        }else {
+            reissueRefreshToken = jwtTokenProvider.rotateRefreshToken(member, refreshToken);
+        }
+
         return  MemberReissueTokenResponseDto.builder()
                 .email(member.getEmail())
-                .accessToken(reissueAccessToken)
+                .accessToken(jwtTokenProvider.createAccessToken(member))
+                .refreshToken(reissueRefreshToken)
                 .build();
     }
 
+    /**
+     * 저장소 도입 전 회원 테이블에 저장한 리프레시 토큰은 한 번만 사용하고 저장소 토큰으로 교체
+     */
+    private String reissueLegacyRefreshToken(Member member, String refreshToken){
+        if(!jwtTokenProvider.isValidToken(refreshToken)){
+            throw new TokenException();
+        }
+        if(memberRepository.clearLegacyRefreshToken(member.getId(), refreshToken) == 0){
+            throw new IllegalArgumentException("refreshToken이 유효하지 않습니다.");
+        }
+        memberCache.evict(member);
+        return jwtTokenProvider.createRefreshToken(member);
+    }
+
+    /**
+     * 로그아웃, 요청한 엑세스 토큰과 리프레시 토큰 폐기
+     */
+    public void logout(String accessToken, MemberRequestDto memberRequestDto){
+        jwtTokenProvider.revokeTokens(accessToken, memberRequestDto.getRefreshToken());
+    }
+
     public boolean isExistsEmail(String email){
       return memberRepository.existsByEmail(email);
     }
@@ -82,28 +114,24 @@ public class MemberService {
     }
 
     public boolean isCollectPassword(String password,Member member){
-        Member targetMember = memberRepository.findByEmail(member.getEmail());
+        Member targetMember = memberCache.findByEmail(member.getEmail());
         if(MemberType.SOCIAL.equals(targetMember.getMemberType())){
             throw new IllegalArgumentException();
         }
-        return passwordEncoder.matches(password,targetMember.getPassword());
+        return passwordHasher.matches(password,targetMember.getPassword());
     }
 
     public boolean isSocialAccount(String email){
-        Member member = memberRepository.findByEmail(email);
+        Member member = memberCache.findByEmail(email);
         return MemberType.SOCIAL.equals(member.getMemberType());
     }
 
-    @Transactional
+    /**
+     * 비밀번호 해시는 트랜잭션(DB 커넥션) 밖에서 만든 뒤 MemberWriter 로 변경한다.
+     */
     public Member updateMember(MemberRequestDto memberRequestDto, Member member) {
-        Member targetMember = memberRepository.findByEmail(member.getEmail());
-        if(memberRequestDto.getPassword() != null){
-            String encode = passwordEncoder.encode(memberRequestDto.getPassword());
-            targetMember.update(memberRequestDto.getName(),encode);
-        }else {
-            targetMember.update(memberRequestDto.getName(),memberRequestDto.getPassword());
-        }
-        return targetMember;
+        String encode = memberRequestDto.getPassword() == null ? null : passwordHasher.encode(memberRequestDto.getPassword());
+        return memberWriter.update(member.getEmail(), memberRequestDto.getName(), encode);
     }
 
     @Transactional
@@ -113,9 +141,16 @@ public class MemberService {
             List<Comment> commentList = targetMember.getCommentList();
             List<Posts> postsList = targetMember.getPostsList();
 
+            //삭제되지 않은 최상위 댓글만큼 게시글의 댓글 수를 줄인다.
+            commentList.stream()
+                    .filter(comment -> Boolean.FALSE.equals(comment.getIsDeleted()) && comment.getCommentLayer() == TOP_COMMENT_LAYER)
+                    .collect(Collectors.groupingBy(comment -> comment.getPosts().getId(), Collectors.counting()))
+                    .forEach((postId, commentCount) -> postsRepository.addCommentCount(postId, -commentCount));
             commentRepository.deleteAll(commentList);
             postsRepository.deleteAll(postsList);
             targetMember.updateMemberType(MemberType.WITHDRAWAL);
+            jwtTokenProvider.revokeTokens(targetMember);
+            memberCache.evict(targetMember);
 
             return targetMember;
         }else {
@@ -123,17 +158,40 @@ public class MemberService {
         }
     }
 
-    @Transactional
+    /**
+     * 임시 비밀번호로 변경한 뒤 커밋되면 메일 발송 (해시 생성이나 변경에 실패하면 메일을 보내지 않는다.)
+     * 해시는 트랜잭션(DB 커넥션) 밖에서 만든 뒤 MemberWriter 로 변경한다.
+     */
     public void resetPasswordMember(MemberRequestDto memberRequestDto) throws MessagingException {
         Member member = memberRepository.findByEmail(memberRequestDto.getEmail());
         if(member != null && MemberType.GENERAL.equals(member.getMemberType())){
             String tempPassword = RandomNumber.generatePassword();
+            Member updatedMember = memberWriter.resetPassword(member.getEmail(), passwordHasher.encode(tempPassword));
+            if(updatedMember != null){
+                sendTemporaryPasswordAfterCommit(updatedMember,tempPassword);
+                return;
+            }
+        }
+        log.error("패스워드 초기화 오류 : [{}]",memberRequestDto.getEmail());
+        throw new IllegalArgumentException();
+    }
+
+    private void sendTemporaryPasswordAfterCommit(Member member, String tempPassword) throws MessagingException {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
             emailSender.sendTemporaryPassword(member,tempPassword);
-            member.update(null,passwordEncoder.encode(tempPassword));
-        }else {
-            log.error("패스워드 초기화 오류 : [{}]",memberRequestDto.getEmail());
-            throw new IllegalArgumentException();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    emailSender.sendTemporaryPassword(member,tempPassword);
+                } catch (MessagingException e) {
+                    log.error("임시 비밀번호 메일 발송 오류 : [{}]",member.getEmail(),e);
+                    throw new IllegalStateException("임시 비밀번호 메일 발송에 실패했습니다.",e);
+                }
+            }
+        });
     }
 
     @Transactional
@@ -145,6 +203,7 @@ public class MemberService {
             if(between >= termDay){
                 log.info(" 탈퇴한 회원 - [{}]",member.getEmail());
                 memberRepository.delete(member);
+                memberCache.evict(member);
             }
         }
     }
@@ -0,0 +1,52 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.config.security.jwt.JwtTokenProvider;
+import com.dnd5th3.dnd5th3backend.domain.member.Member;
+import com.dnd5th3.dnd5th3backend.domain.member.MemberType;
+import com.dnd5th3.dnd5th3backend.repository.member.MemberCache;
+import com.dnd5th3.dnd5th3backend.repository.member.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 회원 정보 변경 트랜잭션
+ * 비밀번호 해시는 오래 걸리므로 MemberService 에서 트랜잭션 밖에서 만들고, UPDATE 와 토큰 폐기만 짧은 트랜잭션으로 실행한다.
+ */
+@RequiredArgsConstructor
+@Transactional
+@Component
+public class MemberWriter {
+
+    private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    /**
+     * @param encodePassword 비밀번호를 바꾸지 않으면 null
+     */
+    public Member update(String email, String name, String encodePassword) {
+        Member targetMember = memberRepository.findByEmail(email);
+        targetMember.update(name, encodePassword);
+        if (encodePassword != null) {
+            //비밀번호를 바꾸면 모든 기기에서 다시 로그인하도록 리프레시 토큰, 엑세스 토큰 폐기
+            jwtTokenProvider.revokeTokens(targetMember);
+        }
+        memberCache.evict(targetMember);
+        return targetMember;
+    }
+
+    /**
+     * @return 해시를 만드는 사이 탈퇴했거나 일반 회원이 아니면 null
+     */
+    public Member resetPassword(String email, String encodePassword) {
+        Member member = memberRepository.findByEmail(email);
+        if (member == null || !MemberType.GENERAL.equals(member.getMemberType())) {
+            return null;
+        }
+        member.update(null, encodePassword);
+        jwtTokenProvider.revokeTokens(member);
+        memberCache.evict(member);
+        return member;
+    }
+}
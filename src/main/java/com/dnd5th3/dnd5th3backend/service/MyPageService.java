@@ -7,6 +7,7 @@ import com.dnd5th3.dnd5th3backend.domain.member.Member;
 import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
 import com.dnd5th3.dnd5th3backend.domain.vote.Vote;
 import com.dnd5th3.dnd5th3backend.domain.vote.vo.VoteRatioVo;
+import com.dnd5th3.dnd5th3backend.repository.member.MemberCache;
 import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
 import com.dnd5th3.dnd5th3backend.repository.vote.VoteRepository;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ public class MyPageService {
 
     private final PostsRepository postsRepository;
     private final VoteRepository voteRepository;
+    private final MemberCache memberCache;
 
     public InfoResponseDto getMemberInfoWithSortType(Member member, String sorted) {
         List<PostsListDto> postsList = new ArrayList<>();
@@ -46,9 +48,13 @@ public class MyPageService {
             postsList = PostsListDto.makePostsToListDtos(posts);
         }
 
+        //인증 정보에는 회원 id, 이메일만 있으므로 닉네임은 회원을 조회한다.
+        Member foundMember = memberCache.findById(member.getId())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+
         return InfoResponseDto.builder()
-                .name(member.getName())
-                .email(member.getEmail())
+                .name(foundMember.getName())
+                .email(foundMember.getEmail())
                 .postsList(postsList)
                 .build();
     }
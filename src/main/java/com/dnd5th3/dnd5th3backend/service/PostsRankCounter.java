@@ -0,0 +1,119 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수(rankCount) 쓰기 지연 버퍼
+ * 상세 조회마다 UPDATE 를 실행하지 않고 메모리에 누적한 뒤 주기적으로 한 번에 반영한다.
+ * 증가는 카운터를 꺼내 LongAdder 에 더하기만 하므로 같은 게시글 조회가 몰려도 잠금 없이 처리한다.
+ * 두 번 연속 증가분이 없었던 카운터는 Map 에서 제거하되, 제거 직전에 카운터를 꺼낸 요청이 나중에 더할 수 있으므로
+ * 제거한 카운터도 RETIRED_KEEP_NANOS 동안 보관하며 반영할 때마다 남은 값을 함께 반영한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostsRankCounter {
+
+    private static final long RETIRED_KEEP_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final PostsRepository postsRepository;
+    private final Map<Long, LongAdder> counters = new ConcurrentHashMap<>();
+    //직전 반영에서 증가분이 없었던 게시글 (flush 에서만 사용)
+    private final Set<Long> idlePostIds = new HashSet<>();
+    //Map 에서 제거한 카운터, 제거한 순서 (flush 에서만 사용)
+    private final Deque<RetiredCounter> retiredCounters = new ArrayDeque<>();
+
+    public void increase(Long postId) {
+        add(postId, 1);
+    }
+
+    public long getBufferedCount(Long postId) {
+        LongAdder counter = counters.get(postId);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        Set<Long> evictPostIds = new HashSet<>();
+        //제거된 뒤에 더해진 증가분 반영
+        long now = System.nanoTime();
+        while (!retiredCounters.isEmpty() && now - retiredCounters.peekFirst().retiredAt > RETIRED_KEEP_NANOS) {
+            retiredCounters.pollFirst();
+        }
+        retiredCounters.forEach(retired -> drainInto(deltas, retired.postId, retired.counter));
+        counters.forEach((postId, counter) -> {
+            long delta = counter.sum();
+            if (delta == 0) {
+                //두 번 연속 증가분이 없었던 게시글만 제거 대상
+                if (!idlePostIds.add(postId)) {
+                    evictPostIds.add(postId);
+                }
+                return;
+            }
+            idlePostIds.remove(postId);
+            //반영하는 동안 들어온 증가분이 남도록 읽은 값만큼만 차감
+            counter.add(-delta);
+            deltas.merge(postId, delta, Long::sum);
+        });
+        evictPostIds.forEach(postId -> {
+            idlePostIds.remove(postId);
+            LongAdder counter = counters.get(postId);
+            if (counter != null && counters.remove(postId, counter)) {
+                drainInto(deltas, postId, counter);
+                retiredCounters.addLast(new RetiredCounter(postId, counter, now));
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            postsRepository.addRankCounts(deltas);
+            log.debug("rankCount 반영 - 게시글 {}건", deltas.size());
+        } catch (RuntimeException e) {
+            //반영 실패시 버퍼로 되돌려 다음 주기에 재시도
+            deltas.forEach(this::add);
+            log.error("rankCount 반영 실패 - {}", e.getMessage());
+        }
+    }
+
+    private void add(Long postId, long delta) {
+        LongAdder counter = counters.get(postId);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(postId, id -> new LongAdder());
+        }
+        counter.add(delta);
+    }
+
+    /**
+     * 카운터에 남은 값을 반영 목록으로 옮긴다.
+     */
+    private static void drainInto(Map<Long, Long> deltas, Long postId, LongAdder counter) {
+        long residual = counter.sum();
+        if (residual != 0) {
+            counter.add(-residual);
+            deltas.merge(postId, residual, Long::sum);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class RetiredCounter {
+        private final Long postId;
+        private final LongAdder counter;
+        private final long retiredAt;
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+}
@@ -0,0 +1,352 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import com.dnd5th3.dnd5th3backend.utils.BigramTokenizer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/내용 검색용 인메모리 역색인
+ * 시작 시 전체 게시글을 적재하고, 이후에는 게시글 저장/수정/삭제가 커밋될 때마다 갱신한다.
+ * 게시글마다 순번(docNo)을 증가시키며 부여하므로 토큰별 posting 목록은 항상 docNo 오름차순이다.
+ * 수정/삭제된 게시글은 순번만 비워두고, 빈 순번이 일정 비율을 넘으면 순번을 다시 매기며 한 번에 정리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostsSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int MIN_COMPACT_TOMBSTONES = 10000;
+
+    private final PostsRepository postsRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postingsByToken = new HashMap<>();
+    private final Map<Long, Integer> docNoByPostId = new HashMap<>();
+    private final List<IndexedPost> docs = new ArrayList<>();
+    private int tombstoneCount;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.currentTimeMillis();
+        long lastId = 0L;
+        int count = 0;
+        List<Posts> batch;
+        do {
+            batch = postsRepository.findPostsForIndex(lastId, LOAD_BATCH_SIZE);
+            for (Posts posts : batch) {
+                index(posts);
+                lastId = posts.getId();
+            }
+            count += batch.size();
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        log.info("검색 인덱스 생성 완료 - 게시글 {}건, 토큰 {}개, {}ms", count, getTokenCount(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤 색인 (롤백된 변경이 검색되지 않도록)
+     */
+    public void indexAfterCommit(Posts posts) {
+        runAfterCommit(() -> index(posts));
+    }
+
+    public void removeAfterCommit(Long postId) {
+        runAfterCommit(() -> remove(postId));
+    }
+
+    public void index(Posts posts) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        BigramTokenizer.tokenize(posts.getTitle()).forEach(token -> termFrequencies.merge(token, TITLE_WEIGHT, Integer::sum));
+        BigramTokenizer.tokenize(posts.getContent()).forEach(token -> termFrequencies.merge(token, 1, Integer::sum));
+        IndexedPost indexedPost = new IndexedPost(posts);
+
+        lock.writeLock().lock();
+        try {
+            removeDoc(posts.getId());
+            int docNo = docs.size();
+            docs.add(indexedPost);
+            docNoByPostId.put(posts.getId(), docNo);
+            termFrequencies.forEach((token, frequency) -> postingsByToken.computeIfAbsent(token, t -> new Postings()).add(docNo, frequency));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(postId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 게시글을 tf-idf 점수순(같으면 최신 게시글 우선)으로 조회
+     * 가장 짧은 posting 목록을 기준으로 나머지 목록을 이진 탐색하며 교집합을 구하고,
+     * 요청한 페이지까지만 힙에 유지한다. (힙 크기는 살아있는 게시글 수를 넘지 않는다.)
+     */
+    public SearchResult search(String keyword, Boolean isVoted, Boolean isPostsEnd, int page, int size) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(BigramTokenizer.tokenize(keyword)));
+        if (tokens.isEmpty() || page < 0 || size <= 0) {
+            return SearchResult.EMPTY;
+        }
+        long now = toEpochSecond(LocalDateTime.now());
+        long offset = (long) page * size;
+        Comparator<ScoredPost> ranking = Comparator.comparingDouble(ScoredPost::getScore).thenComparingLong(ScoredPost::getPostId);
+        PriorityQueue<ScoredPost> topPosts = new PriorityQueue<>(ranking);
+        int totalCount = 0;
+
+        lock.readLock().lock();
+        try {
+            List<Postings> postingsList = new ArrayList<>();
+            for (String token : tokens) {
+                Postings postings = postingsByToken.get(token);
+                if (postings == null) {
+                    return SearchResult.EMPTY;
+                }
+                postingsList.add(postings);
+            }
+            postingsList.sort(Comparator.comparingInt(Postings::getSize));
+
+            int liveDocCount = docNoByPostId.size();
+            //살아있는 게시글 수보다 뒤의 페이지는 비어있으므로 건너뛴다.
+            if (offset >= liveDocCount) {
+                return SearchResult.EMPTY;
+            }
+            int limit = (int) Math.min(offset + size, liveDocCount);
+            double[] idf = new double[postingsList.size()];
+            for (int i = 0; i < idf.length; i++) {
+                idf[i] = Math.log(1 + (double) liveDocCount / postingsList.get(i).getSize());
+            }
+
+            Postings base = postingsList.get(0);
+            int[] positions = new int[postingsList.size()];
+            for (int i = 0; i < base.getSize(); i++) {
+                int docNo = base.docNos[i];
+                IndexedPost doc = docs.get(docNo);
+                if (doc == null || !doc.matches(isVoted, isPostsEnd, now)) {
+                    continue;
+                }
+                double score = base.frequencies[i] * idf[0];
+                boolean matchedAll = true;
+                for (int j = 1; j < postingsList.size(); j++) {
+                    Postings other = postingsList.get(j);
+                    int found = Arrays.binarySearch(other.docNos, positions[j], other.getSize(), docNo);
+                    if (found < 0) {
+                        positions[j] = -found - 1;
+                        matchedAll = false;
+                        break;
+                    }
+                    positions[j] = found + 1;
+                    score += other.frequencies[found] * idf[j];
+                }
+                if (!matchedAll) {
+                    continue;
+                }
+                totalCount++;
+                if (topPosts.size() < limit) {
+                    topPosts.add(new ScoredPost(doc.postId, score));
+                } else if (isRankedHigher(score, doc.postId, topPosts.peek())) {
+                    topPosts.poll();
+                    topPosts.add(new ScoredPost(doc.postId, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<ScoredPost> ranked = new ArrayList<>(topPosts);
+        ranked.sort(ranking.reversed());
+        List<Long> postIds = new ArrayList<>();
+        for (int i = (int) offset; i < ranked.size(); i++) {
+            postIds.add(ranked.get(i).getPostId());
+        }
+        return new SearchResult(postIds, totalCount);
+    }
+
+    public int getDocCount() {
+        lock.readLock().lock();
+        try {
+            return docNoByPostId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 빈 순번을 포함한 전체 순번 수
+     */
+    int getSlotCount() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTokenCount() {
+        lock.readLock().lock();
+        try {
+            return postingsByToken.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isRankedHigher(double score, long postId, ScoredPost lowest) {
+        return score > lowest.getScore() || (score == lowest.getScore() && postId > lowest.getPostId());
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private void removeDoc(Long postId) {
+        Integer docNo = docNoByPostId.remove(postId);
+        if (docNo != null) {
+            docs.set(docNo, null);
+            tombstoneCount++;
+        }
+    }
+
+    /**
+     * 빈 순번이 살아있는 게시글의 1/4 을 넘으면 살아있는 게시글에 순번을 앞에서부터 다시 매기고 빈 순번을 제거
+     * 순번의 상대 순서는 그대로이므로 posting 목록도 docNo 오름차순이 유지된다.
+     */
+    private void compactIfNeeded() {
+        if (tombstoneCount < MIN_COMPACT_TOMBSTONES || tombstoneCount * 4 < docNoByPostId.size()) {
+            return;
+        }
+        int[] newDocNos = new int[docs.size()];
+        List<IndexedPost> liveDocs = new ArrayList<>(docNoByPostId.size());
+        for (int docNo = 0; docNo < docs.size(); docNo++) {
+            IndexedPost doc = docs.get(docNo);
+            if (doc == null) {
+                newDocNos[docNo] = -1;
+                continue;
+            }
+            newDocNos[docNo] = liveDocs.size();
+            docNoByPostId.put(doc.postId, liveDocs.size());
+            liveDocs.add(doc);
+        }
+        docs.clear();
+        docs.addAll(liveDocs);
+        postingsByToken.values().removeIf(postings -> postings.retainLiveDocs(newDocNos) == 0);
+        tombstoneCount = 0;
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class SearchResult {
+
+        private static final SearchResult EMPTY = new SearchResult(Collections.emptyList(), 0);
+
+        private final List<Long> postIds;
+        private final int totalCount;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class ScoredPost {
+        private final long postId;
+        private final double score;
+    }
+
+    /**
+     * 검색 필터에 필요한 값만 보관 (마감 시간은 epoch 초로 저장)
+     */
+    private static class IndexedPost {
+        private final long postId;
+        private final boolean isVoted;
+        private final boolean isPostsEnd;
+        private final long voteDeadline;
+        private final long postsDeadline;
+
+        private IndexedPost(Posts posts) {
+            this.postId = posts.getId();
+            this.isVoted = Boolean.TRUE.equals(posts.getIsVoted());
+            this.isPostsEnd = Boolean.TRUE.equals(posts.getIsPostsEnd());
+            this.voteDeadline = toEpochSecond(posts.getVoteDeadline());
+            this.postsDeadline = toEpochSecond(posts.getPostsDeadline());
+        }
+
+        private boolean matches(Boolean isVotedFilter, Boolean isPostsEndFilter, long now) {
+            if (isVotedFilter != null && isVotedFilter != (isVoted || now > voteDeadline)) {
+                return false;
+            }
+            return isPostsEndFilter == null || isPostsEndFilter == (isPostsEnd || now > postsDeadline);
+        }
+    }
+
+    /**
+     * 토큰 하나의 (docNo, 빈도) 목록
+     */
+    private static class Postings {
+        private int[] docNos = new int[4];
+        private int[] frequencies = new int[4];
+        @Getter
+        private int size;
+
+        private void add(int docNo, int frequency) {
+            if (size == docNos.length) {
+                docNos = Arrays.copyOf(docNos, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docNos[size] = docNo;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        /**
+         * @param newDocNos 이전 순번 -> 새 순번, 제거된 게시글은 -1
+         */
+        private int retainLiveDocs(int[] newDocNos) {
+            int retained = 0;
+            for (int i = 0; i < size; i++) {
+                int newDocNo = newDocNos[docNos[i]];
+                if (newDocNo >= 0) {
+                    docNos[retained] = newDocNo;
+                    frequencies[retained] = frequencies[i];
+                    retained++;
+                }
+            }
+            size = retained;
+            if (size * 4 < docNos.length && docNos.length > 4) {
+                docNos = Arrays.copyOf(docNos, Math.max(4, size));
+                frequencies = Arrays.copyOf(frequencies, Math.max(4, size));
+            }
+            return retained;
+        }
+    }
+}
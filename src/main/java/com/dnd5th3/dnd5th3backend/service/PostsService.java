@@ -1,24 +1,28 @@
 package com.dnd5th3.dnd5th3backend.service;
 
 import com.dnd5th3.dnd5th3backend.controller.dto.post.*;
+import com.dnd5th3.dnd5th3backend.domain.image.ProductImage;
 import com.dnd5th3.dnd5th3backend.domain.member.Member;
 import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
 import com.dnd5th3.dnd5th3backend.domain.vote.VoteType;
-import com.dnd5th3.dnd5th3backend.domain.vote.vo.VoteRatioVo;
 import com.dnd5th3.dnd5th3backend.exception.NoAuthorizationException;
+import com.dnd5th3.dnd5th3backend.exception.PostNotFoundException;
 import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
 import com.dnd5th3.dnd5th3backend.utils.RandomNumber;
 import com.dnd5th3.dnd5th3backend.utils.S3Uploader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -29,17 +33,31 @@ public class PostsService {
     private final VoteService voteService;
     private final PostsRepository postsRepository;
     private final S3Uploader s3Uploader;
-
+    private final PostsWriter postsWriter;
+    private final PostsRankCounter postsRankCounter;
+    private final MainPostsSnapshotHolder mainPostsSnapshotHolder;
+    private final VoteIngestionQueue voteIngestionQueue;
+    private final VoteRatioBroadcaster voteRatioBroadcaster;
+    private final PostsSearchIndex postsSearchIndex;
+    private final PostsTrendingRanking postsTrendingRanking;
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_SEARCH_PAGE = 500;
+
+    /**
+     * 이미지 업로드는 트랜잭션 밖에서 먼저 끝내고, 저장만 짧은 트랜잭션으로 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public IdResponseDto savePost(PostRequestDto requestDto, Member member) throws IOException {
-        String productImageUrl = s3Uploader.upload(requestDto.getFile(), S3Uploader.DIR_NAME);
-        Posts savedPost = postsRepository.save(requestDto.toEntity(member, productImageUrl));
+        ProductImage productImage = s3Uploader.upload(requestDto.getFile(), S3Uploader.DIR_NAME);
+        Posts savedPost = postsWriter.save(requestDto.toEntity(member, productImage));
         return IdResponseDto.builder().id(savedPost.getId()).build();
     }
 
+    @Transactional(readOnly = true)
     public PostResponseDto getDetailPost(Long id, Member member) {
         Posts foundPost = postsRepository.findPostsById(id);
-        foundPost.updateVoteStatusAndPostStatus();
-        foundPost.increaseRankCount();
+        postsRankCounter.increase(foundPost.getId());
+        postsTrendingRanking.recordView(foundPost.getId());
         VoteType currentMemberVoteType = voteService.getVoteType(member, foundPost);
 
         return PostResponseDto.builder()
@@ -48,7 +66,7 @@ public class PostsService {
                 .title(foundPost.getTitle())
                 .content(foundPost.getContent())
                 .productImageUrl(foundPost.getProductImageUrl())
-                .isVoted(foundPost.getIsVoted())
+                .isVoted(foundPost.isVoteFinished())
                 .permitCount(foundPost.getPermitCount())
                 .rejectCount(foundPost.getRejectCount())
                 .createdDate(foundPost.getCreatedDate())
@@ -57,15 +75,19 @@ public class PostsService {
                 .build();
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public IdResponseDto updatePost(Long id, PostRequestDto requestDto, Member member) throws IOException {
+        //업로드 전에 권한 확인
         Posts foundPost = postsRepository.findPostsById(id);
         if (foundPost.getMember().getId() != member.getId()) {
             throw new NoAuthorizationException("수정 권한 없음");
         }
-        String productImageUrl = s3Uploader.upload(requestDto.getFile(), S3Uploader.DIR_NAME);
-        foundPost.update(requestDto.getTitle(), requestDto.getContent(), productImageUrl);
+        //새 이미지 없이 수정하면 기존 이미지를 유지한다. (null 은 변경하지 않음)
+        MultipartFile file = requestDto.getFile();
+        ProductImage productImage = file == null || file.isEmpty() ? null : s3Uploader.upload(file, S3Uploader.DIR_NAME);
+        Posts updatedPost = postsWriter.update(id, requestDto.getTitle(), requestDto.getContent(), productImage);
 
-        return IdResponseDto.builder().id(foundPost.getId()).build();
+        return IdResponseDto.builder().id(updatedPost.getId()).build();
     }
 
     public IdResponseDto deletePost(Long id, Member member) {
@@ -74,67 +96,127 @@ public class PostsService {
             throw new NoAuthorizationException("삭제 권한 없음");
         }
         postsRepository.delete(foundPost);
+        postsSearchIndex.removeAfterCommit(foundPost.getId());
+        postsTrendingRanking.remove(foundPost.getId());
 
         return IdResponseDto.builder().id(foundPost.getId()).build();
     }
 
-    public AllPostResponseDto getPostListWithSortType(String sortType) {
-        List<Posts> postsList = postsRepository.findPostsWithSortType(sortType);
-        postsList.forEach(post -> post.updateVoteStatusAndPostStatus());
+    @Transactional(readOnly = true)
+    public AllPostResponseDto getPostListWithSortType(String sortType, String cursor) {
+        if (SortType.TRENDING.getValue().equals(sortType)) {
+            return getTrendingPostList();
+        }
+        //다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Posts> postsList = postsRepository.findPostsWithSortType(sortType, PostsCursor.decode(cursor), PAGE_SIZE + 1);
+        String nextCursor = null;
+        if (postsList.size() > PAGE_SIZE) {
+            postsList = postsList.subList(0, PAGE_SIZE);
+            nextCursor = PostsCursor.of(postsList.get(PAGE_SIZE - 1), sortType).encode();
+        }
         List<PostsListDto> listDtos = PostsListDto.makePostsToListDtos(postsList);
+        return AllPostResponseDto.builder().listDtos(listDtos).nextCursor(nextCursor).build();
+    }
+
+    @Transactional(readOnly = true)
+    public SearchPostResponseDto searchPosts(String keyword, Boolean isVoted, Boolean isPostsEnd, int page) {
+        if (page < 0 || page > MAX_SEARCH_PAGE) {
+            throw new IllegalArgumentException("유효하지 않은 페이지입니다.");
+        }
+        PostsSearchIndex.SearchResult result = postsSearchIndex.search(keyword, isVoted, isPostsEnd, page, PAGE_SIZE);
+        List<Long> postIds = result.getPostIds();
+        List<PostsListDto> listDtos = PostsListDto.makePostsToListDtos(findPostsInOrder(postIds));
+        boolean hasNext = (long) (page + 1) * PAGE_SIZE < result.getTotalCount();
+        return SearchPostResponseDto.builder().listDtos(listDtos).totalCount(result.getTotalCount()).hasNext(hasNext).build();
+    }
+
+    /**
+     * 인기 순위는 메모리에서 읽고, 상위 게시글만 id 로 조회
+     * 게시가 종료됐거나 삭제된 게시글은 순위에서 제외한다.
+     */
+    private AllPostResponseDto getTrendingPostList() {
+        List<Long> postIds = postsTrendingRanking.getTopPostIds(PAGE_SIZE);
+        LocalDateTime now = LocalDateTime.now();
+        List<Posts> trendingPosts = new ArrayList<>();
+        Map<Long, Posts> postsById = findPostsMapByIds(postIds);
+        for (Long postId : postIds) {
+            Posts posts = postsById.get(postId);
+            if (posts == null || posts.getPostsDeadline().isBefore(now)) {
+                postsTrendingRanking.remove(postId);
+                continue;
+            }
+            trendingPosts.add(posts);
+        }
+        List<PostsListDto> listDtos = PostsListDto.makePostsToListDtos(trendingPosts);
         return AllPostResponseDto.builder().listDtos(listDtos).build();
     }
 
+    private List<Posts> findPostsInOrder(List<Long> postIds) {
+        Map<Long, Posts> postsById = findPostsMapByIds(postIds);
+        return postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Posts> findPostsMapByIds(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return postsRepository.findPostsWithMemberByIdIn(postIds).stream()
+                .collect(Collectors.toMap(Posts::getId, Function.identity()));
+    }
+
+    public void closeExpiredPosts() {
+        LocalDateTime now = LocalDateTime.now();
+        long votedCount = postsRepository.updateVotedStatusByDeadline(now);
+        long postsEndCount = postsRepository.updatePostsEndStatusByDeadline(now);
+        if (votedCount > 0 || postsEndCount > 0) {
+            log.info("마감된 게시글 상태 변경 - 투표 종료 {}건, 게시 종료 {}건", votedCount, postsEndCount);
+        }
+        int prunedCount = postsTrendingRanking.prune();
+        if (prunedCount > 0) {
+            log.info("종료/삭제된 게시글 인기 순위에서 제거 - {}건", prunedCount);
+        }
+    }
+
     public IdResponseDto saveVote(Long id, VoteRequestDto requestDto, Member member) {
+        if (voteIngestionQueue.isEnabled()) {
+            if (!postsRepository.existsById(id)) {
+                throw new PostNotFoundException("해당 Id의 게시글이 존재하지 않습니다.");
+            }
+            voteIngestionQueue.offer(member.getId(), id, requestDto.getResult());
+            return IdResponseDto.builder().id(id).build();
+        }
         Posts foundPost = postsRepository.findPostsById(id);
         voteService.saveVote(member, foundPost, requestDto.getResult());
         return IdResponseDto.builder().id(foundPost.getId()).build();
     }
 
-    public Map<String, Posts> getMainPosts() {
-        Map<String, Posts> resultMap = new HashMap<>();
-        //상위 50개 컨텐츠 추출
-        List<Posts> top50RankedList = postsRepository.findPostsTop50Ranked();
-        top50RankedList.stream().forEach(p -> {
-            p.updateVoteStatusAndPostStatus();
-        });
-        //추출한 50개 중 반응(댓글)이 있는 것들만 필터링
-        List<Posts> filterByCommentCount = new ArrayList<>();
-        top50RankedList.stream().forEach(p -> {
-            if (p.getComments().size() != 0) {
-                filterByCommentCount.add(p);
-            }
-        });
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter subscribeVoteRatio(Long id) {
+        return voteRatioBroadcaster.subscribe(id);
+    }
+
+    public boolean isAsyncVoteEnabled() {
+        return voteIngestionQueue.isEnabled();
+    }
+
+    public Map<String, MainPostDto> getMainPosts() {
+        Map<String, MainPostDto> resultMap = new HashMap<>();
+        MainPostsSnapshot snapshot = mainPostsSnapshotHolder.getSnapshot();
+        List<MainPostDto> topRankedPosts = snapshot.getTopRankedPosts();
+
         //최고의 반응글
-        Posts bestResponsePost;
-        if (filterByCommentCount.size() >= 2) {
-            //필터링한 게시글들을 댓글수로 정렬
-            filterByCommentCount.stream().sorted((p1, p2) -> p2.getComments().size() - p1.getComments().size());
-            //게시글이 5개 이상이면 상위 5개 중 랜덤으로 추출
-            bestResponsePost = filterByCommentCount.size() >= 5
-                    ? filterByCommentCount.get(RandomNumber.startFromZeroTo(5))
-                    : filterByCommentCount.get(RandomNumber.startFromZeroTo(filterByCommentCount.size()));
-        } else if (filterByCommentCount.size() == 1) {
-            bestResponsePost = filterByCommentCount.get(0);
-        } else {
-            bestResponsePost = null;
-        }
-        //투표비율 비교
-        List<Posts> neckAndNeckPostList = new ArrayList<>();
-        top50RankedList.stream().forEach(p -> {
-            VoteRatioVo ratioVo = new VoteRatioVo(p);
-            if ((ratioVo.getRejectRatio() != 0 && ratioVo.getPermitRatio() != 0) && Math.abs(ratioVo.getPermitRatio() - ratioVo.getRejectRatio()) <= 10) {
-                neckAndNeckPostList.add(p);
-            }
-        });
+        MainPostDto bestResponsePost = pickRandom(snapshot.getBestResponsePosts());
         //막상막하 투표글
-        Posts neckAndNeckPost = neckAndNeckPostList.size() == 0 ? null : neckAndNeckPostList.get(RandomNumber.startFromZeroTo(neckAndNeckPostList.size()));
+        MainPostDto neckAndNeckPost = pickRandom(snapshot.getNeckAndNeckPosts());
         //불타고 있는글
-        Posts hotPost = top50RankedList.get(RandomNumber.startFromZeroTo(50));
+        MainPostDto hotPost = pickRandom(topRankedPosts);
         //사랑 듬뿍 받은글
-        Posts belovedPost = top50RankedList.get(RandomNumber.startFromZeroTo(50));
+        MainPostDto belovedPost = pickRandom(topRankedPosts);
         //무물의 추천글
-        Posts recommendPost = top50RankedList.get(RandomNumber.startFromZeroTo(50));
+        MainPostDto recommendPost = pickRandom(topRankedPosts);
 
         //값이 있는 데이터만 전달
         if (bestResponsePost != null) {
@@ -143,10 +225,16 @@ public class PostsService {
         if (neckAndNeckPost != null) {
             resultMap.put("neckAndNeckPost", neckAndNeckPost);
         }
-        resultMap.put("hotPost", hotPost);
-        resultMap.put("belovedPost", belovedPost);
-        resultMap.put("recommendPost", recommendPost);
+        if (hotPost != null) {
+            resultMap.put("hotPost", hotPost);
+            resultMap.put("belovedPost", belovedPost);
+            resultMap.put("recommendPost", recommendPost);
+        }
 
         return resultMap;
     }
+
+    private MainPostDto pickRandom(List<MainPostDto> candidates) {
+        return candidates.isEmpty() ? null : candidates.get(RandomNumber.startFromZeroTo(candidates.size()));
+    }
 }
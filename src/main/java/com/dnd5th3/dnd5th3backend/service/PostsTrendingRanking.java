@@ -0,0 +1,165 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 시간 감쇠가 적용된 인기 게시글 순위
+ * 조회/투표/댓글이 발생할 때마다 게시글 점수를 갱신하고, 점수순으로 정렬된 skip list 에서 상위 K개를 바로 읽는다.
+ *
+ * 점수는 sum(가중치 * 2^((이벤트 시각 - 기준 시각) / 반감기)) 를 log 로 저장한다.
+ * 모든 게시글 점수가 같은 비율로 감쇠하므로 시간이 지나도 순서가 바뀌지 않아 재정렬이 필요 없고,
+ * 최근 이벤트일수록 큰 값이 더해져 오래된 게시글은 자연스럽게 밀려난다.
+ * 게시가 종료됐거나 삭제된 게시글은 prune 에서 주기적으로 제거한다.
+ */
+@Slf4j
+@Component
+public class PostsTrendingRanking {
+
+    static final double VIEW_WEIGHT = 1.0;
+    static final double VOTE_WEIGHT = 3.0;
+    static final double COMMENT_WEIGHT = 5.0;
+
+    private static final int PRUNE_BATCH_SIZE = 1000;
+
+    private static final Comparator<RankedPost> RANKING = Comparator.comparingDouble(RankedPost::getLogScore)
+            .thenComparingLong(RankedPost::getPostId)
+            .reversed();
+
+    private final PostsRepository postsRepository;
+    private final Clock clock;
+    private final double halfLifeSeconds;
+    private final Map<Long, Double> logScores = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<RankedPost> ranking = new ConcurrentSkipListSet<>(RANKING);
+
+    @Autowired
+    public PostsTrendingRanking(PostsRepository postsRepository,
+                                @Value("${posts.trending.half-life-hours:6}") double halfLifeHours) {
+        this(postsRepository, Clock.systemDefaultZone(), halfLifeHours);
+    }
+
+    PostsTrendingRanking(PostsRepository postsRepository, Clock clock, double halfLifeHours) {
+        this.postsRepository = postsRepository;
+        this.clock = clock;
+        this.halfLifeSeconds = halfLifeHours * 3600;
+    }
+
+    /**
+     * 시작 시 게시 중인 게시글의 누적 조회수/투표수를 작성 시각 기준으로 반영
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Posts> activePosts = postsRepository.findAllByPostsDeadlineAfter(LocalDateTime.now(clock));
+        for (Posts posts : activePosts) {
+            double weight = posts.getRankCount() * VIEW_WEIGHT + (posts.getPermitCount() + posts.getRejectCount()) * VOTE_WEIGHT;
+            if (weight > 0) {
+                add(posts.getId(), weight, posts.getCreatedDate() == null ? LocalDateTime.now(clock) : posts.getCreatedDate());
+            }
+        }
+        log.info("인기 게시글 순위 적재 완료 - 게시글 {}건", logScores.size());
+    }
+
+    public void recordView(Long postId) {
+        add(postId, VIEW_WEIGHT, LocalDateTime.now(clock));
+    }
+
+    public void recordVote(Long postId) {
+        add(postId, VOTE_WEIGHT, LocalDateTime.now(clock));
+    }
+
+    public void recordComment(Long postId) {
+        add(postId, COMMENT_WEIGHT, LocalDateTime.now(clock));
+    }
+
+    public void remove(Long postId) {
+        logScores.computeIfPresent(postId, (id, logScore) -> {
+            ranking.remove(new RankedPost(id, logScore));
+            return null;
+        });
+    }
+
+    /**
+     * 게시가 종료됐거나 삭제된 게시글을 순위에서 제거
+     * 순위에 있는 게시글 id 를 PRUNE_BATCH_SIZE 건씩 조회해 게시 중인 게시글만 남긴다.
+     * @return 제거한 게시글 수
+     */
+    public int prune() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Long> postIds = new ArrayList<>(logScores.keySet());
+        int removed = 0;
+        for (int from = 0; from < postIds.size(); from += PRUNE_BATCH_SIZE) {
+            List<Long> batch = postIds.subList(from, Math.min(from + PRUNE_BATCH_SIZE, postIds.size()));
+            Set<Long> activePostIds = new HashSet<>(postsRepository.findActivePostIds(batch, now));
+            for (Long postId : batch) {
+                if (!activePostIds.contains(postId)) {
+                    remove(postId);
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 점수 상위 게시글 id 조회 (DB 조회 없이 skip list 앞에서부터 K개)
+     */
+    public List<Long> getTopPostIds(int limit) {
+        //갱신 중에는 새 항목을 먼저 넣고 이전 항목을 지우므로 같은 게시글이 잠시 두 번 보일 수 있다.
+        Set<Long> postIds = new LinkedHashSet<>();
+        Iterator<RankedPost> iterator = ranking.iterator();
+        while (postIds.size() < limit && iterator.hasNext()) {
+            postIds.add(iterator.next().getPostId());
+        }
+        return new ArrayList<>(postIds);
+    }
+
+    public int size() {
+        return logScores.size();
+    }
+
+    private void add(Long postId, double weight, LocalDateTime eventTime) {
+        double logContribution = Math.log(weight) + toEpochSecond(eventTime) / halfLifeSeconds * Math.log(2);
+        logScores.compute(postId, (id, logScore) -> {
+            double newLogScore = logScore == null ? logContribution : logSumExp(logScore, logContribution);
+            ranking.add(new RankedPost(id, newLogScore));
+            if (logScore != null && logScore != newLogScore) {
+                ranking.remove(new RankedPost(id, logScore));
+            }
+            return newLogScore;
+        });
+    }
+
+    /**
+     * log(e^a + e^b) 를 overflow 없이 계산
+     */
+    private static double logSumExp(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class RankedPost {
+        private final long postId;
+        private final double logScore;
+    }
+}
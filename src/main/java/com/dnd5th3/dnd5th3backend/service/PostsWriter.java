@@ -0,0 +1,51 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.domain.image.ProductImage;
+import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
+import com.dnd5th3.dnd5th3backend.repository.image.ProductImageRepository;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글 저장/수정 트랜잭션
+ * 이미지 업로드가 끝난 뒤 INSERT/UPDATE 만 짧은 트랜잭션으로 실행해, 업로드 동안 DB 커넥션을 잡고 있지 않도록 한다.
+ */
+@RequiredArgsConstructor
+@Transactional
+@Component
+public class PostsWriter {
+
+    private final PostsRepository postsRepository;
+    private final ProductImageRepository productImageRepository;
+    private final PostsSearchIndex postsSearchIndex;
+
+    public Posts save(Posts posts) {
+        Posts savedPost = postsRepository.save(posts);
+        refreshImageVariants(savedPost);
+        postsSearchIndex.indexAfterCommit(savedPost);
+        return savedPost;
+    }
+
+    public Posts update(Long id, String title, String content, ProductImage productImage) {
+        Posts foundPost = postsRepository.findPostsById(id);
+        foundPost.update(title, content, productImage);
+        refreshImageVariants(foundPost);
+        postsSearchIndex.indexAfterCommit(foundPost);
+        return foundPost;
+    }
+
+    /**
+     * 업로드 이후 게시글 저장 전에 썸네일 생성이 끝났다면 일괄 반영(ProductImageVariantWriter)에서 빠지므로
+     * 게시글을 쓴 뒤 이미지의 썸네일 정보를 다시 읽어 반영한다.
+     */
+    private void refreshImageVariants(Posts posts) {
+        if (posts.getProductImageId() == null || posts.getCardImageUrl() != null) {
+            return;
+        }
+        productImageRepository.findById(posts.getProductImageId())
+                .filter(productImage -> productImage.getCardImageUrl() != null)
+                .ifPresent(posts::updateProductImage);
+    }
+}
@@ -0,0 +1,26 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.repository.image.ProductImageRepository;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 생성된 썸네일 URL 을 이미지와 이미지를 사용하는 게시글에 반영
+ * 목록 조회시 추가 조회 없이 썸네일 URL 을 내려줄 수 있도록 게시글에도 함께 저장한다.
+ */
+@RequiredArgsConstructor
+@Transactional
+@Component
+public class ProductImageVariantWriter {
+
+    private final ProductImageRepository productImageRepository;
+    private final PostsRepository postsRepository;
+
+    public void write(Long productImageId, String cardImageUrl, String detailImageUrl) {
+        productImageRepository.findById(productImageId)
+                .ifPresent(productImage -> productImage.updateVariants(cardImageUrl, detailImageUrl));
+        postsRepository.updateImageVariants(productImageId, cardImageUrl, detailImageUrl);
+    }
+}
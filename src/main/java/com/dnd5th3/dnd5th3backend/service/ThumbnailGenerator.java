@@ -0,0 +1,98 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.utils.image.ImageResizer;
+import com.dnd5th3.dnd5th3backend.utils.image.ImageVariant;
+import com.dnd5th3.dnd5th3backend.utils.storage.ObjectStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드된 원본 이미지로 썸네일(ImageVariant)을 만들어 저장
+ * 요청 스레드가 아닌 고정 크기 작업 스레드에서 처리하며, 대기열이 가득 차면 생성을 건너뛴다. (목록은 원본 URL 을 사용)
+ * 이미지 하나가 사용하는 메모리는 max-heap-bytes 로 제한되므로 전체 사용량은 threads * max-heap-bytes 를 넘지 않는다.
+ */
+@Slf4j
+@Component
+public class ThumbnailGenerator {
+
+    private final ObjectStorage objectStorage;
+    private final ProductImageVariantWriter productImageVariantWriter;
+    private final long maxHeapBytes;
+    private final ThreadPoolExecutor executor;
+
+    public ThumbnailGenerator(ObjectStorage objectStorage,
+                              ProductImageVariantWriter productImageVariantWriter,
+                              @Value("${image.thumbnail.threads:2}") int threads,
+                              @Value("${image.thumbnail.queue-capacity:100}") int queueCapacity,
+                              @Value("${image.thumbnail.max-heap-bytes:67108864}") long maxHeapBytes) {
+        this.objectStorage = objectStorage;
+        this.productImageVariantWriter = productImageVariantWriter;
+        this.maxHeapBytes = maxHeapBytes;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "thumbnail-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @param originalKey   저장소에 저장된 원본 이미지 key
+     * @param contentLength 원본 이미지 크기
+     */
+    public void generate(Long productImageId, String originalKey, long contentLength) {
+        try {
+            executor.execute(() -> generateVariants(productImageId, originalKey, contentLength));
+        } catch (RejectedExecutionException e) {
+            log.warn("썸네일 생성 대기열이 가득 차 생성을 건너뜀 - productImageId [{}]", productImageId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void generateVariants(Long productImageId, String originalKey, long contentLength) {
+        try {
+            //디코딩 중 읽은 원본도 메모리에 머무르므로 한도에서 뺀다.
+            long maxDecodeBytes = maxHeapBytes - contentLength;
+            if (maxDecodeBytes <= 0) {
+                log.warn("원본 이미지가 메모리 한도보다 커 썸네일을 만들지 않음 - key [{}] size [{}]", originalKey, contentLength);
+                return;
+            }
+            BufferedImage original;
+            try (InputStream inputStream = objectStorage.get(originalKey)) {
+                original = ImageResizer.read(inputStream, maxDecodeBytes, ImageVariant.maxWidth());
+            }
+            if (original == null) {
+                log.warn("썸네일을 만들 수 없는 이미지 형식 - key [{}]", originalKey);
+                return;
+            }
+
+            Map<ImageVariant, String> variantUrls = new EnumMap<>(ImageVariant.class);
+            for (ImageVariant variant : ImageVariant.values()) {
+                byte[] thumbnail = ImageResizer.toJpeg(ImageResizer.resize(original, variant.getWidth()));
+                String variantUrl = objectStorage.put(variant.keyOf(originalKey), new ByteArrayInputStream(thumbnail), thumbnail.length, ImageVariant.CONTENT_TYPE);
+                variantUrls.put(variant, variantUrl);
+            }
+            productImageVariantWriter.write(productImageId, variantUrls.get(ImageVariant.CARD), variantUrls.get(ImageVariant.DETAIL));
+        } catch (IOException | RuntimeException e) {
+            log.warn("썸네일 생성 실패 - key [{}]", originalKey, e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.domain.vote.VoteType;
+import com.dnd5th3.dnd5th3backend.domain.vote.vo.PendingVoteVo;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import com.dnd5th3.dnd5th3backend.repository.vote.VoteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 모아진 투표를 한 트랜잭션으로 저장
+ * 투표는 배치 INSERT, 투표수는 게시글별로 합산한 UPDATE 한 번으로 반영한다.
+ */
+@RequiredArgsConstructor
+@Transactional
+@Component
+public class VoteBatchWriter {
+
+    private final VoteRepository voteRepository;
+    private final PostsRepository postsRepository;
+    private final VoteRatioBroadcaster voteRatioBroadcaster;
+    private final PostsTrendingRanking postsTrendingRanking;
+
+    public void write(List<PendingVoteVo> votes) {
+        voteRepository.insertVotes(votes);
+        postsRepository.addVoteCounts(votes);
+        votes.stream()
+                .map(PendingVoteVo::getPostId)
+                .distinct()
+                .forEach(voteRatioBroadcaster::markChangedAfterCommit);
+        votes.stream()
+                .filter(vote -> !VoteType.NO_RESULT.equals(vote.getResult()))
+                .forEach(vote -> postsTrendingRanking.recordVote(vote.getPostId()));
+    }
+}
@@ -0,0 +1,149 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.domain.vote.VoteType;
+import com.dnd5th3.dnd5th3backend.domain.vote.vo.PendingVoteVo;
+import com.dnd5th3.dnd5th3backend.exception.DuplicateVoteException;
+import com.dnd5th3.dnd5th3backend.exception.VoteQueueFullException;
+import com.dnd5th3.dnd5th3backend.repository.vote.VoteRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 투표 수집 큐 (vote.ingestion.async-enabled)
+ * 요청 스레드는 중복 검사 후 큐에 넣기만 하고, 전용 스레드가 batch-size 또는 linger-ms 단위로 모아 저장한다.
+ * 저장 전까지는 대기 중인 투표로 본인 투표 결과를 조회할 수 있다.
+ */
+@Slf4j
+@Component
+public class VoteIngestionQueue {
+
+    private final VoteBatchWriter voteBatchWriter;
+    private final VoteRepository voteRepository;
+    @Getter
+    private final boolean enabled;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final BlockingQueue<PendingVoteVo> queue;
+    private final Map<String, VoteType> pendingVotes = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public VoteIngestionQueue(VoteBatchWriter voteBatchWriter,
+                              VoteRepository voteRepository,
+                              @Value("${vote.ingestion.async-enabled:false}") boolean enabled,
+                              @Value("${vote.ingestion.batch-size:100}") int batchSize,
+                              @Value("${vote.ingestion.linger-ms:50}") long lingerMillis,
+                              @Value("${vote.ingestion.queue-capacity:10000}") int queueCapacity) {
+        this.voteBatchWriter = voteBatchWriter;
+        this.voteRepository = voteRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runWriter, "vote-ingestion-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    public void offer(Long memberId, Long postId, VoteType result) {
+        String key = key(memberId, postId);
+        //대기 중이거나 이미 저장된 투표는 중복
+        if (pendingVotes.putIfAbsent(key, result) != null) {
+            throw new DuplicateVoteException("이미 투표한 사용자입니다.");
+        }
+        if (voteRepository.existsByMemberIdAndPostsId(memberId, postId)) {
+            pendingVotes.remove(key);
+            throw new DuplicateVoteException("이미 투표한 사용자입니다.");
+        }
+        if (!queue.offer(new PendingVoteVo(memberId, postId, result))) {
+            pendingVotes.remove(key);
+            throw new VoteQueueFullException("투표 요청이 많아 처리할 수 없습니다.");
+        }
+    }
+
+    public VoteType getPendingVoteType(Long memberId, Long postId) {
+        return pendingVotes.get(key(memberId, postId));
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void runWriter() {
+        //종료 요청 후에도 큐에 남은 투표는 모두 저장
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingVoteVo first = queue.poll(lingerMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingVoteVo> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingVoteVo next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void flush(List<PendingVoteVo> batch) {
+        try {
+            voteBatchWriter.write(batch);
+        } catch (RuntimeException e) {
+            //배치 중 한 건이라도 실패하면 한 건씩 다시 저장
+            log.warn("투표 일괄 저장 실패, 개별 저장으로 재시도 - {}", e.getMessage());
+            for (PendingVoteVo vote : batch) {
+                try {
+                    voteBatchWriter.write(List.of(vote));
+                } catch (RuntimeException ex) {
+                    log.error("투표 저장 실패 - member [{}], post [{}] : {}", vote.getMemberId(), vote.getPostId(), ex.getMessage());
+                }
+            }
+        } finally {
+            batch.forEach(vote -> pendingVotes.remove(key(vote.getMemberId(), vote.getPostId())));
+        }
+    }
+
+    private String key(Long memberId, Long postId) {
+        return postId + ":" + memberId;
+    }
+}
@@ -0,0 +1,161 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.domain.vote.vo.VoteRatioVo;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글 투표 비율 실시간 전송 (SSE)
+ * 투표가 반영되면 게시글을 변경 상태로 표시만 하고, 스케줄러 주기마다 게시글당 한 번 비율을 계산해 모든 구독자에게 보낸다.
+ * 비율 조회와 전송은 스케줄러 스레드가 아닌 전용 스레드에서 처리하므로 느린 구독자가 다른 스케줄 작업을 막지 않는다.
+ * 게시글별 전송은 한 번에 하나만 진행하고, 전송 중이거나 대기열이 가득 차면 변경 상태를 유지해 다음 주기에 보낸다.
+ */
+@Slf4j
+@Component
+public class VoteRatioBroadcaster {
+
+    private static final String EVENT_NAME = "vote-ratio";
+
+    private final PostsRepository postsRepository;
+    private final long emitterTimeout;
+    private final ExecutorService executor;
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    @Autowired
+    public VoteRatioBroadcaster(PostsRepository postsRepository,
+                                @Value("${vote.stream.timeout:1800000}") long emitterTimeout,
+                                @Value("${vote.stream.threads:2}") int threads,
+                                @Value("${vote.stream.queue-capacity:1000}") int queueCapacity) {
+        this(postsRepository, emitterTimeout, createExecutor(threads, queueCapacity));
+    }
+
+    VoteRatioBroadcaster(PostsRepository postsRepository, long emitterTimeout, ExecutorService executor) {
+        this.postsRepository = postsRepository;
+        this.emitterTimeout = emitterTimeout;
+        this.executor = executor;
+    }
+
+    public SseEmitter subscribe(Long postId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout);
+        channels.compute(postId, (id, channel) -> {
+            Channel target = channel == null ? new Channel() : channel;
+            target.emitters.add(emitter);
+            return target;
+        });
+        emitter.onCompletion(() -> unsubscribe(postId, emitter));
+        emitter.onTimeout(() -> unsubscribe(postId, emitter));
+        emitter.onError(e -> unsubscribe(postId, emitter));
+
+        //구독 직후 현재 비율 전송
+        findVoteRatio(postId).ifPresent(ratioVo -> send(postId, emitter, ratioVo));
+        return emitter;
+    }
+
+    /**
+     * 투표 트랜잭션이 커밋된 뒤에 변경 상태로 표시 (커밋 전 값을 읽지 않도록)
+     */
+    public void markChangedAfterCommit(Long postId) {
+        if (!channels.containsKey(postId)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markChanged(postId);
+                }
+            });
+        } else {
+            markChanged(postId);
+        }
+    }
+
+    public void markChanged(Long postId) {
+        Channel channel = channels.get(postId);
+        if (channel != null) {
+            channel.changed.set(true);
+        }
+    }
+
+    public void publish() {
+        channels.forEach((postId, channel) -> {
+            if (!channel.changed.get() || channel.emitters.isEmpty() || !channel.sending.compareAndSet(false, true)) {
+                return;
+            }
+            channel.changed.set(false);
+            try {
+                executor.execute(() -> {
+                    try {
+                        findVoteRatio(postId).ifPresent(ratioVo -> channel.emitters.forEach(emitter -> send(postId, emitter, ratioVo)));
+                    } finally {
+                        channel.sending.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                channel.changed.set(true);
+                channel.sending.set(false);
+                log.warn("SSE 전송 대기열이 가득 차 다음 주기에 전송 - post [{}]", postId);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public int getSubscriberCount(Long postId) {
+        Channel channel = channels.get(postId);
+        return channel == null ? 0 : channel.emitters.size();
+    }
+
+    private Optional<VoteRatioVo> findVoteRatio(Long postId) {
+        return postsRepository.findById(postId).map(VoteRatioVo::new);
+    }
+
+    private void send(Long postId, SseEmitter emitter, VoteRatioVo ratioVo) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(ratioVo));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패 - post [{}] : {}", postId, e.getMessage());
+            unsubscribe(postId, emitter);
+        }
+    }
+
+    private void unsubscribe(Long postId, SseEmitter emitter) {
+        channels.computeIfPresent(postId, (id, channel) -> {
+            channel.emitters.remove(emitter);
+            return channel.emitters.isEmpty() ? null : channel;
+        });
+    }
+
+    private static ExecutorService createExecutor(int threads, int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "vote-ratio-sse-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static class Channel {
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean changed = new AtomicBoolean(false);
+        private final AtomicBoolean sending = new AtomicBoolean(false);
+    }
+}
@@ -5,10 +5,10 @@ import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
 import com.dnd5th3.dnd5th3backend.domain.vote.Vote;
 import com.dnd5th3.dnd5th3backend.domain.vote.VoteType;
 import com.dnd5th3.dnd5th3backend.exception.DuplicateVoteException;
-import com.dnd5th3.dnd5th3backend.exception.PostNotFoundException;
 import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
 import com.dnd5th3.dnd5th3backend.repository.vote.VoteRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,27 +19,41 @@ public class VoteService {
 
     private final VoteRepository voteRepository;
     private final PostsRepository postsRepository;
+    private final VoteIngestionQueue voteIngestionQueue;
+    private final VoteRatioBroadcaster voteRatioBroadcaster;
+    private final PostsTrendingRanking postsTrendingRanking;
 
     public Vote saveVote(Member member, Posts posts, VoteType result) {
-        //투표 중복 검사 확인
-        Vote duplicationCheck = voteRepository.findByMemberAndPosts(member, posts);
-        if (duplicationCheck != null) {
-            throw new DuplicateVoteException("이미 투표한 사용자입니다.");
-        }
-        //투표 생성
+        //투표 생성 (중복 투표는 (member_id, post_id) 유니크 제약으로 검사)
         Vote newVote = Vote.builder()
                 .member(member)
                 .posts(posts)
                 .result(result)
                 .build();
+        Vote savedVote;
+        try {
+            savedVote = voteRepository.saveAndFlush(newVote);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateVoteException("이미 투표한 사용자입니다.");
+        }
         //투표 카운트 증가
-        Posts foundPost = postsRepository.findById(posts.getId()).orElseThrow(() -> new PostNotFoundException("해당 Id의 게시글이 존재하지 않습니다."));
-        foundPost.increaseVoteCount(result);
+        if (!VoteType.NO_RESULT.equals(result)) {
+            postsRepository.increaseVoteCount(posts.getId(), result);
+            voteRatioBroadcaster.markChangedAfterCommit(posts.getId());
+            postsTrendingRanking.recordVote(posts.getId());
+        }
 
-        return voteRepository.save(newVote);
+        return savedVote;
     }
 
     public VoteType getVoteType(Member member, Posts posts) {
+        //아직 저장되지 않은 본인 투표
+        if (member != null) {
+            VoteType pendingVoteType = voteIngestionQueue.getPendingVoteType(member.getId(), posts.getId());
+            if (pendingVoteType != null) {
+                return pendingVoteType;
+            }
+        }
         Vote voteResult = voteRepository.findByMemberAndPosts(member, posts);
         return voteResult == null ? VoteType.NO_RESULT : voteResult.getResult();
     }
@@ -0,0 +1,43 @@
+package com.dnd5th3.dnd5th3backend.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 bigram 토크나이저
+ * 형태소 분석 없이 한글 조사/어미가 붙은 단어도 부분 일치하도록 공백/기호로 나눈 단어를 두 글자씩 잘라 색인한다.
+ * ex) "아이폰을 살까" -> [아이, 이폰, 폰을, 살까]
+ */
+public class BigramTokenizer {
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int wordStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean isWordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (isWordChar && wordStart < 0) {
+                wordStart = i;
+            } else if (!isWordChar && wordStart >= 0) {
+                addWordTokens(normalized, wordStart, i, tokens);
+                wordStart = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addWordTokens(String text, int start, int end, List<String> tokens) {
+        //한 글자 단어는 그대로 색인
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+}
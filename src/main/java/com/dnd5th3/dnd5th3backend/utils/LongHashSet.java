@@ -0,0 +1,96 @@
+package com.dnd5th3.dnd5th3backend.utils;
+
+/**
+ * long 값만 저장하는 open addressing 해시 집합
+ * 박싱 없이 값당 16바이트 내외로 저장하므로 수백만 건도 작은 메모리로 보관할 수 있다.
+ */
+public class LongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] table;
+    private boolean containsZero;
+    private int size;
+
+    public LongHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    public LongHashSet(int expectedSize) {
+        table = new long[capacityFor(expectedSize)];
+    }
+
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            boolean added = !containsZero;
+            containsZero = true;
+            size += added ? 1 : 0;
+            return added;
+        }
+        //load factor 0.5
+        if ((size + 1) * 2 > table.length) {
+            resize(table.length * 2);
+        }
+        if (!insert(table, value)) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        int mask = table.length - 1;
+        int index = mix(value) & mask;
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void resize(int capacity) {
+        long[] resized = new long[capacity];
+        for (long value : table) {
+            if (value != EMPTY) {
+                insert(resized, value);
+            }
+        }
+        table = resized;
+    }
+
+    private static boolean insert(long[] target, long value) {
+        int mask = target.length - 1;
+        int index = mix(value) & mask;
+        while (target[index] != EMPTY) {
+            if (target[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        target[index] = value;
+        return true;
+    }
+
+    private static int mix(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
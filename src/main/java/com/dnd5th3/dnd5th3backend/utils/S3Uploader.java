@@ -1,19 +1,23 @@
 package com.dnd5th3.dnd5th3backend.utils;
 
-import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.dnd5th3.dnd5th3backend.domain.image.ProductImage;
+import com.dnd5th3.dnd5th3backend.repository.image.ProductImageRepository;
+import com.dnd5th3.dnd5th3backend.service.ThumbnailGenerator;
+import com.dnd5th3.dnd5th3backend.utils.storage.ObjectStorage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.Optional;
-import java.util.UUID;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -21,54 +25,99 @@ import java.util.UUID;
 public class S3Uploader {
 
     public static final String DIR_NAME = "static";
-    private final AmazonS3Client amazonS3Client;
+    private static final int MAX_EXTENSION_LENGTH = 10;
+    private static final int HASH_BUFFER_SIZE = 8192;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
 
-    @Value("${cloud.aws.s3.bucket}")
-    public String bucket;  // S3 버킷 이름
+    private final ObjectStorage objectStorage;
+    private final ProductImageRepository productImageRepository;
+    private final ThumbnailGenerator thumbnailGenerator;
 
-    public String upload(MultipartFile multipartFile, String dirName) throws IOException {
-        if (!multipartFile.getOriginalFilename().contains(".")) {
-            return "";
+    /**
+     * multipart 스트림을 임시 파일 없이 저장소로 바로 전송
+     * 저장 이름은 내용의 SHA-256 해시 + 확장자로 만들어 같은 내용의 이미지는 한 번만 저장한다.
+     * 이미 저장된 해시라면 업로드하지 않고 기존 이미지를 반환한다.
+     * 새 이미지는 저장 후 썸네일 생성을 작업 스레드에 맡긴다.
+     *
+     * @return 업로드할 파일이 없거나 확장자가 올바르지 않으면 null
+     */
+    public ProductImage upload(MultipartFile multipartFile, String dirName) throws IOException {
+        if (multipartFile == null || multipartFile.isEmpty()) {
+            return null;
+        }
+        String extension = extractExtension(multipartFile.getOriginalFilename());
+        if (extension == null) {
+            return null;
+        }
+        String hash = hash(multipartFile);
+        Optional<ProductImage> foundImage = productImageRepository.findByHash(hash);
+        //재사용된 이미지는 미사용 이미지 정리 대상에서 유예되도록 사용 시간을 남긴다.
+        //그 사이 정리 작업이 이미지 정보를 지웠으면 (갱신 0건) 새로 업로드한다.
+        if (foundImage.isPresent() && productImageRepository.updateLastUsedDate(foundImage.get().getId(), LocalDateTime.now()) > 0) {
+            return foundImage.get();
         }
-        File uploadFile = convert(multipartFile)  // 파일 변환할 수 없으면 에러
-                .orElseThrow(() -> new IllegalArgumentException("error: MultipartFile -> File convert fail"));
 
-        return upload(uploadFile, dirName);
+        String key = dirName + "/" + hash + "." + extension;
+        String url;
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            url = objectStorage.put(key, inputStream, multipartFile.getSize(), multipartFile.getContentType());
+        }
+        return saveImage(hash, key, url, multipartFile.getSize());
     }
 
-    // S3로 파일 업로드하기
-    private String upload(File uploadFile, String dirName) {
-        String fileName = dirName + "/" + UUID.randomUUID() + uploadFile.getName();   // S3에 저장된 파일 이름
-        String uploadImageUrl = putS3(uploadFile, fileName); // s3로 업로드
-        removeNewFile(uploadFile);
-        return uploadImageUrl;
+    private ProductImage saveImage(String hash, String key, String url, long size) {
+        ProductImage savedImage;
+        try {
+            savedImage = productImageRepository.save(ProductImage.builder().hash(hash).url(url).size(size).build());
+        } catch (DataIntegrityViolationException e) {
+            //같은 내용이 동시에 업로드된 경우 먼저 저장된 이미지를 사용한다. (썸네일도 먼저 저장한 쪽에서 만든다)
+            log.debug("이미 등록된 이미지 해시 [{}]", hash);
+            return productImageRepository.findByHash(hash).orElseThrow(() -> e);
+        }
+        thumbnailGenerator.generate(savedImage.getId(), key, size);
+        return savedImage;
     }
 
-    // S3로 업로드
-    private String putS3(File uploadFile, String fileName) {
-        amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, uploadFile).withCannedAcl(CannedAccessControlList.PublicRead));
-        return amazonS3Client.getUrl(bucket, fileName).toString();
+    /**
+     * multipart 가 이미 들고 있는 내용(메모리/임시 파일)을 스트림으로 읽으며 해시를 계산
+     * 전체를 byte[] 로 복사하지 않고 고정 크기 버퍼만 사용한다.
+     */
+    private String hash(MultipartFile multipartFile) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[HASH_BUFFER_SIZE];
+        try (DigestInputStream inputStream = new DigestInputStream(multipartFile.getInputStream(), digest)) {
+            while (inputStream.read(buffer) != -1) {
+                //읽는 동안 digest 가 갱신된다.
+            }
+        }
+        return toHex(digest.digest());
     }
 
-    // 로컬에 저장된 이미지 지우기
-    private void removeNewFile(File targetFile) {
-        if (targetFile.delete()) {
-            log.info("File delete success");
-            return;
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
         }
-        log.info("File delete fail");
     }
 
-    // 로컬에 파일 업로드 하기
-    private Optional<File> convert(MultipartFile file) throws IOException {
-        File convertFile = new File(System.getProperty("user.dir") + "/" + file.getOriginalFilename());
-        if (convertFile.createNewFile()) { // 바로 위에서 지정한 경로에 File이 생성됨 (경로가 잘못되었다면 생성 불가능)
-            try (FileOutputStream fos = new FileOutputStream(convertFile)) { // FileOutputStream 데이터를 파일에 바이트 스트림으로 저장하기 위함
-                fos.write(file.getBytes());
-            }
-            return Optional.of(convertFile);
+    private String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
         }
+        return new String(chars);
+    }
 
-        return Optional.empty();
+    private String extractExtension(String originalFilename) {
+        if (originalFilename == null || !originalFilename.contains(".")) {
+            return null;
+        }
+        String extension = originalFilename.substring(originalFilename.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        if (extension.isEmpty() || extension.length() > MAX_EXTENSION_LENGTH || !extension.chars().allMatch(Character::isLetterOrDigit)) {
+            return null;
+        }
+        return extension;
     }
 }
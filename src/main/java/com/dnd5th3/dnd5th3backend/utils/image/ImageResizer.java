@@ -0,0 +1,133 @@
+package com.dnd5th3.dnd5th3backend.utils.image;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 외부 라이브러리 없이 ImageIO/Java2D 로 썸네일을 만드는 유틸
+ * 디코딩 전에 헤더에서 크기만 읽어, 메모리 한도를 넘는 이미지는 subsampling 으로 줄여서 디코딩한다.
+ */
+public class ImageResizer {
+
+    //디코딩된 픽셀당 최대 바이트 (ARGB)
+    private static final int BYTES_PER_PIXEL = 4;
+    //원본 + 축소 중간 이미지가 동시에 메모리에 있으므로 원본 디코딩에는 한도의 절반만 사용
+    private static final int WORKING_COPIES = 2;
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private ImageResizer() {
+    }
+
+    /**
+     * @param maxDecodeBytes 디코딩된 원본이 차지할 수 있는 최대 바이트
+     * @param targetWidth    만들 썸네일 중 가장 큰 가로 길이 (필요 이상으로 크게 디코딩하지 않는다)
+     * @return 읽을 수 없는 형식이면 null
+     */
+    public static BufferedImage read(InputStream inputStream, long maxDecodeBytes, int targetWidth) throws IOException {
+        try (ImageInputStream imageInputStream = new MemoryCacheImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = subsampling(width, height, maxDecodeBytes, targetWidth);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 디코딩 결과가 메모리 한도 안에 들어오는 가장 작은 subsampling 값
+     * 한도 안이라도 목표 크기의 2배보다 크게 디코딩할 필요는 없으므로 그만큼은 줄인다.
+     */
+    static int subsampling(int width, int height, long maxDecodeBytes, int targetWidth) {
+        int subsampling = Math.max(1, width / (targetWidth * 2));
+        while (decodedBytes(width, height, subsampling) * WORKING_COPIES > maxDecodeBytes) {
+            if (subsampling >= Math.max(width, height)) {
+                throw new IllegalArgumentException("이미지 처리 메모리 한도가 너무 작습니다. maxDecodeBytes=" + maxDecodeBytes);
+            }
+            subsampling++;
+        }
+        return subsampling;
+    }
+
+    private static long decodedBytes(int width, int height, int subsampling) {
+        long sampledWidth = (width + subsampling - 1) / subsampling;
+        long sampledHeight = (height + subsampling - 1) / subsampling;
+        return sampledWidth * sampledHeight * BYTES_PER_PIXEL;
+    }
+
+    /**
+     * 비율을 유지해 가로 길이를 targetWidth 로 줄인다. (원본이 더 작으면 키우지 않는다)
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 bilinear 로 줄여 나간다.
+     */
+    public static BufferedImage resize(BufferedImage source, int targetWidth) {
+        int finalWidth = Math.min(targetWidth, source.getWidth());
+        int finalHeight = Math.max(1, (int) Math.round((double) source.getHeight() * finalWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int width = current.getWidth();
+        int height = current.getHeight();
+        do {
+            width = Math.max(finalWidth, width / 2);
+            height = Math.max(finalHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != finalWidth || height != finalHeight);
+        return current;
+    }
+
+    public static byte[] toJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = new MemoryCacheImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    //JPEG 는 알파 채널을 지원하지 않으므로 흰 배경의 RGB 이미지에 그린다.
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
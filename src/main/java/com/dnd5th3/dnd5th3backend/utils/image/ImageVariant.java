@@ -0,0 +1,54 @@
+package com.dnd5th3.dnd5th3backend.utils.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 원본 이미지로부터 만드는 고정 크기 썸네일 종류
+ * 가로 길이를 기준으로 비율을 유지해 줄인다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    CARD("card", 360),
+    DETAIL("detail", 1080);
+
+    public static final String FORMAT = "jpg";
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private final String name;
+    private final int width;
+
+    /**
+     * static/{hash}.png -> static/{hash}_card.jpg
+     */
+    public String keyOf(String originalKey) {
+        int extensionIndex = originalKey.lastIndexOf('.');
+        String baseKey = extensionIndex > originalKey.lastIndexOf('/') ? originalKey.substring(0, extensionIndex) : originalKey;
+        return baseKey + "_" + name + "." + FORMAT;
+    }
+
+    /**
+     * 원본과 썸네일 key 를 같은 기준 key 로 변환
+     * static/{hash}.png, static/{hash}_card.jpg -> static/{hash}
+     */
+    public static String baseKeyOf(String key) {
+        int extensionIndex = key.lastIndexOf('.');
+        String baseKey = extensionIndex > key.lastIndexOf('/') ? key.substring(0, extensionIndex) : key;
+        for (ImageVariant variant : values()) {
+            String suffix = "_" + variant.name;
+            if (baseKey.endsWith(suffix)) {
+                return baseKey.substring(0, baseKey.length() - suffix.length());
+            }
+        }
+        return baseKey;
+    }
+
+    public static int maxWidth() {
+        int maxWidth = 0;
+        for (ImageVariant variant : values()) {
+            maxWidth = Math.max(maxWidth, variant.width);
+        }
+        return maxWidth;
+    }
+}
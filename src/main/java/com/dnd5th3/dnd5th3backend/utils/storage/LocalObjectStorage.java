@@ -0,0 +1,134 @@
+package com.dnd5th3.dnd5th3backend.utils.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 파일 시스템 저장소 (S3 없이 로컬/테스트 환경에서 사용)
+ * storage.type=local 일 때 사용한다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+@Component
+public class LocalObjectStorage implements ObjectStorage {
+
+    //업로드 중인 임시 파일 (목록 조회에서 제외)
+    private static final String TEMP_FILE_PREFIX = ".upload-";
+
+    private final Path baseDir;
+    private final String baseUrl;
+
+    public LocalObjectStorage(@Value("${storage.local.base-dir:${java.io.tmpdir}/moomool-storage}") String baseDir,
+                              @Value("${storage.local.base-url:/local-storage}") String baseUrl) {
+        this.baseDir = Paths.get(baseDir).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    @Override
+    public String put(String key, InputStream inputStream, long contentLength, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        //같은 디렉토리의 임시 파일에 쓴 뒤 이동해 쓰는 중인 파일이 읽히지 않도록 한다.
+        Path tempFile = Files.createTempFile(target.getParent(), TEMP_FILE_PREFIX, ".tmp");
+        try {
+            long copied = Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            if (contentLength >= 0 && copied != contentLength) {
+                throw new IOException("업로드 크기가 일치하지 않습니다. expected=" + contentLength + ", actual=" + copied);
+            }
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        return urlOf(key);
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public List<StoredObject> list(String prefix, String startAfter, int maxKeys) throws IOException {
+        Path prefixDir = resolve(prefix);
+        if (!Files.isDirectory(prefixDir)) {
+            return Collections.emptyList();
+        }
+        List<StoredObject> storedObjects = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(prefixDir)) {
+            List<Path> files = paths
+                    .filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().startsWith(TEMP_FILE_PREFIX))
+                    .collect(Collectors.toList());
+            for (Path file : files) {
+                storedObjects.add(new StoredObject(toKey(file), Files.size(file), Files.getLastModifiedTime(file).toInstant()));
+            }
+        }
+        return storedObjects.stream()
+                .filter(storedObject -> startAfter == null || storedObject.getKey().compareTo(startAfter) > 0)
+                .sorted(Comparator.comparing(StoredObject::getKey))
+                .limit(maxKeys)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public StoredObject stat(String key) throws IOException {
+        Path file = resolve(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        return new StoredObject(key, Files.size(file), Files.getLastModifiedTime(file).toInstant());
+    }
+
+    @Override
+    public void delete(List<String> keys) throws IOException {
+        for (String key : keys) {
+            Files.deleteIfExists(resolve(key));
+        }
+    }
+
+    @Override
+    public String keyOf(String url) {
+        String urlPrefix = baseUrl + "/";
+        if (url == null || !url.startsWith(urlPrefix)) {
+            return null;
+        }
+        return url.substring(urlPrefix.length());
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return baseUrl + "/" + key;
+    }
+
+    public Path getBaseDir() {
+        return baseDir;
+    }
+
+    public Path resolve(String key) {
+        Path resolved = baseDir.resolve(key).normalize();
+        if (!resolved.startsWith(baseDir)) {
+            throw new IllegalArgumentException("잘못된 저장 경로입니다.");
+        }
+        return resolved;
+    }
+
+    private String toKey(Path file) {
+        return baseDir.relativize(file).toString().replace(File.separatorChar, '/');
+    }
+}
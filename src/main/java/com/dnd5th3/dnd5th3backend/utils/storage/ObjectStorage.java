@@ -0,0 +1,49 @@
+package com.dnd5th3.dnd5th3backend.utils.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 이미지 저장소
+ * 업로드 내용은 임시 파일이나 byte[] 로 복사하지 않고 스트림 그대로 전달한다.
+ */
+public interface ObjectStorage {
+
+    /**
+     * @param contentLength 스트림 전체 길이 (저장소가 전체를 메모리에 올리지 않도록 미리 알려준다)
+     * @return 저장된 객체의 URL
+     */
+    String put(String key, InputStream inputStream, long contentLength, String contentType) throws IOException;
+
+    /**
+     * 저장된 객체를 스트림으로 읽는다. (호출한 쪽에서 닫아야 한다)
+     */
+    InputStream get(String key) throws IOException;
+
+    /**
+     * prefix 아래 객체를 key 순서로 maxKeys 개씩 조회
+     *
+     * @param startAfter 이전 페이지의 마지막 key (첫 페이지는 null)
+     */
+    List<StoredObject> list(String prefix, String startAfter, int maxKeys) throws IOException;
+
+    /**
+     * 객체 하나의 크기, 수정 시간 조회
+     *
+     * @return 객체가 없으면 null
+     */
+    StoredObject stat(String key) throws IOException;
+
+    void delete(List<String> keys) throws IOException;
+
+    /**
+     * put 이 반환한 URL 을 key 로 변환 (이 저장소의 URL 이 아니면 null)
+     */
+    String keyOf(String url);
+
+    /**
+     * key 로 put 이 반환하는 URL 생성 (keyOf 의 반대)
+     */
+    String urlOf(String key);
+}
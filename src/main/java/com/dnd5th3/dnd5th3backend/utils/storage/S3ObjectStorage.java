@@ -0,0 +1,239 @@
+package com.dnd5th3.dnd5th3backend.utils.storage;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.*;
+import com.amazonaws.util.SdkHttpUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * S3 저장소
+ * part-size 이하는 PutObject 한 번으로, 그보다 큰 파일은 part 단위 multipart upload 로 병렬 업로드한다.
+ * multipart 에서 메모리에 올라가는 part 는 전체 요청을 합쳐 max-parallel-parts * 2 개로 제한한다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+@Component
+public class S3ObjectStorage implements ObjectStorage {
+
+    //S3 multipart 최소 part 크기
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+    private static final int MAX_DELETE_KEYS = 1000;
+
+    private final AmazonS3Client amazonS3Client;
+    private final String bucket;
+    private final int partSize;
+    private final ExecutorService partUploadExecutor;
+    private final Semaphore bufferedParts;
+    //getUrl(bucket, key) 의 key 앞부분
+    private volatile String urlPrefix;
+
+    public S3ObjectStorage(AmazonS3Client amazonS3Client,
+                           @Value("${cloud.aws.s3.bucket}") String bucket,
+                           @Value("${storage.s3.part-size:8388608}") int partSize,
+                           @Value("${storage.s3.max-parallel-parts:4}") int maxParallelParts) {
+        this.amazonS3Client = amazonS3Client;
+        this.bucket = bucket;
+        this.partSize = Math.max(partSize, MIN_PART_SIZE);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.partUploadExecutor = Executors.newFixedThreadPool(maxParallelParts, runnable -> {
+            Thread thread = new Thread(runnable, "s3-part-upload-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.bufferedParts = new Semaphore(maxParallelParts * 2);
+    }
+
+    @Override
+    public String put(String key, InputStream inputStream, long contentLength, String contentType) throws IOException {
+        if (contentLength <= partSize) {
+            putObject(key, inputStream, contentLength, contentType);
+        } else {
+            putMultipart(key, inputStream, contentLength, contentType);
+        }
+        return urlOf(key);
+    }
+
+    @Override
+    public InputStream get(String key) {
+        return amazonS3Client.getObject(bucket, key).getObjectContent();
+    }
+
+    @Override
+    public List<StoredObject> list(String prefix, String startAfter, int maxKeys) {
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(bucket)
+                .withPrefix(prefix)
+                .withStartAfter(startAfter)
+                .withMaxKeys(maxKeys);
+        List<StoredObject> storedObjects = new ArrayList<>();
+        for (S3ObjectSummary summary : amazonS3Client.listObjectsV2(request).getObjectSummaries()) {
+            storedObjects.add(new StoredObject(summary.getKey(), summary.getSize(), summary.getLastModified().toInstant()));
+        }
+        return storedObjects;
+    }
+
+    @Override
+    public StoredObject stat(String key) {
+        try {
+            ObjectMetadata metadata = amazonS3Client.getObjectMetadata(bucket, key);
+            return new StoredObject(key, metadata.getContentLength(), metadata.getLastModified().toInstant());
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * DeleteObjects 한 번에 최대 1000개까지 삭제할 수 있다.
+     */
+    @Override
+    public void delete(List<String> keys) {
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_KEYS) {
+            List<String> batch = keys.subList(from, Math.min(keys.size(), from + MAX_DELETE_KEYS));
+            amazonS3Client.deleteObjects(new DeleteObjectsRequest(bucket)
+                    .withKeys(batch.toArray(new String[0]))
+                    .withQuiet(true));
+        }
+    }
+
+    @Override
+    public String keyOf(String url) {
+        if (urlPrefix == null) {
+            urlPrefix = amazonS3Client.getUrl(bucket, "").toString();
+        }
+        if (url == null || !url.startsWith(urlPrefix)) {
+            return null;
+        }
+        //getUrl 은 key 를 URL 인코딩하므로 (이전 업로드의 원본 파일명 등) 디코딩해서 비교한다.
+        return SdkHttpUtils.urlDecode(url.substring(urlPrefix.length()));
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return amazonS3Client.getUrl(bucket, key).toString();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partUploadExecutor.shutdown();
+    }
+
+    private void putObject(String key, InputStream inputStream, long contentLength, String contentType) {
+        ObjectMetadata metadata = createMetadata(contentType);
+        metadata.setContentLength(contentLength);
+        amazonS3Client.putObject(new PutObjectRequest(bucket, key, inputStream, metadata).withCannedAcl(CannedAccessControlList.PublicRead));
+    }
+
+    private void putMultipart(String key, InputStream inputStream, long contentLength, String contentType) throws IOException {
+        InitiateMultipartUploadRequest initiateRequest = new InitiateMultipartUploadRequest(bucket, key, createMetadata(contentType))
+                .withCannedACL(CannedAccessControlList.PublicRead);
+        String uploadId = amazonS3Client.initiateMultipartUpload(initiateRequest).getUploadId();
+        List<Future<PartETag>> futures = new ArrayList<>();
+        try {
+            long remaining = contentLength;
+            int partNumber = 1;
+            while (remaining > 0) {
+                int currentPartSize = (int) Math.min(partSize, remaining);
+                bufferedParts.acquire();
+                byte[] part;
+                try {
+                    part = readFully(inputStream, currentPartSize);
+                } catch (IOException e) {
+                    bufferedParts.release();
+                    throw e;
+                }
+                futures.add(partUploadExecutor.submit(uploadPart(key, uploadId, partNumber++, part)));
+                remaining -= currentPartSize;
+            }
+
+            List<PartETag> partETags = new ArrayList<>();
+            for (Future<PartETag> future : futures) {
+                partETags.add(future.get());
+            }
+            partETags.sort(Comparator.comparingInt(PartETag::getPartNumber));
+            amazonS3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(key, uploadId, futures);
+            throw new IOException("multipart 업로드가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            abort(key, uploadId, futures);
+            throw new IOException("multipart part 업로드 실패", e.getCause());
+        } catch (IOException | RuntimeException e) {
+            abort(key, uploadId, futures);
+            throw e;
+        }
+    }
+
+    private Callable<PartETag> uploadPart(String key, String uploadId, int partNumber, byte[] part) {
+        return () -> {
+            try {
+                UploadPartRequest request = new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withPartSize(part.length)
+                        .withInputStream(new ByteArrayInputStream(part));
+                return amazonS3Client.uploadPart(request).getPartETag();
+            } finally {
+                bufferedParts.release();
+            }
+        };
+    }
+
+    private void abort(String key, String uploadId, List<Future<PartETag>> futures) {
+        //시작 전에 취소된 part 는 버퍼 반환이 누락되므로 취소하지 않고 끝나기를 기다린 뒤 정리한다.
+        for (Future<PartETag> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException | CancellationException ignored) {
+                //실패한 part 는 abort 로 함께 정리된다.
+            }
+        }
+        try {
+            amazonS3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (RuntimeException e) {
+            log.warn("multipart 업로드 취소 실패 - key [{}] uploadId [{}]", key, uploadId, e);
+        }
+    }
+
+    private ObjectMetadata createMetadata(String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        if (contentType != null) {
+            metadata.setContentType(contentType);
+        }
+        return metadata;
+    }
+
+    private byte[] readFully(InputStream inputStream, int length) throws IOException {
+        byte[] buffer = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            int read = inputStream.read(buffer, offset, length - offset);
+            if (read < 0) {
+                throw new IOException("업로드 크기가 일치하지 않습니다. expected part size=" + length + ", actual=" + offset);
+            }
+            offset += read;
+        }
+        return buffer;
+    }
+}
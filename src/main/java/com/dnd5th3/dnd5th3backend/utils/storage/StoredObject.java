@@ -0,0 +1,18 @@
+package com.dnd5th3.dnd5th3backend.utils.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 저장소 목록 조회 결과
+ */
+@Getter
+@RequiredArgsConstructor
+public class StoredObject {
+
+    private final String key;
+    private final long size;
+    private final Instant lastModified;
+}
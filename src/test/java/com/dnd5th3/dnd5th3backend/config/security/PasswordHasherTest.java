@@ -0,0 +1,114 @@
+package com.dnd5th3.dnd5th3backend.config.security;
+
+import com.dnd5th3.dnd5th3backend.exception.PasswordHashingQueueFullException;
+import com.dnd5th3.dnd5th3backend.exception.PasswordHashingTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BlockingPasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+    private ExecutorService requestThreads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new BlockingPasswordEncoder();
+        requestThreads = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.release.countDown();
+        requestThreads.shutdownNow();
+        passwordHasher.shutdown();
+    }
+
+    @DisplayName("해시 생성, 비교 결과 및 처리 시간 기록 테스트")
+    @Test
+    void encodeAndMatches() {
+        //given
+        passwordEncoder.release.countDown();
+        passwordHasher = new PasswordHasher(passwordEncoder, meterRegistry, 1, 1, 1000);
+
+        //when
+        String encoded = passwordHasher.encode("1234");
+        boolean matched = passwordHasher.matches("1234", encoded);
+
+        //then
+        assertEquals("{hash}1234", encoded);
+        assertTrue(matched);
+        assertEquals(1, meterRegistry.get("password.hash.duration").tag("operation", "encode").timer().count());
+        assertEquals(1, meterRegistry.get("password.hash.duration").tag("operation", "matches").timer().count());
+    }
+
+    @DisplayName("대기열이 가득 차면 기다리지 않고 거절 테스트")
+    @Test
+    void queueFull() throws Exception {
+        //given
+        passwordHasher = new PasswordHasher(passwordEncoder, meterRegistry, 1, 1, 10_000);
+        requestThreads.submit(() -> passwordHasher.encode("running"));
+        assertTrue(passwordEncoder.started.await(5, TimeUnit.SECONDS));
+        requestThreads.submit(() -> passwordHasher.encode("waiting"));
+        awaitQueueSize(1);
+
+        //when, then
+        assertThrows(PasswordHashingQueueFullException.class, () -> passwordHasher.encode("rejected"));
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").tag("reason", "queue-full").counter().count());
+        assertEquals(1.0, meterRegistry.get("password.hash.queue.size").gauge().value());
+    }
+
+    @DisplayName("대기 시간을 넘기면 거절 테스트")
+    @Test
+    void timeout() {
+        //given
+        passwordHasher = new PasswordHasher(passwordEncoder, meterRegistry, 1, 1, 50);
+
+        //when, then
+        assertThrows(PasswordHashingTimeoutException.class, () -> passwordHasher.matches("1234", "{hash}1234"));
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").tag("reason", "timeout").counter().count());
+    }
+
+    private void awaitQueueSize(int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("password.hash.queue.size").gauge().value() < size && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static class BlockingPasswordEncoder implements PasswordEncoder {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "{hash}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return encodedPassword.equals("{hash}" + rawPassword);
+        }
+
+        private void await() {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.dnd5th3.dnd5th3backend.config.security.jwt;
+
+import com.dnd5th3.dnd5th3backend.repository.member.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.*;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmbeddedRefreshTokenStoreTest {
+
+    private static final Instant NOW = Instant.parse("2021-08-20T03:00:00Z");
+    private static final Date EXPIRED_AT = Date.from(NOW.plus(Duration.ofDays(14)));
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private EmbeddedRefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStore = createStore(Clock.fixed(NOW, ZoneId.of("Asia/Seoul")), false);
+    }
+
+    @DisplayName("리프레시 토큰 교체 후 사용한 토큰 재사용 거부 테스트")
+    @Test
+    void rotate() {
+        //given
+        refreshTokenStore.save("token1", 1L, EXPIRED_AT);
+
+        //when
+        boolean rotated = refreshTokenStore.rotate("token1", "token2", 1L, EXPIRED_AT);
+        boolean reused = refreshTokenStore.rotate("token1", "token3", 1L, EXPIRED_AT);
+
+        //then
+        assertTrue(rotated);
+        assertFalse(reused);
+        assertTrue(refreshTokenStore.rotate("token2", "token4", 1L, EXPIRED_AT));
+        assertEquals(1, refreshTokenStore.size());
+    }
+
+    @DisplayName("다른 회원의 토큰으로 교체 거부 테스트")
+    @Test
+    void rotateOtherMemberToken() {
+        //given
+        refreshTokenStore.save("token1", 1L, EXPIRED_AT);
+
+        //when, then
+        assertFalse(refreshTokenStore.rotate("token1", "token2", 2L, EXPIRED_AT));
+        assertEquals(0, refreshTokenStore.size());
+    }
+
+    @DisplayName("기기별 토큰 저장 및 회원 토큰 전체 폐기 테스트")
+    @Test
+    void revokeAll() {
+        //given
+        refreshTokenStore.save("phone", 1L, EXPIRED_AT);
+        refreshTokenStore.save("laptop", 1L, EXPIRED_AT);
+        refreshTokenStore.save("other", 2L, EXPIRED_AT);
+
+        //when
+        boolean revoked = refreshTokenStore.revoke("phone");
+        refreshTokenStore.revokeAll(1L);
+
+        //then
+        assertTrue(revoked);
+        assertFalse(refreshTokenStore.rotate("laptop", "token", 1L, EXPIRED_AT));
+        assertTrue(refreshTokenStore.rotate("other", "token", 2L, EXPIRED_AT));
+    }
+
+    @DisplayName("회원별 최대 개수를 넘으면 먼저 만료되는 토큰 폐기 테스트")
+    @Test
+    void maxTokensPerMember() {
+        //given
+        refreshTokenStore.save("first", 1L, Date.from(NOW.plus(Duration.ofDays(1))));
+        refreshTokenStore.save("second", 1L, Date.from(NOW.plus(Duration.ofDays(2))));
+
+        //when
+        refreshTokenStore.save("third", 1L, Date.from(NOW.plus(Duration.ofDays(3))));
+
+        //then
+        assertEquals(2, refreshTokenStore.size());
+        assertFalse(refreshTokenStore.revoke("first"));
+        assertTrue(refreshTokenStore.revoke("second"));
+        assertTrue(refreshTokenStore.revoke("third"));
+    }
+
+    @DisplayName("만료 구간이 지난 토큰 정리 테스트")
+    @Test
+    void purgeExpired() {
+        //given
+        refreshTokenStore = createStore(Clock.fixed(NOW.plus(Duration.ofMinutes(3)), ZoneId.of("Asia/Seoul")), false);
+        refreshTokenStore.save("expired", 1L, Date.from(NOW.plus(Duration.ofMinutes(1))));
+        refreshTokenStore.save("valid", 2L, EXPIRED_AT);
+
+        //when
+        refreshTokenStore.purgeExpired();
+
+        //then
+        assertEquals(1, refreshTokenStore.size());
+        assertTrue(refreshTokenStore.revoke("valid"));
+    }
+
+    @DisplayName("DB 에 저장하는 경우 다른 서버가 먼저 사용한 토큰 교체 거부 테스트")
+    @Test
+    void rotatePersistent() {
+        //given
+        refreshTokenStore = createStore(Clock.fixed(NOW, ZoneId.of("Asia/Seoul")), true);
+        refreshTokenStore.save("token1", 1L, EXPIRED_AT);
+        given(refreshTokenRepository.removeToken(anyString())).willReturn(0);
+
+        //when
+        boolean rotated = refreshTokenStore.rotate("token1", "token2", 1L, EXPIRED_AT);
+
+        //then
+        assertFalse(rotated);
+        verify(refreshTokenRepository, times(1)).insertToken(anyString(), eq(1L), any(LocalDateTime.class));
+    }
+
+    private EmbeddedRefreshTokenStore createStore(Clock clock, boolean persistent) {
+        return new EmbeddedRefreshTokenStore(refreshTokenRepository, clock, persistent, 2, Duration.ofMinutes(1));
+    }
+}
@@ -0,0 +1,166 @@
+package com.dnd5th3.dnd5th3backend.config.security.jwt;
+
+import com.dnd5th3.dnd5th3backend.config.security.MemberContext;
+import com.dnd5th3.dnd5th3backend.domain.member.Member;
+import com.dnd5th3.dnd5th3backend.domain.member.MemberType;
+import com.dnd5th3.dnd5th3backend.domain.member.Role;
+import com.dnd5th3.dnd5th3backend.exception.TokenException;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenProviderTest {
+
+    private static final String SECRET = Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+
+    @Mock
+    private UserDetailsService userDetailsService;
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = createProvider(3600);
+        member = Member.builder()
+                .id(1L)
+                .email("test@gmail.com")
+                .password("1234")
+                .name("test")
+                .memberType(MemberType.GENERAL)
+                .role(Role.ROLE_USER)
+                .build();
+    }
+
+    @DisplayName("엑세스 토큰 인증시 회원 조회 없이 토큰의 회원 정보 사용 테스트")
+    @Test
+    void getAuthentication() {
+        //given
+        String accessToken = jwtTokenProvider.createAccessToken(member);
+
+        //when
+        Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
+        Authentication cachedAuthentication = jwtTokenProvider.getAuthentication(accessToken);
+
+        //then
+        Member principal = (Member) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getEmail()).isEqualTo("test@gmail.com");
+        assertThat(principal.getRole()).isEqualTo(Role.ROLE_USER);
+        assertThat(authentication.getAuthorities()).containsExactly(new SimpleGrantedAuthority("ROLE_USER"));
+        assertThat(((Member) cachedAuthentication.getPrincipal()).getId()).isEqualTo(1L);
+        assertNotSame(principal, cachedAuthentication.getPrincipal());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @DisplayName("회원 id 가 없는 이전 토큰은 회원 조회 후 인증 테스트")
+    @Test
+    void getAuthenticationWithLegacyToken() {
+        //given
+        String legacyToken = Jwts.builder()
+                .setSubject(member.getEmail())
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .compact();
+        given(userDetailsService.loadUserByUsername(member.getEmail()))
+                .willReturn(new MemberContext(member, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        //when
+        Authentication authentication = jwtTokenProvider.getAuthentication(legacyToken);
+
+        //then
+        assertThat(authentication.getPrincipal()).isEqualTo(member);
+        verify(userDetailsService).loadUserByUsername(member.getEmail());
+    }
+
+    @DisplayName("만료된 엑세스 토큰 인증 실패 테스트")
+    @Test
+    void getAuthenticationWithExpiredToken() {
+        //given
+        String expiredToken = createProvider(-1).createAccessToken(member);
+
+        //when, then
+        assertThrows(ExpiredJwtException.class, () -> jwtTokenProvider.getAuthentication(expiredToken));
+    }
+
+    @DisplayName("리프레시 토큰 교체 테스트")
+    @Test
+    void rotateRefreshToken() {
+        //given
+        String refreshToken = jwtTokenProvider.createRefreshToken(member);
+        given(refreshTokenStore.rotate(eq(refreshToken), anyString(), eq(1L), any(Date.class))).willReturn(true, false);
+
+        //when
+        String newRefreshToken = jwtTokenProvider.rotateRefreshToken(member, refreshToken);
+
+        //then
+        assertThat(newRefreshToken).isNotEqualTo(refreshToken);
+        verify(refreshTokenStore).save(eq(refreshToken), eq(1L), any(Date.class));
+        assertThrows(IllegalArgumentException.class, () -> jwtTokenProvider.rotateRefreshToken(member, refreshToken));
+    }
+
+    @DisplayName("캐시한 엑세스 토큰도 폐기 후 인증 실패 테스트")
+    @Test
+    void getAuthenticationWithRevokedToken() {
+        //given
+        String accessToken = jwtTokenProvider.createAccessToken(member);
+        jwtTokenProvider.getAuthentication(accessToken);
+        given(tokenRevocationList.isRevoked(anyString(), eq(1L), any(Date.class), any(Date.class))).willReturn(true);
+
+        //when, then
+        assertThrows(TokenException.class, () -> jwtTokenProvider.getAuthentication(accessToken));
+    }
+
+    @DisplayName("로그아웃시 엑세스 토큰 jti, 리프레시 토큰 폐기 테스트")
+    @Test
+    void revokeTokens() {
+        //given
+        String accessToken = jwtTokenProvider.createAccessToken(member);
+        String tokenId = Jwts.parserBuilder()
+                .setSigningKey(Decoders.BASE64.decode(SECRET))
+                .build()
+                .parseClaimsJws(accessToken)
+                .getBody()
+                .getId();
+
+        //when
+        jwtTokenProvider.revokeTokens(accessToken, "refreshToken");
+        jwtTokenProvider.revokeTokens("invalid", null);
+
+        //then
+        verify(tokenRevocationList).revokeToken(eq(tokenId), eq(1L), any(Date.class));
+        verify(refreshTokenStore).revoke("refreshToken");
+    }
+
+    private JwtTokenProvider createProvider(long accessTokenExpiredTime) {
+        return new JwtTokenProvider(SECRET, accessTokenExpiredTime, 3600, 100, 300, userDetailsService, refreshTokenStore, tokenRevocationList);
+    }
+}
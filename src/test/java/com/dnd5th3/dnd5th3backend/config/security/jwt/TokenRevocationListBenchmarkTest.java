@@ -0,0 +1,78 @@
+package com.dnd5th3.dnd5th3backend.config.security.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 폐기된 토큰 100만건에서 폐기 여부 확인 시간 측정 (요청당 1µs 이내)
+ * ./gradlew test -Dbenchmark=true --tests "*TokenRevocationListBenchmarkTest"
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TokenRevocationListBenchmarkTest {
+
+    private static final int REVOKED_COUNT = 1_000_000;
+    private static final int LOOKUP_COUNT = 1_000_000;
+    private static final int REPEAT_COUNT = 5;
+    private static final long ACCESS_TOKEN_LIFETIME_MILLIS = Duration.ofDays(1).toMillis();
+
+    @DisplayName("폐기된 토큰 100만건 폐기 여부 확인 시간 측정")
+    @Test
+    void isRevoked() {
+        //given
+        TokenRevocationList tokenRevocationList = new TokenRevocationList(null, Clock.systemDefaultZone(), false,
+                Duration.ofMillis(ACCESS_TOKEN_LIFETIME_MILLIS), Duration.ofMinutes(1));
+        long now = System.currentTimeMillis();
+        String[] tokenIds = new String[REVOKED_COUNT];
+        Date[] expiredAts = new Date[REVOKED_COUNT];
+        for (int i = 0; i < REVOKED_COUNT; i++) {
+            tokenIds[i] = UUID.randomUUID().toString();
+            //만료 시간을 하루에 고르게 분산
+            expiredAts[i] = new Date(now + 60_000 + (ACCESS_TOKEN_LIFETIME_MILLIS * i / REVOKED_COUNT));
+            tokenRevocationList.revokeToken(tokenIds[i], i, expiredAts[i]);
+        }
+        String[] liveTokenIds = new String[LOOKUP_COUNT];
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            liveTokenIds[i] = UUID.randomUUID().toString();
+        }
+        Date issuedAt = new Date(now);
+
+        //when
+        double revokedNanos = Double.MAX_VALUE;
+        double liveNanos = Double.MAX_VALUE;
+        int revokedCount = 0;
+        for (int repeat = 0; repeat < REPEAT_COUNT; repeat++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < LOOKUP_COUNT; i++) {
+                int index = i % REVOKED_COUNT;
+                if (tokenRevocationList.isRevoked(tokenIds[index], index, issuedAt, expiredAts[index])) {
+                    revokedCount++;
+                }
+            }
+            revokedNanos = Math.min(revokedNanos, (double) (System.nanoTime() - start) / LOOKUP_COUNT);
+
+            start = System.nanoTime();
+            for (int i = 0; i < LOOKUP_COUNT; i++) {
+                int index = i % REVOKED_COUNT;
+                if (tokenRevocationList.isRevoked(liveTokenIds[i], index, issuedAt, expiredAts[index])) {
+                    revokedCount++;
+                }
+            }
+            liveNanos = Math.min(liveNanos, (double) (System.nanoTime() - start) / LOOKUP_COUNT);
+        }
+
+        //then
+        System.out.printf("폐기된 토큰 확인 %.1fns, 유효한 토큰 확인 %.1fns%n", revokedNanos, liveNanos);
+        assertEquals(LOOKUP_COUNT * REPEAT_COUNT, revokedCount);
+        assertTrue(revokedNanos < 1_000);
+        assertTrue(liveNanos < 1_000);
+    }
+}
@@ -0,0 +1,173 @@
+package com.dnd5th3.dnd5th3backend.config.security.jwt;
+
+import com.dnd5th3.dnd5th3backend.domain.member.RevokedToken;
+import com.dnd5th3.dnd5th3backend.repository.member.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.*;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+    private static final Instant NOW = Instant.parse("2021-08-20T03:00:00Z");
+    private static final Duration ACCESS_TOKEN_LIFETIME = Duration.ofHours(1);
+    private static final Date ISSUED_AT = Date.from(NOW.minus(Duration.ofMinutes(10)));
+    private static final Date EXPIRED_AT = Date.from(NOW.plus(Duration.ofMinutes(50)));
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private MutableClock clock;
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        tokenRevocationList = createList(false);
+    }
+
+    @DisplayName("로그아웃한 토큰만 폐기 테스트")
+    @Test
+    void revokeToken() {
+        //when
+        tokenRevocationList.revokeToken("token1", 1L, EXPIRED_AT);
+
+        //then
+        assertTrue(tokenRevocationList.isRevoked("token1", 1L, ISSUED_AT, EXPIRED_AT));
+        assertFalse(tokenRevocationList.isRevoked("token2", 1L, ISSUED_AT, EXPIRED_AT));
+    }
+
+    @DisplayName("회원 폐기 이전에 발급한 토큰만 폐기 테스트")
+    @Test
+    void revokeMember() {
+        //when
+        tokenRevocationList.revokeMember(1L);
+
+        //then
+        assertTrue(tokenRevocationList.isRevoked("token1", 1L, ISSUED_AT, EXPIRED_AT));
+        assertTrue(tokenRevocationList.isRevoked(null, 1L, null, EXPIRED_AT));
+        assertFalse(tokenRevocationList.isRevoked("token2", 1L, Date.from(NOW.plusSeconds(1)), EXPIRED_AT));
+        assertFalse(tokenRevocationList.isRevoked("token3", 2L, ISSUED_AT, EXPIRED_AT));
+    }
+
+    @DisplayName("트랜잭션 안에서 회원 폐기는 커밋 후 반영 테스트")
+    @Test
+    void revokeMemberAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            //when
+            tokenRevocationList.revokeMember(1L);
+
+            //then
+            assertFalse(tokenRevocationList.isRevoked("token1", 1L, ISSUED_AT, EXPIRED_AT));
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            assertTrue(tokenRevocationList.isRevoked("token1", 1L, ISSUED_AT, EXPIRED_AT));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("만료 시간이 지난 폐기 정보 정리 테스트")
+    @Test
+    void syncPurgesExpired() {
+        //given
+        tokenRevocationList.revokeToken("token1", 1L, EXPIRED_AT);
+        tokenRevocationList.revokeMember(2L);
+
+        //when
+        clock.instant = NOW.plus(ACCESS_TOKEN_LIFETIME).plus(Duration.ofMinutes(2));
+        tokenRevocationList.sync();
+
+        //then
+        assertFalse(tokenRevocationList.isRevoked("token1", 1L, ISSUED_AT, EXPIRED_AT));
+        assertFalse(tokenRevocationList.isRevoked("token2", 2L, ISSUED_AT, EXPIRED_AT));
+    }
+
+    @DisplayName("저장된 폐기 정보 로드, 다른 서버에서 폐기한 토큰 반영 테스트")
+    @Test
+    void loadAndSync() {
+        //given
+        tokenRevocationList = createList(true);
+        RevokedToken revokedToken = revokedToken("token1", 1L, NOW, EXPIRED_AT.toInstant());
+        RevokedToken revokedMember = revokedToken("member:2", 2L, NOW.plusSeconds(30), NOW.plus(ACCESS_TOKEN_LIFETIME));
+        given(revokedTokenRepository.findAllByExpiredAtAfter(any(LocalDateTime.class))).willReturn(List.of(revokedToken));
+        given(revokedTokenRepository.findAllByRevokedAtAfterAndExpiredAtAfter(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(List.of(revokedMember));
+
+        //when
+        tokenRevocationList.load();
+        assertFalse(tokenRevocationList.isRevoked("token2", 2L, ISSUED_AT, EXPIRED_AT));
+        clock.instant = NOW.plusSeconds(60);
+        tokenRevocationList.sync();
+
+        //then
+        assertTrue(tokenRevocationList.isRevoked("token1", 1L, ISSUED_AT, EXPIRED_AT));
+        assertTrue(tokenRevocationList.isRevoked("token2", 2L, ISSUED_AT, EXPIRED_AT));
+        verify(revokedTokenRepository).removeExpiredTokens(any(LocalDateTime.class));
+    }
+
+    @DisplayName("회원 폐기 저장 테스트")
+    @Test
+    void revokeMemberPersistent() {
+        //given
+        tokenRevocationList = createList(true);
+
+        //when
+        tokenRevocationList.revokeMember(1L);
+
+        //then
+        verify(revokedTokenRepository).saveToken(eq("member:1"), eq(1L), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    private TokenRevocationList createList(boolean persistent) {
+        return new TokenRevocationList(revokedTokenRepository, clock, persistent, ACCESS_TOKEN_LIFETIME, Duration.ofMinutes(1));
+    }
+
+    private RevokedToken revokedToken(String tokenId, long memberId, Instant revokedAt, Instant expiredAt) {
+        RevokedToken revokedToken = mock(RevokedToken.class);
+        lenient().when(revokedToken.getTokenId()).thenReturn(tokenId);
+        lenient().when(revokedToken.getMemberId()).thenReturn(memberId);
+        lenient().when(revokedToken.getRevokedAt()).thenReturn(LocalDateTime.ofInstant(revokedAt, ZoneId.systemDefault()));
+        lenient().when(revokedToken.getExpiredAt()).thenReturn(LocalDateTime.ofInstant(expiredAt, ZoneId.systemDefault()));
+        return revokedToken;
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
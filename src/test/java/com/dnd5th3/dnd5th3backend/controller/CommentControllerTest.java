@@ -75,7 +75,7 @@ class CommentControllerTest {
     @Test
     void getAllAPI() throws Exception {
         long postId = 1;
-        ResultActions actions = mvc.perform(RestDocumentationRequestBuilders.get("/api/v1/comment/{postId}/posts?pageNum=0",postId)
+        ResultActions actions = mvc.perform(RestDocumentationRequestBuilders.get("/api/v1/comment/{postId}/posts?includeTotalCount=true",postId)
                 .principal(new UsernamePasswordAuthenticationToken(member,null))
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON)
@@ -91,7 +91,8 @@ class CommentControllerTest {
                                 parameterWithName("postId").description("글 ID")
                         ),
                         requestParameters(
-                                parameterWithName("pageNum").description("페이지 번호")
+                                parameterWithName("cursor").description("이전 응답의 nextCursor (첫 페이지는 생략)").optional(),
+                                parameterWithName("includeTotalCount").description("전체 개수 포함 여부 (기본값 true)").optional()
                         ),
                         responseFields(
                                 fieldWithPath("commentList.[].commentId").description("댓글 ID"),
@@ -110,9 +111,8 @@ class CommentControllerTest {
                                 fieldWithPath("commentList.[].emojiList.[].emojiId").description("이모지 ID"),
                                 fieldWithPath("commentList.[].emojiList.[].emojiCount").description("이모지 개수"),
                                 fieldWithPath("commentList.[].emojiList.[].checked").description("유저 클릭 여부 "),
-                                fieldWithPath("pageNum").description("페이지 번호"),
-                                fieldWithPath("totalPage").description("전체 페이지수"),
-                                fieldWithPath("totalCount").description("전체 개수")
+                                fieldWithPath("nextCursor").description("다음 페이지 커서 (마지막 페이지일 경우 null)").optional(),
+                                fieldWithPath("totalCount").description("삭제되지 않은 댓글 전체 개수 (includeTotalCount=false 일 경우 null)")
                         )
                 ))
                 .andExpect(jsonPath("$.totalCount").value(3L));
@@ -124,7 +124,7 @@ class CommentControllerTest {
     @Test
     void getDetailAPI() throws Exception {
         long commentId =3;
-        ResultActions actions = mvc.perform(RestDocumentationRequestBuilders.get("/api/v1/comment/{commentId}",commentId)
+        ResultActions actions = mvc.perform(RestDocumentationRequestBuilders.get("/api/v1/comment/{commentId}?includeTotalCount=true",commentId)
                 .principal(new UsernamePasswordAuthenticationToken(member,null))
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON)
@@ -139,6 +139,10 @@ class CommentControllerTest {
                         pathParameters(
                                 parameterWithName("commentId").description("댓글 ID")
                         ),
+                        requestParameters(
+                                parameterWithName("cursor").description("이전 응답의 nextCursor (첫 페이지는 생략)").optional(),
+                                parameterWithName("includeTotalCount").description("전체 개수 포함 여부 (기본값 true)").optional()
+                        ),
                         relaxedResponseFields(
                                 fieldWithPath("commentList.[].commentId").description("댓글 ID"),
                                 fieldWithPath("commentList.[].memberId").description("회원 ID"),
@@ -150,7 +154,8 @@ class CommentControllerTest {
                                 fieldWithPath("commentList.[].createdDate").description("생성일자"),
                                 fieldWithPath("commentList.[].updatedDate").description("수정일자"),
                                 fieldWithPath("commentList.[].deleted").description("삭제여부"),
-                                fieldWithPath("totalCount").description("댓글 전체 개수(상단 포함)")
+                                fieldWithPath("nextCursor").description("다음 페이지 커서 (마지막 페이지일 경우 null)").optional(),
+                                fieldWithPath("totalCount").description("삭제되지 않은 대댓글 전체 개수 (includeTotalCount=false 일 경우 null)")
                         )
                 ))
                 .andExpect(jsonPath("$.totalCount").value(2L));
@@ -1,6 +1,7 @@
 package com.dnd5th3.dnd5th3backend.controller;
 
 import com.dnd5th3.dnd5th3backend.config.MockSecurityFilter;
+import com.dnd5th3.dnd5th3backend.config.security.jwt.JwtTokenProvider;
 import com.dnd5th3.dnd5th3backend.domain.member.Member;
 import com.dnd5th3.dnd5th3backend.repository.member.MemberRepository;
 import com.dnd5th3.dnd5th3backend.utils.EmailSender;
@@ -28,6 +29,8 @@ import java.util.Map;
 
 import static com.dnd5th3.dnd5th3backend.utils.ApiDocumentUtils.getDocumentRequest;
 import static com.dnd5th3.dnd5th3backend.utils.ApiDocumentUtils.getDocumentResponse;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
@@ -56,6 +59,9 @@ class MemberControllerTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
     @MockBean
     private EmailSender emailSender;
 
@@ -141,11 +147,13 @@ class MemberControllerTest {
                         ),
                         responseFields(
                                 fieldWithPath("email").description("이메일"),
-                                fieldWithPath("accessToken").description("재발급한 엑세스토큰")
+                                fieldWithPath("accessToken").description("재발급한 엑세스토큰"),
+                                fieldWithPath("refreshToken").description("새로 발급한 리프레시 토큰 (요청한 리프레시 토큰은 폐기)")
                         )
                 ))
                 .andExpect(jsonPath("$.email").value(email))
-                .andExpect(jsonPath("$.accessToken").exists());
+                .andExpect(jsonPath("$.accessToken").exists())
+                .andExpect(jsonPath("$.refreshToken").exists());
     }
 
     @Order(3)
@@ -325,4 +333,36 @@ class MemberControllerTest {
                         )
                 ));
     }
-}
\ No newline at end of file
+
+    @Order(9)
+    @DisplayName("로그아웃 API 테스트")
+    @Test
+    void logoutAPI() throws Exception {
+        String accessToken = jwtTokenProvider.createAccessToken(member);
+        String refreshToken = jwtTokenProvider.createRefreshToken(member);
+
+        Map<String,Object> request = new HashMap<>();
+        request.put("refreshToken",refreshToken);
+
+        ResultActions actions = mvc.perform(RestDocumentationRequestBuilders.delete("/api/v1/member/token")
+                .header("Authorization", accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .characterEncoding(Charsets.UTF_8.toString())
+                .content(objectMapper.writeValueAsString(request)));
+
+        actions
+                .andExpect(status().isNoContent())
+                .andDo(print())
+                .andDo(document("member/logout",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        requestHeaders(
+                                headerWithName("Authorization").description("폐기할 엑세스 토큰")
+                        ),
+                        requestFields(
+                                fieldWithPath("refreshToken").description("폐기할 리프레시 토큰")
+                        )
+                ));
+    }
+}
@@ -95,6 +95,7 @@ class MyPageControllerTest {
         //given
         PostsListDto postsListDto = PostsListDto.builder().id(posts.getId()).name(posts.getMember().getName())
                 .title(posts.getTitle()).productImageUrl(posts.getProductImageUrl())
+                .cardImageUrl("test_card.jpg").detailImageUrl("test_detail.jpg")
                 .isVoted(posts.getIsVoted()).permitRatio(20L).rejectRatio(80L)
                 .createdDate(LocalDateTime.of(2021, 8, 26, 12, 00, 00))
                 .voteDeadline(LocalDateTime.of(2021, 8, 27, 12, 00, 00))
@@ -127,6 +128,8 @@ class MyPageControllerTest {
                                 fieldWithPath("postsList.[].name").description("작성자 이름"),
                                 fieldWithPath("postsList.[].title").description("글 제목"),
                                 fieldWithPath("postsList.[].productImageUrl").description("상품 이미지"),
+                                fieldWithPath("postsList.[].cardImageUrl").description("목록용 상품 썸네일 (생성 전에는 원본 이미지)"),
+                                fieldWithPath("postsList.[].detailImageUrl").description("상세용 상품 썸네일 (생성 전에는 원본 이미지)"),
                                 fieldWithPath("postsList.[].isVoted").description("투표 종료 여부"),
                                 fieldWithPath("postsList.[].permitRatio").description("찬성 투표 비율"),
                                 fieldWithPath("postsList.[].rejectRatio").description("반대 투표 비율"),
@@ -193,6 +193,8 @@ class PostsControllerTest {
                 .name(member.getName())
                 .title("test1")
                 .productImageUrl("test1.jpg")
+                .cardImageUrl("test1_card.jpg")
+                .detailImageUrl("test1_detail.jpg")
                 .isVoted(false)
                 .permitRatio(29L)
                 .rejectRatio(71L)
@@ -204,6 +206,8 @@ class PostsControllerTest {
                 .name(member.getName())
                 .title("test2").
                 productImageUrl("test2.jpg")
+                .cardImageUrl("test2_card.jpg")
+                .detailImageUrl("test2_detail.jpg")
                 .isVoted(false)
                 .permitRatio(75L)
                 .rejectRatio(25L)
@@ -212,9 +216,9 @@ class PostsControllerTest {
                 .build();
         listDtos.add(dto2);
         listDtos.add(dto1);
-        AllPostResponseDto responseDto = AllPostResponseDto.builder().listDtos(listDtos).build();
+        AllPostResponseDto responseDto = AllPostResponseDto.builder().listDtos(listDtos).nextCursor("MjAyMS0wOC0wNFQxMjowMF8x").build();
 
-        given(postsService.getPostListWithSortType(SortType.CREATED_DATE.getValue())).willReturn(responseDto);
+        given(postsService.getPostListWithSortType(SortType.CREATED_DATE.getValue(), null)).willReturn(responseDto);
 
         //when
         ResultActions rankCountResult = mvc.perform(RestDocumentationRequestBuilders.get("/api/v1/posts?sorted=rank-count"));
@@ -238,25 +242,32 @@ class PostsControllerTest {
                         getDocumentRequest(),
                         getDocumentResponse(),
                         requestParameters(
-                                parameterWithName("sorted").description("정렬 방법")
+                                parameterWithName("sorted").description("정렬 방법"),
+                                parameterWithName("cursor").description("이전 응답의 nextCursor (첫 페이지는 생략)").optional()
                         ),
                         responseFields(
                                 fieldWithPath("listDtos.[].id").description("게시글 id"),
                                 fieldWithPath("listDtos.[].name").description("작성자 이름"),
                                 fieldWithPath("listDtos.[].title").description("글 제목"),
                                 fieldWithPath("listDtos.[].productImageUrl").description("상품 이미지"),
+                                fieldWithPath("listDtos.[].cardImageUrl").description("목록용 상품 썸네일 (생성 전에는 원본 이미지)"),
+                                fieldWithPath("listDtos.[].detailImageUrl").description("상세용 상품 썸네일 (생성 전에는 원본 이미지)"),
                                 fieldWithPath("listDtos.[].isVoted").description("투표 종료 여부"),
                                 fieldWithPath("listDtos.[].permitRatio").description("찬성 투표 비율"),
                                 fieldWithPath("listDtos.[].rejectRatio").description("반대 투표 비율"),
                                 fieldWithPath("listDtos.[].createdDate").description("작성된 시간"),
-                                fieldWithPath("listDtos.[].voteDeadline").description("투표 종료 시간")
+                                fieldWithPath("listDtos.[].voteDeadline").description("투표 종료 시간"),
+                                fieldWithPath("nextCursor").description("다음 페이지 커서 (마지막 페이지일 경우 null)")
                         )
                 ))
                 .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("MjAyMS0wOC0wNFQxMjowMF8x"))
                 .andExpect(jsonPath("$.listDtos[0].id").value(2L))
                 .andExpect(jsonPath("$.listDtos[0].name").value("name"))
                 .andExpect(jsonPath("$.listDtos[0].title").value("test2"))
                 .andExpect(jsonPath("$.listDtos[0].productImageUrl").value("test2.jpg"))
+                .andExpect(jsonPath("$.listDtos[0].cardImageUrl").value("test2_card.jpg"))
+                .andExpect(jsonPath("$.listDtos[0].detailImageUrl").value("test2_detail.jpg"))
                 .andExpect(jsonPath("$.listDtos[0].isVoted").value(false))
                 .andExpect(jsonPath("$.listDtos[0].permitRatio").value(75L))
                 .andExpect(jsonPath("$.listDtos[0].rejectRatio").value(25L))
@@ -293,6 +304,64 @@ class PostsControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @DisplayName("게시물 검색 API 테스트")
+    @Test
+    void searchAPI() throws Exception {
+        //given
+        PostsListDto dto = PostsListDto.builder()
+                .id(1L)
+                .name(member.getName())
+                .title("아이폰 살까요")
+                .productImageUrl("test1.jpg")
+                .cardImageUrl("test1_card.jpg")
+                .detailImageUrl("test1_detail.jpg")
+                .isVoted(false)
+                .permitRatio(29L)
+                .rejectRatio(71L)
+                .createdDate(LocalDateTime.of(2021, 8, 4, 12, 0, 0))
+                .voteDeadline(LocalDateTime.of(2021, 8, 5, 12, 0, 0))
+                .build();
+        SearchPostResponseDto responseDto = SearchPostResponseDto.builder().listDtos(List.of(dto)).totalCount(1).hasNext(false).build();
+
+        given(postsService.searchPosts("아이폰", false, null, 0)).willReturn(responseDto);
+
+        //when
+        ResultActions result = mvc.perform(RestDocumentationRequestBuilders.get("/api/v1/posts/search?keyword=아이폰&isVoted=false&page=0"));
+
+        //then
+        result
+                .andDo(document("posts/search",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        requestParameters(
+                                parameterWithName("keyword").description("검색어"),
+                                parameterWithName("isVoted").description("투표 종료 여부 필터").optional(),
+                                parameterWithName("isPostsEnd").description("게시 종료 여부 필터").optional(),
+                                parameterWithName("page").description("페이지 번호 (0부터 500까지, 기본값 0)").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("listDtos.[].id").description("게시글 id"),
+                                fieldWithPath("listDtos.[].name").description("작성자 이름"),
+                                fieldWithPath("listDtos.[].title").description("글 제목"),
+                                fieldWithPath("listDtos.[].productImageUrl").description("상품 이미지"),
+                                fieldWithPath("listDtos.[].cardImageUrl").description("목록용 상품 썸네일 (생성 전에는 원본 이미지)"),
+                                fieldWithPath("listDtos.[].detailImageUrl").description("상세용 상품 썸네일 (생성 전에는 원본 이미지)"),
+                                fieldWithPath("listDtos.[].isVoted").description("투표 종료 여부"),
+                                fieldWithPath("listDtos.[].permitRatio").description("찬성 투표 비율"),
+                                fieldWithPath("listDtos.[].rejectRatio").description("반대 투표 비율"),
+                                fieldWithPath("listDtos.[].createdDate").description("작성된 시간"),
+                                fieldWithPath("listDtos.[].voteDeadline").description("투표 종료 시간"),
+                                fieldWithPath("totalCount").description("검색된 게시글 수"),
+                                fieldWithPath("hasNext").description("다음 페이지 존재 여부")
+                        )
+                ))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(1))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.listDtos[0].id").value(1L))
+                .andExpect(jsonPath("$.listDtos[0].title").value("아이폰 살까요"));
+    }
+
     @DisplayName("투표 등록 API 테스트")
     @Test
     void saveVoteAPI() throws Exception {
@@ -394,12 +463,12 @@ class PostsControllerTest {
                 .postsDeadline(LocalDateTime.of(2021, 8, 20, 12, 0, 0))
                 .build();
         neckAndNeckPost.setCreatedDate(LocalDateTime.of(2021, 8, 12, 12, 0, 0));
-        Map<String, Posts> mainPostsMap = new HashMap<>();
-        mainPostsMap.put("hotPost", hotPost);
-        mainPostsMap.put("belovedPost", belovedPost);
-        mainPostsMap.put("recommendPost", recommendPost);
-        mainPostsMap.put("bestResponsePost", bestResponsePost);
-        mainPostsMap.put("neckAndNeckPost", neckAndNeckPost);
+        Map<String, MainPostDto> mainPostsMap = new HashMap<>();
+        mainPostsMap.put("hotPost", MainPostDto.of(hotPost));
+        mainPostsMap.put("belovedPost", MainPostDto.of(belovedPost));
+        mainPostsMap.put("recommendPost", MainPostDto.of(recommendPost));
+        mainPostsMap.put("bestResponsePost", MainPostDto.of(bestResponsePost));
+        mainPostsMap.put("neckAndNeckPost", MainPostDto.of(neckAndNeckPost));
 
         given(postsService.getMainPosts()).willReturn(mainPostsMap);
 
@@ -0,0 +1,141 @@
+package com.dnd5th3.dnd5th3backend.repository.member;
+
+import com.dnd5th3.dnd5th3backend.domain.member.Member;
+import com.dnd5th3.dnd5th3backend.domain.member.MemberType;
+import com.dnd5th3.dnd5th3backend.domain.member.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberCacheTest {
+
+    private static final String EMAIL = "test@gmail.com";
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MemberCache memberCache;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        memberCache = new MemberCache(memberRepository, meterRegistry, Clock.systemDefaultZone(), 2, Duration.ofMinutes(1));
+        member = createMember(1L, EMAIL);
+    }
+
+    @DisplayName("이메일, id 로 조회한 회원 캐시 및 hit/miss 기록 테스트")
+    @Test
+    void findByEmailAndId() {
+        //given
+        given(memberRepository.findByEmail(EMAIL)).willReturn(member);
+
+        //when
+        Member first = memberCache.findByEmail(EMAIL);
+        Member second = memberCache.findByEmail(EMAIL);
+        Optional<Member> byId = memberCache.findById(1L);
+
+        //then
+        assertSame(member, first);
+        assertSame(member, second);
+        assertSame(member, byId.orElseThrow());
+        verify(memberRepository, times(1)).findByEmail(EMAIL);
+        verify(memberRepository, never()).findById(anyLong());
+        assertEquals(2.0, meterRegistry.get("member.cache.gets").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("member.cache.gets").tag("result", "miss").counter().count());
+    }
+
+    @DisplayName("회원 정보 변경 후 제거한 회원 다시 조회 테스트")
+    @Test
+    void evict() {
+        //given
+        Member withdrawalMember = createMember(1L, EMAIL);
+        withdrawalMember.updateMemberType(MemberType.WITHDRAWAL);
+        given(memberRepository.findByEmail(EMAIL)).willReturn(member, withdrawalMember);
+        memberCache.findByEmail(EMAIL);
+
+        //when
+        memberCache.evict(member);
+        Member found = memberCache.findByEmail(EMAIL);
+
+        //then
+        assertEquals(MemberType.WITHDRAWAL, found.getMemberType());
+        assertFalse(memberCache.findById(1L).isEmpty());
+        verify(memberRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용하지 않은 회원 제거 테스트")
+    @Test
+    void maxSize() {
+        //given
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        given(memberRepository.findById(2L)).willReturn(Optional.of(createMember(2L, "test2@gmail.com")));
+        given(memberRepository.findById(3L)).willReturn(Optional.of(createMember(3L, "test3@gmail.com")));
+
+        //when
+        memberCache.findById(1L);
+        memberCache.findById(2L);
+        memberCache.findById(1L);
+        memberCache.findById(3L);
+        memberCache.findById(2L);
+
+        //then
+        assertEquals(2, memberCache.size());
+        verify(memberRepository, times(1)).findById(1L);
+        verify(memberRepository, times(2)).findById(2L);
+        assertEquals(2.0, meterRegistry.get("member.cache.size").gauge().value());
+    }
+
+    @DisplayName("ttl 이 지난 회원 다시 조회 테스트")
+    @Test
+    void expired() {
+        //given
+        memberCache = new MemberCache(memberRepository, meterRegistry, Clock.systemDefaultZone(), 2, Duration.ZERO);
+        given(memberRepository.findByEmail(EMAIL)).willReturn(member);
+
+        //when
+        memberCache.findByEmail(EMAIL);
+        memberCache.findByEmail(EMAIL);
+
+        //then
+        verify(memberRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @DisplayName("없는 회원은 캐시하지 않는 테스트")
+    @Test
+    void notFound() {
+        //when
+        Member found = memberCache.findByEmail(EMAIL);
+        memberCache.findByEmail(EMAIL);
+
+        //then
+        assertNull(found);
+        assertEquals(0, memberCache.size());
+        verify(memberRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    private Member createMember(Long id, String email) {
+        return Member.builder()
+                .id(id)
+                .email(email)
+                .password("1234")
+                .name(email)
+                .role(Role.ROLE_USER)
+                .memberType(MemberType.GENERAL)
+                .build();
+    }
+}
@@ -0,0 +1,221 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.controller.dto.comment.CommentRequestDto;
+import com.dnd5th3.dnd5th3backend.domain.member.Member;
+import com.dnd5th3.dnd5th3backend.domain.member.MemberType;
+import com.dnd5th3.dnd5th3backend.domain.member.Role;
+import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
+import com.dnd5th3.dnd5th3backend.repository.member.MemberRepository;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 댓글 10건인 게시글과 10만건인 게시글의 댓글 등록 지연 시간 비교
+ * 최상위 댓글은 게시글 댓글 수를 같은 트랜잭션에서 UPDATE 하므로, 한 게시글에 동시에 등록할 때와 게시글별로 나눠 등록할 때 처리량도 비교
+ * ./gradlew test -Dbenchmark=true --tests "*CommentInsertBenchmarkTest"
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CommentInsertBenchmarkTest {
+
+    private static final int SMALL_COMMENTS_COUNT = 10;
+    private static final int LARGE_COMMENTS_COUNT = 100_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int WARM_UP_COUNT = 200;
+    private static final int INSERT_COUNT = 1_000;
+    private static final double MAX_P50_RATIO = 2.0;
+    private static final int THREAD_COUNT = 8;
+    private static final int CONCURRENT_INSERT_COUNT = 200;
+    private static final double MAX_HOT_POST_SLOWDOWN = 2.0;
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private PostsRepository postsRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Member member;
+    private Posts smallPosts;
+    private Posts largePosts;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .email("comment-benchmark@gmail.com")
+                .password("1234")
+                .name("comment-benchmark")
+                .role(Role.ROLE_USER)
+                .memberType(MemberType.GENERAL)
+                .build());
+        smallPosts = postsRepository.save(createPosts("small"));
+        largePosts = postsRepository.save(createPosts("large"));
+        insertComments(smallPosts.getId(), SMALL_COMMENTS_COUNT);
+        insertComments(largePosts.getId(), LARGE_COMMENTS_COUNT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comment WHERE post_id IN (?, ?)", smallPosts.getId(), largePosts.getId());
+        postsRepository.deleteAllInBatch(List.of(smallPosts, largePosts));
+        memberRepository.delete(member);
+    }
+
+    @DisplayName("게시글의 댓글 수와 무관하게 댓글 등록 지연 시간과 쿼리 수가 일정한지 벤치마크")
+    @Test
+    void insertLatency() {
+        //given
+        for (int i = 0; i < WARM_UP_COUNT; i++) {
+            saveComment(smallPosts);
+            saveComment(largePosts);
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        //when
+        statistics.clear();
+        saveComment(smallPosts);
+        long smallStatementCount = statistics.getPrepareStatementCount();
+        statistics.clear();
+        saveComment(largePosts);
+        long largeStatementCount = statistics.getPrepareStatementCount();
+
+        long[] smallLatencies = new long[INSERT_COUNT];
+        long[] largeLatencies = new long[INSERT_COUNT];
+        for (int i = 0; i < INSERT_COUNT; i++) {
+            smallLatencies[i] = saveComment(smallPosts);
+            largeLatencies[i] = saveComment(largePosts);
+        }
+        Arrays.sort(smallLatencies);
+        Arrays.sort(largeLatencies);
+        long smallP50 = smallLatencies[INSERT_COUNT / 2];
+        long largeP50 = largeLatencies[INSERT_COUNT / 2];
+        System.out.printf("comment insert benchmark - comments: %d vs %d, statements: %d vs %d, p50: %dus vs %dus, p99: %dus vs %dus%n",
+                SMALL_COMMENTS_COUNT, LARGE_COMMENTS_COUNT, smallStatementCount, largeStatementCount,
+                smallP50, largeP50, smallLatencies[INSERT_COUNT * 99 / 100], largeLatencies[INSERT_COUNT * 99 / 100]);
+
+        //then
+        assertEquals(smallStatementCount, largeStatementCount);
+        assertTrue(largeP50 < smallP50 * MAX_P50_RATIO);
+    }
+
+    @DisplayName("한 게시글에 동시에 댓글을 등록해도 댓글 수 UPDATE 로 처리량이 크게 줄지 않는지 벤치마크")
+    @Test
+    void concurrentInsertThroughput() throws Exception {
+        //given
+        List<Posts> spreadPosts = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            spreadPosts.add(postsRepository.save(createPosts("spread" + i)));
+        }
+        List<Posts> hotPosts = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            hotPosts.add(smallPosts);
+        }
+        try {
+            concurrentInsert(spreadPosts);
+            concurrentInsert(hotPosts);
+
+            //when
+            double spreadThroughput = concurrentInsert(spreadPosts);
+            double hotThroughput = concurrentInsert(hotPosts);
+            System.out.printf("comment concurrent insert benchmark - threads: %d, hot post: %.0f/s, spread posts: %.0f/s%n",
+                    THREAD_COUNT, hotThroughput, spreadThroughput);
+
+            //then
+            assertTrue(hotThroughput * MAX_HOT_POST_SLOWDOWN > spreadThroughput);
+            assertEquals(THREAD_COUNT * CONCURRENT_INSERT_COUNT * 2L,
+                    (long) postsRepository.findCommentCount(smallPosts.getId()), "동시에 등록해도 댓글 수가 맞는지 확인");
+        } finally {
+            for (Posts posts : spreadPosts) {
+                jdbcTemplate.update("DELETE FROM comment WHERE post_id = ?", posts.getId());
+            }
+            postsRepository.deleteAllInBatch(spreadPosts);
+        }
+    }
+
+    /**
+     * 스레드마다 posts 의 같은 순서 게시글에 CONCURRENT_INSERT_COUNT 건씩 등록
+     * @return 초당 등록 건수
+     */
+    private double concurrentInsert(List<Posts> posts) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (Posts threadPosts : posts) {
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < CONCURRENT_INSERT_COUNT; i++) {
+                        saveComment(threadPosts);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return posts.size() * CONCURRENT_INSERT_COUNT * 1_000_000_000.0 / (System.nanoTime() - start);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private long saveComment(Posts posts) {
+        long start = System.nanoTime();
+        commentService.saveComment(new CommentRequestDto(posts.getId(), null, 0, "benchmark"), member);
+        return (System.nanoTime() - start) / 1_000;
+    }
+
+    private void insertComments(long postId, int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (int groupNo = 1; groupNo <= count; groupNo++) {
+            batchArgs.add(new Object[]{now, now, 0, 0, "comment" + groupNo, groupNo, false, member.getId(), postId});
+            if (batchArgs.size() == BATCH_SIZE || groupNo == count) {
+                jdbcTemplate.batchUpdate("INSERT INTO comment (created_date, updated_date, comment_layer, comment_order, content, group_no, is_deleted, member_id, post_id)" +
+                        " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", batchArgs);
+                batchArgs.clear();
+            }
+        }
+    }
+
+    private Posts createPosts(String title) {
+        return Posts.builder()
+                .member(member)
+                .title(title)
+                .content("test content")
+                .isVoted(false)
+                .isPostsEnd(false)
+                .permitCount(0)
+                .rejectCount(0)
+                .rankCount(0)
+                //댓글 수 UPDATE 가 실제로 실행되도록 집계된 상태(0)로 시작 (직접 넣은 댓글은 세지 않는다)
+                .commentCount(0L)
+                .voteDeadline(LocalDateTime.now().plusDays(1L))
+                .postsDeadline(LocalDateTime.now().plusDays(7L))
+                .build();
+    }
+}
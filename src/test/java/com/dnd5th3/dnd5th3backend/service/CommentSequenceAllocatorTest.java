@@ -0,0 +1,164 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.controller.dto.comment.CommentRequestDto;
+import com.dnd5th3.dnd5th3backend.domain.comment.Comment;
+import com.dnd5th3.dnd5th3backend.domain.member.Member;
+import com.dnd5th3.dnd5th3backend.domain.member.MemberType;
+import com.dnd5th3.dnd5th3backend.domain.member.Role;
+import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
+import com.dnd5th3.dnd5th3backend.repository.comment.CommentRepository;
+import com.dnd5th3.dnd5th3backend.repository.comment.CommentSequenceRepository;
+import com.dnd5th3.dnd5th3backend.repository.member.MemberRepository;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class CommentSequenceAllocatorTest {
+
+    private static final int THREAD_SIZE = 32;
+    private static final int ALLOCATION_SIZE = 2000;
+    private static final int COMMENT_SIZE = 200;
+    private static final int BLOCK_SIZE = 3;
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private CommentSequenceRepository commentSequenceRepository;
+    @Autowired
+    private PostsRepository postsRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Member member;
+    private Posts posts;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .email("sequence@gmail.com")
+                .password("1234")
+                .name("sequence")
+                .role(Role.ROLE_USER)
+                .memberType(MemberType.GENERAL)
+                .build());
+        posts = postsRepository.save(Posts.builder()
+                .member(member)
+                .title("sequence")
+                .content("test content")
+                .isVoted(false)
+                .isPostsEnd(false)
+                .permitCount(0)
+                .rejectCount(0)
+                .rankCount(0)
+                .voteDeadline(LocalDateTime.now().plusDays(1L))
+                .postsDeadline(LocalDateTime.now().plusDays(7L))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAllInBatch();
+        commentSequenceRepository.deleteAllInBatch();
+        postsRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    /**
+     * 서버 두 대를 가정해 같은 테이블을 쓰는 발급기 두 개에서 동시에 번호를 받는다.
+     */
+    @DisplayName("여러 발급기에서 동시에 발급한 그룹 번호, 대댓글 순서 중복 없음 테스트")
+    @Test
+    void concurrentAllocation() throws Exception {
+        //given
+        List<CommentSequenceAllocator> allocators = List.of(createAllocator(), createAllocator());
+        Set<Long> groupNos = ConcurrentHashMap.newKeySet();
+        Set<Integer> commentOrders = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_SIZE);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new CopyOnWriteArrayList<>();
+
+        //when
+        for (int i = 0; i < ALLOCATION_SIZE; i++) {
+            CommentSequenceAllocator allocator = allocators.get(i % allocators.size());
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                groupNos.add(allocator.nextGroupNo(posts.getId()));
+                commentOrders.add(allocator.nextCommentOrder(posts.getId(), 1L));
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executorService.shutdown();
+
+        //then
+        assertEquals(ALLOCATION_SIZE, groupNos.size());
+        assertEquals(ALLOCATION_SIZE, commentOrders.size());
+        assertTrue(groupNos.stream().allMatch(groupNo -> groupNo >= 1));
+        assertTrue(commentOrders.stream().allMatch(commentOrder -> commentOrder >= 1));
+    }
+
+    @DisplayName("동시에 등록한 댓글과 대댓글의 그룹 번호, 순서 중복 없음 테스트")
+    @Test
+    void concurrentSaveComment() throws Exception {
+        //given
+        Comment topComment = commentService.saveComment(new CommentRequestDto(posts.getId(), null, 0, "top"), member);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_SIZE);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new CopyOnWriteArrayList<>();
+
+        //when
+        for (int i = 0; i < COMMENT_SIZE; i++) {
+            int index = i;
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                commentService.saveComment(new CommentRequestDto(posts.getId(), null, 0, "comment" + index), member);
+                commentService.saveReplyComment(new CommentRequestDto(null, null, 1, "reply" + index), topComment.getId(), member);
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executorService.shutdown();
+
+        //then
+        List<Comment> comments = commentRepository.findAll();
+        Set<Long> groupNos = comments.stream()
+                .filter(comment -> comment.getCommentLayer() == 0)
+                .map(Comment::getGroupNo)
+                .collect(Collectors.toSet());
+        Set<Integer> commentOrders = comments.stream()
+                .filter(comment -> comment.getCommentLayer() == 1)
+                .map(Comment::getCommentOrder)
+                .collect(Collectors.toSet());
+        assertEquals(COMMENT_SIZE + 1, groupNos.size());
+        assertEquals(COMMENT_SIZE, commentOrders.size());
+    }
+
+    private CommentSequenceAllocator createAllocator() {
+        return new CommentSequenceAllocator(commentSequenceRepository, commentRepository, transactionManager, BLOCK_SIZE, BLOCK_SIZE, 100);
+    }
+}
@@ -6,19 +6,27 @@ import com.dnd5th3.dnd5th3backend.controller.dto.comment.CommentRequestDto;
 import com.dnd5th3.dnd5th3backend.controller.dto.comment.CommentResponseDto;
 import com.dnd5th3.dnd5th3backend.domain.comment.Comment;
 import com.dnd5th3.dnd5th3backend.domain.member.Member;
+import com.dnd5th3.dnd5th3backend.domain.vote.VoteType;
+import com.dnd5th3.dnd5th3backend.exception.PostNotFoundException;
+import com.dnd5th3.dnd5th3backend.repository.comment.CommentSequenceRepository;
 import com.dnd5th3.dnd5th3backend.repository.member.MemberRepository;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@DataJpaTest
-@Import({CommentService.class, QuerydslConfig.class})
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({CommentService.class, CommentSequenceAllocator.class, CommentWriter.class, PostsTrendingRanking.class, QuerydslConfig.class})
 @ActiveProfiles("h2")
 class CommentServiceTest {
 
@@ -28,12 +36,23 @@ class CommentServiceTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @Autowired
+    private CommentSequenceRepository commentSequenceRepository;
+
     private Member member;
 
     @Autowired
     private ModelMapper modelMapper;
 
+    @Autowired
+    private TestEntityManager testEntityManager;
+
     private static final int TOP = 0;
+    //최상위 댓글, 작성자 투표 결과, 대댓글 수, 댓글 이모지, 회원이 누른 이모지, 작성자(batch fetch), 게시글 댓글 수
+    private static final long COMMENT_LIST_STATEMENT_COUNT = 7;
 
     @BeforeEach
     void setup(){
@@ -53,6 +72,16 @@ class CommentServiceTest {
         assertNotNull(commentResponseDto.getCommentId(),"댓글 ID 반환 확인");
     }
 
+    @DisplayName("없는 게시글에 댓글 등록시 번호를 발급하지 않는 테스트")
+    @Test
+    void saveCommentWithUnknownPost() {
+        CommentRequestDto commentRequestDto = new CommentRequestDto(Long.MAX_VALUE, null, TOP, "comment test");
+        long sequenceCount = commentSequenceRepository.count();
+
+        assertThrows(PostNotFoundException.class, () -> commentService.saveComment(commentRequestDto, member));
+        assertEquals(sequenceCount, commentSequenceRepository.count(), "없는 게시글의 댓글 번호가 생성되지 않았는지 확인");
+    }
+
     @DisplayName("댓글 삭제 테스트")
     @Test
     void getComment() {
@@ -75,16 +104,27 @@ class CommentServiceTest {
     @Test
     void getCommentList() {
         long expectedTotalCount = 3;
-        CommentListResponseDto commentListResponseDto = commentService.getCommentList(1,0,member);
+        CommentListResponseDto commentListResponseDto = commentService.getCommentList(1,null,true,member);
         assertEquals(expectedTotalCount,commentListResponseDto.getTotalCount(),"총 댓글 개수 확인");
     }
 
+    @DisplayName("댓글 목록 작성자 투표 결과 테스트")
+    @Test
+    void getCommentListVoteType() {
+        CommentListResponseDto commentListResponseDto = commentService.getCommentList(1,null,false,member);
+        List<CommentListResponseDto.CommentDto> commentList = commentListResponseDto.getCommentList();
+
+        assertEquals(VoteType.PERMIT, commentList.get(0).getVoteType(), "찬성 투표한 작성자 확인");
+        assertEquals(VoteType.REJECT, commentList.get(1).getVoteType(), "반대 투표한 작성자 확인");
+        assertEquals(VoteType.NO_RESULT, commentList.get(2).getVoteType(), "투표하지 않은 작성자 확인");
+    }
+
     @DisplayName("댓글 상세 조회(+대댓글) 테스트")
     @Test
     void getDetailComment() {
         long commentId  = 3;
         long expectedTotalCount = 3;
-        CommentListResponseDto detailComment = commentService.getDetailComment(commentId,member);
+        CommentListResponseDto detailComment = commentService.getDetailComment(commentId,null,true,member);
         assertEquals(expectedTotalCount,detailComment.getCommentList().size(),"댓글 상세 개수 확인");
     }
 
@@ -96,4 +136,120 @@ class CommentServiceTest {
         Comment comment = commentService.saveReplyComment(commentRequestDto, commentId, member);
         assertEquals(commentRequestDto.getContent(),comment.getContent());
     }
-}
\ No newline at end of file
+
+    @DisplayName("댓글 목록 이모지 집계 및 회원 반응 여부 테스트")
+    @Test
+    void getCommentListEmoji() {
+        CommentListResponseDto commentListResponseDto = commentService.getCommentList(1,null,true,member);
+        CommentListResponseDto.CommentDto commentDto = commentListResponseDto.getCommentList().stream()
+                .filter(comment -> comment.getCommentId() == 1)
+                .findFirst().orElseThrow();
+
+        assertEquals(3, commentDto.getEmojiList().size(), "댓글 이모지 개수 확인");
+        assertTrue(commentDto.getEmojiList().get(0).isChecked(), "회원이 누른 이모지 확인");
+        assertTrue(commentDto.getEmojiList().get(1).isChecked(), "회원이 누른 이모지 확인");
+        assertFalse(commentDto.getEmojiList().get(2).isChecked(), "회원이 누르지 않은 이모지 확인");
+        assertEquals(1, commentDto.getEmojiList().get(0).getEmojiCount(), "이모지 클릭 수 확인");
+    }
+
+    @DisplayName("댓글 목록 커서 페이지 조회 테스트")
+    @Test
+    void getCommentListWithCursor() {
+        //given
+        long postId = 1;
+        for (int i = 0; i < 60; i++) {
+            commentService.saveComment(new CommentRequestDto(postId, null, TOP, "comment" + i), member);
+        }
+
+        //when
+        CommentListResponseDto firstPage = commentService.getCommentList(postId, null, false, member);
+        CommentListResponseDto secondPage = commentService.getCommentList(postId, firstPage.getNextCursor(), false, member);
+
+        //then
+        assertEquals(50, firstPage.getCommentList().size());
+        assertNotNull(firstPage.getNextCursor());
+        assertNull(firstPage.getTotalCount(), "총 개수 미요청시 null 확인");
+        assertEquals(13, secondPage.getCommentList().size());
+        assertNull(secondPage.getNextCursor(), "마지막 페이지 커서 확인");
+        long minFirstPageId = firstPage.getCommentList().stream().mapToLong(CommentListResponseDto.CommentDto::getCommentId).min().orElseThrow();
+        assertTrue(secondPage.getCommentList().stream().allMatch(commentDto -> commentDto.getCommentId() < minFirstPageId), "이전 페이지보다 오래된 댓글인지 확인");
+    }
+
+    @DisplayName("댓글 상세(대댓글) 커서 페이지 조회 테스트")
+    @Test
+    void getDetailCommentWithCursor() {
+        //given
+        long commentId = 3;
+        for (int i = 0; i < 60; i++) {
+            commentService.saveReplyComment(new CommentRequestDto(null, null, 1, "reply" + i), commentId, member);
+        }
+
+        //when
+        CommentListResponseDto firstPage = commentService.getDetailComment(commentId, null, true, member);
+        CommentListResponseDto secondPage = commentService.getDetailComment(commentId, firstPage.getNextCursor(), true, member);
+
+        //then
+        assertEquals(commentId, firstPage.getCommentList().get(0).getCommentId(), "첫 페이지는 상단 댓글부터 시작");
+        assertEquals(50, firstPage.getCommentList().size());
+        assertEquals(13, secondPage.getCommentList().size());
+        assertNull(secondPage.getNextCursor());
+        assertEquals(62L, secondPage.getTotalCount(), "대댓글 개수 확인");
+    }
+
+    @DisplayName("댓글 등록/삭제시 게시글 댓글 수 유지 테스트")
+    @Test
+    void maintainCommentCount() {
+        //given
+        long postId = 1;
+        assertEquals(3L, commentService.getCommentList(postId, null, true, member).getTotalCount());
+
+        //when
+        Comment comment = commentService.saveComment(new CommentRequestDto(postId, null, TOP, "comment"), member);
+        commentService.saveReplyComment(new CommentRequestDto(null, null, 1, "reply"), comment.getId(), member);
+        commentService.deleteComment(new CommentRequestDto(null, 1L, null, null));
+        commentService.deleteComment(new CommentRequestDto(null, 1L, null, null));
+        testEntityManager.flush();
+
+        //then
+        assertEquals(3L, commentService.getCommentList(postId, null, true, member).getTotalCount());
+        assertEquals(3L, postsRepository.findCommentCount(postId));
+    }
+
+    /**
+     * 기존에는 댓글마다 대댓글 COUNT 쿼리가 발생 (페이지당 최대 50건)
+     */
+    @DisplayName("댓글 목록 조회시 댓글 수와 무관하게 쿼리 수가 일정한지 테스트")
+    @Test
+    void getCommentListQueryCount() {
+        //given
+        long postId = 1;
+        //기존 게시글의 댓글 수 집계는 처음 한 번만 발생하므로 미리 조회
+        commentService.getCommentList(postId, null, true, member);
+        Statistics statistics = clearPersistenceContext();
+        commentService.getCommentList(postId, null, true, member);
+        assertEquals(COMMENT_LIST_STATEMENT_COUNT, statistics.getPrepareStatementCount(), "댓글 3건 조회 쿼리 수 확인");
+        for (int i = 0; i < 10; i++) {
+            Comment topComment = commentService.saveComment(new CommentRequestDto(postId, null, TOP, "comment" + i), member);
+            commentService.saveReplyComment(new CommentRequestDto(null, null, 1, "reply" + i), topComment.getId(), member);
+        }
+        clearPersistenceContext();
+
+        //when
+        CommentListResponseDto responseDto = commentService.getCommentList(postId, null, true, member);
+
+        //then
+        assertEquals(COMMENT_LIST_STATEMENT_COUNT, statistics.getPrepareStatementCount(), "댓글이 늘어도 쿼리 수가 같은지 확인");
+        assertEquals(13, responseDto.getCommentList().size());
+        assertEquals(2, responseDto.getCommentList().stream().filter(commentDto -> commentDto.getCommentId() == 3).findFirst().orElseThrow().getReplyCount(), "대댓글 수 확인");
+        assertTrue(responseDto.getCommentList().stream().filter(commentDto -> commentDto.getCommentId() > 5).allMatch(commentDto -> commentDto.getReplyCount() == 1), "새 댓글의 대댓글 수 확인");
+    }
+
+    private Statistics clearPersistenceContext() {
+        testEntityManager.flush();
+        testEntityManager.clear();
+        member = memberRepository.getById(member.getId());
+        Statistics statistics = testEntityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
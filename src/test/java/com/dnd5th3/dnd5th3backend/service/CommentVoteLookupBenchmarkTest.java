@@ -0,0 +1,163 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.domain.member.Member;
+import com.dnd5th3.dnd5th3backend.domain.member.MemberType;
+import com.dnd5th3.dnd5th3backend.domain.member.Role;
+import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
+import com.dnd5th3.dnd5th3backend.domain.vote.Vote;
+import com.dnd5th3.dnd5th3backend.repository.member.MemberRepository;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 투표 2만건인 게시글의 댓글 목록 조회시 요청당 할당 메모리 비교
+ * 기존 방식(게시글의 모든 투표 엔티티를 읽어 Map<Member, Vote> 생성)과 현재 댓글 목록 조회 전체를 비교한다.
+ * ./gradlew test -Dbenchmark=true --tests "*CommentVoteLookupBenchmarkTest"
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest
+class CommentVoteLookupBenchmarkTest {
+
+    private static final int VOTER_COUNT = 20_000;
+    private static final int COMMENT_COUNT = 50;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int REPEAT_COUNT = 20;
+    private static final String EMAIL_PREFIX = "vote-lookup-";
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private PostsRepository postsRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Member writer;
+    private Posts posts;
+
+    @BeforeEach
+    void setUp() {
+        writer = memberRepository.save(Member.builder()
+                .email(EMAIL_PREFIX + "writer@gmail.com")
+                .password("1234")
+                .name(EMAIL_PREFIX + "writer")
+                .role(Role.ROLE_USER)
+                .memberType(MemberType.GENERAL)
+                .build());
+        posts = postsRepository.save(Posts.builder()
+                .member(writer)
+                .title("vote lookup")
+                .content("test content")
+                .isVoted(false)
+                .isPostsEnd(false)
+                .permitCount(0)
+                .rejectCount(0)
+                .rankCount(0)
+                .voteDeadline(LocalDateTime.now().plusDays(1L))
+                .postsDeadline(LocalDateTime.now().plusDays(7L))
+                .build());
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> members = new ArrayList<>();
+        for (int i = 0; i < VOTER_COUNT; i++) {
+            members.add(new Object[]{now, now, EMAIL_PREFIX + i + "@gmail.com", "GENERAL", EMAIL_PREFIX + i, "1234", "ROLE_USER"});
+        }
+        batchUpdate("INSERT INTO member (created_date, updated_date, email, member_type, name, password, role) VALUES (?, ?, ?, ?, ?, ?, ?)", members);
+        List<Long> voterIds = jdbcTemplate.queryForList("SELECT member_id FROM member WHERE name LIKE ? ORDER BY member_id", Long.class, EMAIL_PREFIX + "%")
+                .stream().filter(id -> !id.equals(writer.getId())).collect(Collectors.toList());
+
+        List<Object[]> votes = new ArrayList<>();
+        List<Object[]> comments = new ArrayList<>();
+        for (int i = 0; i < voterIds.size(); i++) {
+            votes.add(new Object[]{now, now, i % 2 == 0 ? "PERMIT" : "REJECT", voterIds.get(i), posts.getId()});
+            if (i < COMMENT_COUNT) {
+                comments.add(new Object[]{now, now, 0, 0, "comment" + i, i + 1, false, voterIds.get(i), posts.getId()});
+            }
+        }
+        batchUpdate("INSERT INTO vote (created_date, updated_date, result, member_id, post_id) VALUES (?, ?, ?, ?, ?)", votes);
+        batchUpdate("INSERT INTO comment (created_date, updated_date, comment_layer, comment_order, content, group_no, is_deleted, member_id, post_id)" +
+                " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", comments);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comment WHERE post_id = ?", posts.getId());
+        jdbcTemplate.update("DELETE FROM vote WHERE post_id = ?", posts.getId());
+        postsRepository.deleteById(posts.getId());
+        jdbcTemplate.update("DELETE FROM member WHERE name LIKE ?", EMAIL_PREFIX + "%");
+    }
+
+    @DisplayName("댓글 작성자 투표만 조회할 때와 게시글 전체 투표를 읽을 때의 요청당 할당 메모리 벤치마크")
+    @Test
+    void allocatedBytesPerRequest() {
+        //given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Runnable loadAllVotes = () -> transactionTemplate.executeWithoutResult(status -> {
+            List<Vote> voteList = entityManager.createQuery("SELECT v FROM Vote v WHERE v.posts.id = :postId", Vote.class)
+                    .setParameter("postId", posts.getId())
+                    .getResultList();
+            Map<Member, Vote> votedMemberMap = voteList.stream().collect(Collectors.toMap(Vote::getMember, vote -> vote));
+            assertEquals(VOTER_COUNT, votedMemberMap.size());
+        });
+        Runnable getCommentList = () -> assertEquals(COMMENT_COUNT,
+                commentService.getCommentList(posts.getId(), null, false, writer).getCommentList().size());
+
+        //when
+        long allVotesBytes = allocatedBytes(loadAllVotes);
+        long commentListBytes = allocatedBytes(getCommentList);
+        System.out.printf("comment vote lookup benchmark - votes: %d, all votes: %dKB/request, comment list: %dKB/request%n",
+                VOTER_COUNT, allVotesBytes / 1024, commentListBytes / 1024);
+
+        //then
+        assertTrue(commentListBytes * 5 < allVotesBytes);
+    }
+
+    /**
+     * 현재 스레드가 요청 한 번에 할당한 바이트 (워밍업 후 REPEAT_COUNT 회 평균)
+     */
+    private long allocatedBytes(Runnable request) {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < REPEAT_COUNT; i++) {
+            request.run();
+        }
+        long start = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < REPEAT_COUNT; i++) {
+            request.run();
+        }
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - start) / REPEAT_COUNT;
+    }
+
+    private void batchUpdate(String sql, List<Object[]> batchArgs) {
+        for (int from = 0; from < batchArgs.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, batchArgs.subList(from, Math.min(from + BATCH_SIZE, batchArgs.size())));
+        }
+    }
+}
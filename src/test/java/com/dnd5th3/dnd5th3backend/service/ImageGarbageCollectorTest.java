@@ -0,0 +1,203 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.domain.image.ProductImage;
+import com.dnd5th3.dnd5th3backend.repository.image.ProductImageRepository;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import com.dnd5th3.dnd5th3backend.utils.storage.LocalObjectStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.*;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageGarbageCollectorTest {
+
+    private static final String BASE_URL = "http://localhost:8080/local-storage";
+    private static final Instant NOW = Instant.parse("2021-08-20T03:00:00Z");
+    private static final Instant OLD = NOW.minus(Duration.ofDays(2));
+    private static final String HASH_REFERENCED = "a".repeat(64);
+    private static final String HASH_REUSED = "b".repeat(64);
+    private static final String HASH_UNUSED = "c".repeat(64);
+
+    @TempDir
+    Path storageDir;
+
+    @Mock
+    private PostsRepository postsRepository;
+    @Mock
+    private ProductImageRepository productImageRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LocalObjectStorage localObjectStorage;
+    private ImageGarbageCollector imageGarbageCollector;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        localObjectStorage = new LocalObjectStorage(storageDir.toString(), BASE_URL);
+        imageGarbageCollector = new ImageGarbageCollector(localObjectStorage, postsRepository, productImageRepository, meterRegistry,
+                Clock.fixed(NOW, ZoneId.of("Asia/Seoul")), "static", Duration.ofHours(24), 2, 500);
+    }
+
+    @DisplayName("게시글이 참조하지 않는 오래된 이미지만 삭제하는 테스트")
+    @Test
+    void collect() throws IOException {
+        //given
+        store("static/uuid-kept.jpg", OLD);
+        store("static/uuid-orphan.jpg", OLD);
+        store("static/uuid-recent.jpg", NOW.minus(Duration.ofHours(1)));
+        store("static/" + HASH_REFERENCED + ".png", OLD);
+        store("static/" + HASH_REFERENCED + "_card.jpg", OLD);
+        givenReferencedUrls(BASE_URL + "/static/uuid-kept.jpg", BASE_URL + "/static/" + HASH_REFERENCED + ".png");
+
+        //when
+        ImageGarbageCollector.Result result = imageGarbageCollector.collect();
+
+        //then
+        assertEquals(5, result.getScanned());
+        assertEquals(1, result.getDeleted());
+        assertEquals(10L, result.getReclaimedBytes());
+        assertFalse(Files.exists(localObjectStorage.resolve("static/uuid-orphan.jpg")));
+        assertTrue(Files.exists(localObjectStorage.resolve("static/uuid-kept.jpg")));
+        assertTrue(Files.exists(localObjectStorage.resolve("static/uuid-recent.jpg")));
+        assertTrue(Files.exists(localObjectStorage.resolve("static/" + HASH_REFERENCED + "_card.jpg")));
+        assertEquals(5.0, meterRegistry.get("image.gc.scanned").counter().count());
+        assertEquals(1.0, meterRegistry.get("image.gc.deleted").counter().count());
+        assertEquals(10.0, meterRegistry.get("image.gc.reclaimed").counter().count());
+        assertEquals(0.0, meterRegistry.get("image.gc.progress").gauge().value());
+        verify(productImageRepository, never()).deleteUnusedByIdIn(any(), any());
+    }
+
+    @DisplayName("저장소 key 로 바꿀 수 없는 이미지 URL 이 있으면 삭제하지 않는 테스트")
+    @Test
+    void collectUnknownUrl() throws IOException {
+        //given
+        store("static/uuid-orphan.jpg", OLD);
+        givenReferencedUrls("https://other.com/static/uuid-orphan.jpg");
+
+        //when
+        ImageGarbageCollector.Result result = imageGarbageCollector.collect();
+
+        //then
+        assertEquals(0, result.getScanned());
+        assertEquals(0, result.getDeleted());
+        assertTrue(Files.exists(localObjectStorage.resolve("static/uuid-orphan.jpg")));
+    }
+
+    @DisplayName("목록을 읽는 동안 게시글이 참조한 이전 방식 이미지는 남기는 테스트")
+    @Test
+    void collectLegacyRecheck() throws IOException {
+        //given
+        store("static/uuid-referenced.jpg", OLD);
+        store("static/uuid-orphan.jpg", OLD);
+        givenReferencedUrls();
+        given(postsRepository.findReferencedProductImageUrls(anyCollection())).willReturn(List.of(BASE_URL + "/static/uuid-referenced.jpg"));
+
+        //when
+        ImageGarbageCollector.Result result = imageGarbageCollector.collect();
+
+        //then
+        assertEquals(1, result.getDeleted());
+        assertTrue(Files.exists(localObjectStorage.resolve("static/uuid-referenced.jpg")));
+        assertFalse(Files.exists(localObjectStorage.resolve("static/uuid-orphan.jpg")));
+    }
+
+    @DisplayName("삭제 직전 다시 참조되거나 재사용된 이미지는 남기는 테스트")
+    @Test
+    void collectRecheck() throws IOException {
+        //given
+        store("static/" + HASH_REFERENCED + ".png", OLD);
+        store("static/" + HASH_REUSED + ".png", OLD);
+        store("static/" + HASH_UNUSED + ".png", OLD);
+        store("static/" + HASH_UNUSED + "_card.jpg", OLD);
+        store("static/" + HASH_UNUSED + "_detail.jpg", OLD);
+        givenReferencedUrls();
+        LocalDateTime oldDateTime = LocalDateTime.ofInstant(OLD, ZoneId.of("Asia/Seoul"));
+        ProductImage referencedImage = createProductImage(1L, HASH_REFERENCED, oldDateTime, null);
+        ProductImage reusedImage = createProductImage(2L, HASH_REUSED, oldDateTime, LocalDateTime.ofInstant(NOW, ZoneId.of("Asia/Seoul")));
+        ProductImage unusedImage = createProductImage(3L, HASH_UNUSED, oldDateTime, null);
+        //참조 중이거나 재사용된 이미지 정보는 조건부 삭제에서 지워지지 않는다.
+        given(productImageRepository.findAllByHashIn(anyCollection()))
+                .willReturn(List.of(referencedImage, reusedImage, unusedImage), List.of(referencedImage, reusedImage));
+
+        //when
+        ImageGarbageCollector.Result result = imageGarbageCollector.collect();
+
+        //then
+        assertEquals(3, result.getDeleted());
+        assertTrue(Files.exists(localObjectStorage.resolve("static/" + HASH_REFERENCED + ".png")));
+        assertTrue(Files.exists(localObjectStorage.resolve("static/" + HASH_REUSED + ".png")));
+        assertFalse(Files.exists(localObjectStorage.resolve("static/" + HASH_UNUSED + ".png")));
+        assertFalse(Files.exists(localObjectStorage.resolve("static/" + HASH_UNUSED + "_card.jpg")));
+        verify(productImageRepository, times(1)).deleteUnusedByIdIn(List.of(1L, 2L, 3L), LocalDateTime.ofInstant(OLD.plus(Duration.ofDays(1)), ZoneId.of("Asia/Seoul")));
+    }
+
+    @DisplayName("이미지 정보 확인 후 삭제 전에 같은 내용으로 다시 업로드된 이미지는 남기는 테스트")
+    @Test
+    void collectReuploadedAfterRecheck() throws IOException {
+        //given
+        store("static/" + HASH_UNUSED + ".png", OLD);
+        store("static/" + HASH_UNUSED + "_card.jpg", OLD);
+        givenReferencedUrls();
+        ProductImage unusedImage = createProductImage(3L, HASH_UNUSED, LocalDateTime.ofInstant(OLD, ZoneId.of("Asia/Seoul")), null);
+        //다시 확인하는 시점에는 업로드가 객체만 쓰고 이미지 정보는 아직 등록하지 않았다.
+        given(productImageRepository.findAllByHashIn(anyCollection()))
+                .willReturn(List.of(unusedImage))
+                .willAnswer(invocation -> {
+                    store("static/" + HASH_UNUSED + ".png", NOW);
+                    return List.of();
+                });
+
+        //when
+        ImageGarbageCollector.Result result = imageGarbageCollector.collect();
+
+        //then
+        assertEquals(1, result.getDeleted());
+        assertTrue(Files.exists(localObjectStorage.resolve("static/" + HASH_UNUSED + ".png")));
+        assertFalse(Files.exists(localObjectStorage.resolve("static/" + HASH_UNUSED + "_card.jpg")));
+    }
+
+    private void givenReferencedUrls(String... urls) {
+        given(postsRepository.scanProductImageUrls(any(), anyInt(), any())).willAnswer(invocation -> {
+            if (invocation.getArgument(0) != null) {
+                return null;
+            }
+            Consumer<String> consumer = invocation.getArgument(2);
+            for (String url : urls) {
+                consumer.accept(url);
+            }
+            return 100L;
+        });
+    }
+
+    private void store(String key, Instant lastModified) throws IOException {
+        byte[] content = "0123456789".getBytes();
+        localObjectStorage.put(key, new ByteArrayInputStream(content), content.length, "image/jpeg");
+        Files.setLastModifiedTime(localObjectStorage.resolve(key), FileTime.from(lastModified));
+    }
+
+    private ProductImage createProductImage(Long id, String hash, LocalDateTime createdDate, LocalDateTime lastUsedDate) {
+        ProductImage productImage = ProductImage.builder().id(id).hash(hash).url(BASE_URL + "/static/" + hash + ".png")
+                .size(10L).lastUsedDate(lastUsedDate).build();
+        productImage.setCreatedDate(createdDate);
+        return productImage;
+    }
+}
@@ -0,0 +1,91 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.domain.member.Member;
+import com.dnd5th3.dnd5th3backend.domain.member.Role;
+import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
+import com.dnd5th3.dnd5th3backend.repository.comment.CommentRepository;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class MainPostsSnapshotHolderTest {
+
+    @Mock
+    private PostsRepository postsRepository;
+    @Mock
+    private CommentRepository commentRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MainPostsSnapshotHolder mainPostsSnapshotHolder;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        mainPostsSnapshotHolder = new MainPostsSnapshotHolder(postsRepository, commentRepository, meterRegistry);
+        member = Member.builder().id(1L).email("test@gmail.com").password("1234").role(Role.ROLE_USER).name("닉네임").build();
+    }
+
+    @DisplayName("메인페이지 스냅샷 갱신 테스트")
+    @Test
+    void refresh() {
+        //given
+        Posts commentedPost = createPosts(1L, 10, 10);
+        Posts mostCommentedPost = createPosts(2L, 10, 0);
+        Posts noCommentPost = createPosts(3L, 0, 0);
+        given(postsRepository.findPostsTop50Ranked()).willReturn(List.of(commentedPost, mostCommentedPost, noCommentPost));
+        given(commentRepository.countCommentsByPostIds(List.of(1L, 2L, 3L))).willReturn(Map.of(1L, 2L, 2L, 5L));
+
+        //when
+        mainPostsSnapshotHolder.refresh();
+        MainPostsSnapshot snapshot = mainPostsSnapshotHolder.getSnapshot();
+
+        //then
+        assertEquals(3, snapshot.getTopRankedPosts().size());
+        assertEquals(2, snapshot.getBestResponsePosts().size());
+        assertEquals(2L, snapshot.getBestResponsePosts().get(0).getId());
+        assertEquals(1, snapshot.getNeckAndNeckPosts().size());
+        assertEquals(1L, snapshot.getNeckAndNeckPosts().get(0).getId());
+        assertNotNull(meterRegistry.find("posts.main.snapshot.age").gauge());
+    }
+
+    @DisplayName("갱신 전 빈 스냅샷 반환 테스트")
+    @Test
+    void emptySnapshot() {
+        //when
+        MainPostsSnapshot snapshot = mainPostsSnapshotHolder.getSnapshot();
+
+        //then
+        assertTrue(snapshot.getTopRankedPosts().isEmpty());
+        assertEquals(0.0, meterRegistry.find("posts.main.snapshot.age").gauge().value());
+    }
+
+    private Posts createPosts(Long id, int permitCount, int rejectCount) {
+        return Posts.builder()
+                .id(id)
+                .member(member)
+                .title("test")
+                .content("test content")
+                .isVoted(false)
+                .isPostsEnd(false)
+                .permitCount(permitCount)
+                .rejectCount(rejectCount)
+                .rankCount(0)
+                .voteDeadline(LocalDateTime.now().plusDays(1L))
+                .postsDeadline(LocalDateTime.now().plusDays(7L))
+                .build();
+    }
+}
@@ -4,6 +4,7 @@ import com.dnd5th3.dnd5th3backend.controller.dto.mypage.InfoResponseDto;
 import com.dnd5th3.dnd5th3backend.controller.dto.mypage.SortType;
 import com.dnd5th3.dnd5th3backend.domain.member.Member;
 import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
+import com.dnd5th3.dnd5th3backend.repository.member.MemberCache;
 import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
 import com.dnd5th3.dnd5th3backend.repository.vote.VoteRepository;
 import org.junit.jupiter.api.BeforeAll;
@@ -17,6 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
@@ -26,6 +28,8 @@ class MyPageServiceTest {
 
     @Mock
     private PostsRepository postsRepository;
+    @Mock
+    private MemberCache memberCache;
 
     @InjectMocks
     private MyPageService myPageService;
@@ -47,6 +51,7 @@ class MyPageServiceTest {
     void getMemberInfoWithSortType() {
         //given
         given(postsRepository.findPostsByMemberOrderByCreatedDate(member)).willReturn(postsList);
+        given(memberCache.findById(1L)).willReturn(Optional.of(member));
 
         //when
         InfoResponseDto responseDto = myPageService.getMemberInfoWithSortType(member, SortType.WRITTEN.getValue());
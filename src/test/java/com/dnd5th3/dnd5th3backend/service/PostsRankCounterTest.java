@@ -0,0 +1,135 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostsRankCounterTest {
+
+    @Mock
+    private PostsRepository postsRepository;
+
+    @InjectMocks
+    private PostsRankCounter postsRankCounter;
+
+    @DisplayName("조회수 누적 후 일괄 반영 테스트")
+    @Test
+    void flush() throws Exception {
+        //given
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executorService.execute(() -> postsRankCounter.increase(1L));
+        }
+        postsRankCounter.increase(2L);
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        //when
+        postsRankCounter.flush();
+
+        //then
+        verify(postsRepository, times(1)).addRankCounts(Map.of(1L, 1000L, 2L, 1L));
+        assertEquals(0, postsRankCounter.getBufferedCount(1L));
+    }
+
+    @DisplayName("반영할 조회수가 없으면 UPDATE 를 실행하지 않는 테스트")
+    @Test
+    void flushEmpty() {
+        //when
+        postsRankCounter.flush();
+
+        //then
+        verify(postsRepository, never()).addRankCounts(anyMap());
+    }
+
+    @DisplayName("반영 실패시 버퍼 복구 테스트")
+    @Test
+    void flushFail() {
+        //given
+        postsRankCounter.increase(1L);
+        willThrow(new RuntimeException("db error")).given(postsRepository).addRankCounts(any());
+
+        //when
+        postsRankCounter.flush();
+
+        //then
+        assertEquals(1, postsRankCounter.getBufferedCount(1L));
+    }
+
+    @DisplayName("두 번 연속 조회가 없었던 게시글 카운터 제거 후에도 조회수 유지 테스트")
+    @Test
+    void evictIdleCounter() {
+        //given
+        postsRankCounter.increase(1L);
+        postsRankCounter.flush();
+        postsRankCounter.flush();
+
+        //when
+        postsRankCounter.flush();
+        postsRankCounter.increase(1L);
+        postsRankCounter.flush();
+
+        //then
+        verify(postsRepository, times(2)).addRankCounts(Map.of(1L, 1L));
+        assertEquals(0, postsRankCounter.getBufferedCount(1L));
+    }
+
+    @DisplayName("조회와 반영(카운터 제거 포함)이 동시에 일어나도 조회수 유실 없는 테스트")
+    @Test
+    void concurrentIncreaseAndFlush() throws Exception {
+        //given
+        AtomicLong flushedCount = new AtomicLong();
+        willAnswer(invocation -> {
+            Map<Long, Long> deltas = invocation.getArgument(0);
+            deltas.values().forEach(flushedCount::addAndGet);
+            return null;
+        }).given(postsRepository).addRankCounts(anyMap());
+        int threadCount = 4;
+        int increaseCount = 200_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        AtomicBoolean increasing = new AtomicBoolean(true);
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < increaseCount; j++) {
+                    postsRankCounter.increase((long) (j / 1000 % 50));
+                }
+            });
+        }
+        Thread flusher = new Thread(() -> {
+            while (increasing.get()) {
+                postsRankCounter.flush();
+            }
+        });
+        flusher.start();
+        executorService.shutdown();
+        executorService.awaitTermination(30, TimeUnit.SECONDS);
+        increasing.set(false);
+        flusher.join();
+        postsRankCounter.flush();
+        postsRankCounter.flush();
+
+        //then
+        assertEquals((long) threadCount * increaseCount, flushedCount.get());
+    }
+}
@@ -0,0 +1,101 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.controller.dto.post.AllPostResponseDto;
+import com.dnd5th3.dnd5th3backend.controller.dto.post.PostsListDto;
+import com.dnd5th3.dnd5th3backend.controller.dto.post.SortType;
+import com.dnd5th3.dnd5th3backend.domain.member.Member;
+import com.dnd5th3.dnd5th3backend.domain.member.MemberType;
+import com.dnd5th3.dnd5th3backend.domain.member.Role;
+import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
+import com.dnd5th3.dnd5th3backend.repository.member.MemberRepository;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostsReadUpdateCountTest {
+
+    private static final int EXPIRED_POSTS_SIZE = 10;
+
+    @Autowired
+    private PostsService postsService;
+    @Autowired
+    private PostsRepository postsRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(Member.builder()
+                .email("update-count@gmail.com")
+                .password("1234")
+                .name("update-count")
+                .role(Role.ROLE_USER)
+                .memberType(MemberType.GENERAL)
+                .build());
+        for (int i = 0; i < EXPIRED_POSTS_SIZE; i++) {
+            postsRepository.save(Posts.builder()
+                    .member(member)
+                    .title("expired" + i)
+                    .content("test content")
+                    .isVoted(false)
+                    .isPostsEnd(false)
+                    .permitCount(0)
+                    .rejectCount(0)
+                    .rankCount(0)
+                    .voteDeadline(LocalDateTime.now().minusDays(1L))
+                    .postsDeadline(LocalDateTime.now().plusDays(6L))
+                    .build());
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postsRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    /**
+     * 기존에는 마감된 게시글마다 상태 변경 UPDATE 가 발생 (이 데이터 기준 요청당 10건)
+     */
+    @DisplayName("마감된 게시글 목록 조회시 UPDATE 미발생 테스트")
+    @Test
+    void getPostListWithoutUpdate() {
+        //when
+        AllPostResponseDto responseDto = postsService.getPostListWithSortType(SortType.CREATED_DATE.getValue(), null);
+
+        //then
+        assertEquals(EXPIRED_POSTS_SIZE, responseDto.getListDtos().size());
+        assertTrue(responseDto.getListDtos().stream().allMatch(PostsListDto::getIsVoted));
+        assertEquals(0, statistics.getEntityUpdateCount());
+    }
+
+    @DisplayName("마감된 게시글 상태 일괄 변경 테스트")
+    @Test
+    void closeExpiredPosts() {
+        //when
+        postsService.closeExpiredPosts();
+
+        //then
+        assertTrue(postsRepository.findAll().stream().allMatch(Posts::getIsVoted));
+        assertEquals(0, statistics.getEntityUpdateCount());
+    }
+}
@@ -0,0 +1,116 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.domain.member.Member;
+import com.dnd5th3.dnd5th3backend.domain.member.Role;
+import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 게시글 100만건 검색 인덱스 벤치마크
+ * ./gradlew test -Dbenchmark=true --tests "*PostsSearchIndexBenchmarkTest"
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@ExtendWith(MockitoExtension.class)
+class PostsSearchIndexBenchmarkTest {
+
+    private static final int POSTS_COUNT = 1_000_000;
+    private static final int QUERY_COUNT = 2_000;
+    private static final int VOCABULARY_SIZE = 5_000;
+    private static final long P50_LIMIT_MICROS = 5_000L;
+    private static final long P99_LIMIT_MICROS = 100_000L;
+
+    @Mock
+    private PostsRepository postsRepository;
+
+    @DisplayName("게시글 100만건 색인 및 검색 지연 시간 벤치마크")
+    @Test
+    void searchLatency() {
+        //given
+        PostsSearchIndex postsSearchIndex = new PostsSearchIndex(postsRepository);
+        Member member = Member.builder().id(1L).email("test@gmail.com").password("1234").role(Role.ROLE_USER).name("닉네임").build();
+        Random random = new Random(42L);
+        String[] words = createVocabulary(random);
+        LocalDateTime now = LocalDateTime.now();
+
+        long buildStart = System.nanoTime();
+        for (long id = 1; id <= POSTS_COUNT; id++) {
+            postsSearchIndex.index(Posts.builder()
+                    .id(id)
+                    .member(member)
+                    .title(randomText(random, words, 3))
+                    .content(randomText(random, words, 8))
+                    .isVoted(false)
+                    .isPostsEnd(false)
+                    .permitCount(0)
+                    .rejectCount(0)
+                    .rankCount(0)
+                    .voteDeadline(now.plusHours(random.nextInt(48) - 24))
+                    .postsDeadline(now.plusDays(7L))
+                    .build());
+        }
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        //when
+        long[] latencies = new long[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            String keyword = i % 2 == 0 ? randomText(random, words, 1) : randomText(random, words, 2);
+            Boolean isVoted = i % 3 == 0 ? Boolean.FALSE : null;
+            long start = System.nanoTime();
+            postsSearchIndex.search(keyword, isVoted, null, i % 5, 20);
+            latencies[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(latencies);
+        long p50 = latencies[QUERY_COUNT / 2];
+        long p99 = latencies[QUERY_COUNT * 99 / 100];
+        System.out.printf("search index benchmark - posts: %d, tokens: %d, build: %dms, p50: %dus, p99: %dus%n",
+                postsSearchIndex.getDocCount(), postsSearchIndex.getTokenCount(), buildMillis, p50, p99);
+
+        //then
+        assertEquals(POSTS_COUNT, postsSearchIndex.getDocCount());
+        assertTrue(p50 < P50_LIMIT_MICROS);
+        assertTrue(p99 < P99_LIMIT_MICROS);
+    }
+
+    /**
+     * 받침 없는 한글 음절 2~3개로 만든 단어 목록
+     */
+    private String[] createVocabulary(Random random) {
+        String[] words = new String[VOCABULARY_SIZE];
+        for (int i = 0; i < VOCABULARY_SIZE; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = 2 + random.nextInt(2);
+            for (int j = 0; j < length; j++) {
+                sb.append((char) ('가' + random.nextInt(399) * 28));
+            }
+            words[i] = sb.toString();
+        }
+        return words;
+    }
+
+    /**
+     * 앞쪽 단어일수록 자주 등장하도록 치우치게 선택 (자주 쓰이는 단어가 검색될 때의 최악 지연 확인)
+     */
+    private String randomText(Random random, String[] words, int wordCount) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(words[(int) (words.length * Math.pow(random.nextDouble(), 3))]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,178 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.domain.member.Member;
+import com.dnd5th3.dnd5th3backend.domain.member.Role;
+import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import com.dnd5th3.dnd5th3backend.utils.BigramTokenizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PostsSearchIndexTest {
+
+    @Mock
+    private PostsRepository postsRepository;
+
+    private PostsSearchIndex postsSearchIndex;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        postsSearchIndex = new PostsSearchIndex(postsRepository);
+        member = Member.builder().id(1L).email("test@gmail.com").password("1234").role(Role.ROLE_USER).name("닉네임").build();
+    }
+
+    @DisplayName("bigram 토큰 분리 테스트")
+    @Test
+    void tokenize() {
+        assertEquals(List.of("아이", "이폰", "폰을", "살까", "a", "ip", "ph", "ho", "on", "ne"), BigramTokenizer.tokenize("아이폰을 살까? a iPhone"));
+    }
+
+    @DisplayName("시작 시 전체 게시글 색인 테스트")
+    @Test
+    void build() {
+        //given
+        given(postsRepository.findPostsForIndex(0L, 1000)).willReturn(List.of(createPosts(1L, "아이폰 살까요", "고민중입니다"), createPosts(2L, "맥북", "맥북 살까요")));
+
+        //when
+        postsSearchIndex.build();
+
+        //then
+        assertEquals(2, postsSearchIndex.getDocCount());
+        //제목에 포함된 게시글이 먼저
+        assertEquals(List.of(1L, 2L), postsSearchIndex.search("살까", null, null, 0, 20).getPostIds());
+    }
+
+    @DisplayName("조사가 붙은 단어 검색 및 제목 가중치 순위 테스트")
+    @Test
+    void searchRanked() {
+        //given
+        postsSearchIndex.index(createPosts(1L, "노트북 추천", "아이폰이랑 같이 쓸 노트북"));
+        postsSearchIndex.index(createPosts(2L, "아이폰을 살까요", "지금 사도 될까요"));
+        postsSearchIndex.index(createPosts(3L, "가방 살까요", "아무거나"));
+
+        //when
+        PostsSearchIndex.SearchResult result = postsSearchIndex.search("아이폰", null, null, 0, 20);
+
+        //then
+        assertEquals(List.of(2L, 1L), result.getPostIds());
+        assertEquals(2, result.getTotalCount());
+    }
+
+    @DisplayName("검색 결과 페이징 테스트")
+    @Test
+    void searchPaged() {
+        //given
+        for (long i = 1; i <= 5; i++) {
+            postsSearchIndex.index(createPosts(i, "신발 살까요", "내용"));
+        }
+
+        //when
+        PostsSearchIndex.SearchResult firstPage = postsSearchIndex.search("신발", null, null, 0, 2);
+        PostsSearchIndex.SearchResult lastPage = postsSearchIndex.search("신발", null, null, 2, 2);
+
+        //then
+        assertEquals(List.of(5L, 4L), firstPage.getPostIds());
+        assertEquals(List.of(1L), lastPage.getPostIds());
+        assertEquals(5, lastPage.getTotalCount());
+    }
+
+    @DisplayName("투표 종료/게시 종료 여부 필터 테스트")
+    @Test
+    void searchWithFilter() {
+        //given
+        postsSearchIndex.index(createPosts(1L, "신발 살까요", "진행중", LocalDateTime.now().plusDays(1L)));
+        postsSearchIndex.index(createPosts(2L, "신발 살까요", "투표 마감", LocalDateTime.now().minusDays(1L)));
+
+        //when
+        PostsSearchIndex.SearchResult votedResult = postsSearchIndex.search("신발", true, null, 0, 20);
+        PostsSearchIndex.SearchResult notVotedResult = postsSearchIndex.search("신발", false, false, 0, 20);
+
+        //then
+        assertEquals(List.of(2L), votedResult.getPostIds());
+        assertEquals(List.of(1L), notVotedResult.getPostIds());
+    }
+
+    @DisplayName("게시글 수정/삭제 반영 테스트")
+    @Test
+    void updateAndRemove() {
+        //given
+        postsSearchIndex.index(createPosts(1L, "신발 살까요", "내용"));
+        postsSearchIndex.index(createPosts(2L, "신발 살까요", "내용"));
+
+        //when
+        postsSearchIndex.index(createPosts(1L, "가방 살까요", "내용"));
+        postsSearchIndex.remove(2L);
+
+        //then
+        assertTrue(postsSearchIndex.search("신발", null, null, 0, 20).getPostIds().isEmpty());
+        assertEquals(List.of(1L), postsSearchIndex.search("가방", null, null, 0, 20).getPostIds());
+        assertEquals(1, postsSearchIndex.getDocCount());
+    }
+
+    @DisplayName("범위를 벗어난 페이지 검색 테스트")
+    @Test
+    void searchOutOfRangePage() {
+        //given
+        postsSearchIndex.index(createPosts(1L, "신발 살까요", "내용"));
+
+        //when
+        PostsSearchIndex.SearchResult negativePage = postsSearchIndex.search("신발", null, null, -1, 20);
+        PostsSearchIndex.SearchResult overflowPage = postsSearchIndex.search("신발", null, null, Integer.MAX_VALUE, 20);
+
+        //then
+        assertTrue(negativePage.getPostIds().isEmpty());
+        assertTrue(overflowPage.getPostIds().isEmpty());
+    }
+
+    @DisplayName("빈 순번이 쌓이면 순번을 다시 매기며 정리 테스트")
+    @Test
+    void compact() {
+        //given
+        postsSearchIndex.index(createPosts(1L, "신발 살까요", "내용"));
+        postsSearchIndex.index(createPosts(2L, "가방 살까요", "내용"));
+
+        //when
+        for (int i = 0; i < 10000; i++) {
+            postsSearchIndex.index(createPosts(1L, "신발 살까요", "수정 " + i));
+        }
+
+        //then
+        assertEquals(2, postsSearchIndex.getSlotCount());
+        assertEquals(List.of(1L), postsSearchIndex.search("신발", null, null, 0, 20).getPostIds());
+        assertEquals(List.of(2L), postsSearchIndex.search("가방", null, null, 0, 20).getPostIds());
+        assertEquals(List.of(2L, 1L), postsSearchIndex.search("살까", null, null, 0, 20).getPostIds());
+    }
+
+    private Posts createPosts(Long id, String title, String content) {
+        return createPosts(id, title, content, LocalDateTime.now().plusDays(1L));
+    }
+
+    private Posts createPosts(Long id, String title, String content, LocalDateTime voteDeadline) {
+        return Posts.builder()
+                .id(id)
+                .member(member)
+                .title(title)
+                .content(content)
+                .isVoted(false)
+                .isPostsEnd(false)
+                .permitCount(0)
+                .rejectCount(0)
+                .rankCount(0)
+                .voteDeadline(voteDeadline)
+                .postsDeadline(LocalDateTime.now().plusDays(7L))
+                .build();
+    }
+}
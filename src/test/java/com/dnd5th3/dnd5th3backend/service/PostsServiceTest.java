@@ -1,6 +1,7 @@
 package com.dnd5th3.dnd5th3backend.service;
 
 import com.dnd5th3.dnd5th3backend.controller.dto.post.*;
+import com.dnd5th3.dnd5th3backend.domain.image.ProductImage;
 import com.dnd5th3.dnd5th3backend.domain.member.Member;
 import com.dnd5th3.dnd5th3backend.domain.member.Role;
 import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
@@ -21,8 +22,12 @@ import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -38,11 +43,33 @@ class PostsServiceTest {
     @Mock
     private S3Uploader s3Uploader;
 
+    @Mock
+    private PostsWriter postsWriter;
+
+    @Mock
+    private PostsRankCounter postsRankCounter;
+
+    @Mock
+    private MainPostsSnapshotHolder mainPostsSnapshotHolder;
+
+    @Mock
+    private VoteIngestionQueue voteIngestionQueue;
+
+    @Mock
+    private VoteRatioBroadcaster voteRatioBroadcaster;
+
+    @Mock
+    private PostsTrendingRanking postsTrendingRanking;
+
+    @Mock
+    private PostsSearchIndex postsSearchIndex;
+
     @InjectMocks
     private PostsService postsService;
 
     private Member member;
     private Posts post;
+    private ProductImage productImage;
     private LocalDateTime testDate;
 
     @BeforeEach
@@ -63,6 +90,7 @@ class PostsServiceTest {
                 .voteDeadline(testDate.plusDays(1L))
                 .postsDeadline(testDate.plusDays(7L))
                 .build();
+        productImage = ProductImage.builder().id(1L).hash("hash").url("test.jpg").size(8L).build();
     }
 
     @DisplayName("게시물 저장 테스트")
@@ -71,8 +99,8 @@ class PostsServiceTest {
         //given
         MockMultipartFile file = new MockMultipartFile("test file", "test.jpg", MediaType.IMAGE_JPEG_VALUE, "test.jpg".getBytes(StandardCharsets.UTF_8));
         PostRequestDto postRequestDto = new PostRequestDto("test", "test content", file);
-        given(s3Uploader.upload(file, "static")).willReturn("test.jpg");
-        given(postsRepository.save(any(Posts.class))).willReturn(post);
+        given(s3Uploader.upload(file, "static")).willReturn(productImage);
+        given(postsWriter.save(any(Posts.class))).willReturn(post);
 
         //when
         IdResponseDto responseDto = postsService.savePost(postRequestDto, member);
@@ -94,7 +122,9 @@ class PostsServiceTest {
         //then
         assertEquals(responseDto.getId(), post.getId());
         assertEquals(responseDto.getTitle(), post.getTitle());
-        assertEquals(post.getRankCount(), 1);
+        verify(postsRankCounter, times(1)).increase(1L);
+        verify(postsTrendingRanking, times(1)).recordView(1L);
+        assertEquals(post.getRankCount(), 0);
         assertEquals(false, post.getIsVoted());
         assertEquals(false, post.getIsPostsEnd());
     }
@@ -105,8 +135,9 @@ class PostsServiceTest {
         //given
         MockMultipartFile file = new MockMultipartFile("test file", "test.jpg", MediaType.IMAGE_JPEG_VALUE, "test.jpg".getBytes(StandardCharsets.UTF_8));
         PostRequestDto requestDto = new PostRequestDto("test", "test content", file);
-        given(s3Uploader.upload(file, "static")).willReturn("test.jpg");
+        given(s3Uploader.upload(file, "static")).willReturn(productImage);
         given(postsRepository.findPostsById(1L)).willReturn(post);
+        given(postsWriter.update(1L, "test", "test content", productImage)).willReturn(post);
 
         //when
         IdResponseDto responseDto = postsService.updatePost(post.getId(), requestDto, member);
@@ -115,6 +146,22 @@ class PostsServiceTest {
         assertEquals(responseDto.getId(), post.getId());
     }
 
+    @DisplayName("새 이미지 없이 게시물 수정시 업로드하지 않는 테스트")
+    @Test
+    void updatePostWithoutFile() throws Exception {
+        //given
+        PostRequestDto requestDto = new PostRequestDto("test", "test content", null);
+        given(postsRepository.findPostsById(1L)).willReturn(post);
+        given(postsWriter.update(1L, "test", "test content", null)).willReturn(post);
+
+        //when
+        IdResponseDto responseDto = postsService.updatePost(post.getId(), requestDto, member);
+
+        //then
+        verify(s3Uploader, never()).upload(any(), any());
+        assertEquals(responseDto.getId(), post.getId());
+    }
+
     @DisplayName("게시물 삭제 테스트")
     @Test
     void deletePost() {
@@ -126,6 +173,7 @@ class PostsServiceTest {
 
         //then
         verify(postsRepository, times(1)).delete(eq(post));
+        verify(postsSearchIndex, times(1)).removeAfterCommit(post.getId());
         assertEquals(responseDto.getId(), post.getId());
     }
 
@@ -135,13 +183,131 @@ class PostsServiceTest {
         //given
         List<Posts> postsList = new ArrayList<>();
         postsList.add(post);
-        given(postsRepository.findPostsWithSortType(SortType.RANK_COUNT.getValue())).willReturn(postsList);
+        given(postsRepository.findPostsWithSortType(SortType.RANK_COUNT.getValue(), null, 21)).willReturn(postsList);
 
         //when
-        AllPostResponseDto responseDto = postsService.getPostListWithSortType(SortType.RANK_COUNT.getValue());
+        AllPostResponseDto responseDto = postsService.getPostListWithSortType(SortType.RANK_COUNT.getValue(), null);
 
         //then
         assertEquals(responseDto.getListDtos().get(0).getId(), post.getId());
+        assertNull(responseDto.getNextCursor());
+    }
+
+    @DisplayName("커서 기반 게시물 조회 테스트")
+    @Test
+    void getPostListWithCursor() {
+        //given
+        List<Posts> postsList = new ArrayList<>();
+        for (long i = 21; i >= 1; i--) {
+            postsList.add(Posts.builder()
+                    .id(i)
+                    .member(member)
+                    .title("test" + i)
+                    .content("test content")
+                    .isVoted(false)
+                    .isPostsEnd(false)
+                    .permitCount(0)
+                    .rejectCount(0)
+                    .rankCount((int) i)
+                    .voteDeadline(testDate.plusDays(1L))
+                    .postsDeadline(testDate.plusDays(7L))
+                    .build());
+        }
+        given(postsRepository.findPostsWithSortType(SortType.RANK_COUNT.getValue(), null, 21)).willReturn(postsList);
+
+        //when
+        AllPostResponseDto responseDto = postsService.getPostListWithSortType(SortType.RANK_COUNT.getValue(), null);
+        PostsCursor nextCursor = PostsCursor.decode(responseDto.getNextCursor());
+
+        //then
+        assertEquals(20, responseDto.getListDtos().size());
+        assertEquals(2L, nextCursor.getId());
+        assertEquals(2, nextCursor.getSortValueAsInteger());
+    }
+
+    @DisplayName("인기 게시물 조회 테스트")
+    @Test
+    void getTrendingPostList() {
+        //given
+        Posts endedPost = Posts.builder()
+                .id(2L)
+                .member(member)
+                .title("test2")
+                .content("test content")
+                .isVoted(true)
+                .isPostsEnd(true)
+                .permitCount(0)
+                .rejectCount(0)
+                .rankCount(0)
+                .voteDeadline(LocalDateTime.now().minusDays(7L))
+                .postsDeadline(LocalDateTime.now().minusDays(1L))
+                .build();
+        Posts trendingPost = Posts.builder()
+                .id(3L)
+                .member(member)
+                .title("test3")
+                .content("test content")
+                .isVoted(false)
+                .isPostsEnd(false)
+                .permitCount(0)
+                .rejectCount(0)
+                .rankCount(0)
+                .voteDeadline(LocalDateTime.now().plusDays(1L))
+                .postsDeadline(LocalDateTime.now().plusDays(7L))
+                .build();
+        given(postsTrendingRanking.getTopPostIds(20)).willReturn(List.of(3L, 2L, 4L));
+        given(postsRepository.findPostsWithMemberByIdIn(List.of(3L, 2L, 4L))).willReturn(List.of(endedPost, trendingPost));
+
+        //when
+        AllPostResponseDto responseDto = postsService.getPostListWithSortType(SortType.TRENDING.getValue(), null);
+
+        //then
+        assertEquals(1, responseDto.getListDtos().size());
+        assertEquals(3L, responseDto.getListDtos().get(0).getId());
+        assertNull(responseDto.getNextCursor());
+        verify(postsTrendingRanking, times(1)).remove(2L);
+        verify(postsTrendingRanking, times(1)).remove(4L);
+        verify(postsRepository, never()).findPostsWithSortType(any(), any(), anyInt());
+    }
+
+    @DisplayName("게시물 검색 테스트")
+    @Test
+    void searchPosts() {
+        //given
+        Posts otherPost = Posts.builder()
+                .id(2L)
+                .member(member)
+                .title("test2")
+                .content("test content")
+                .isVoted(false)
+                .isPostsEnd(false)
+                .permitCount(0)
+                .rejectCount(0)
+                .rankCount(0)
+                .voteDeadline(testDate.plusDays(1L))
+                .postsDeadline(testDate.plusDays(7L))
+                .build();
+        PostsSearchIndex.SearchResult result = new PostsSearchIndex.SearchResult(List.of(2L, 1L), 21);
+        given(postsSearchIndex.search("test", null, null, 0, 20)).willReturn(result);
+        given(postsRepository.findPostsWithMemberByIdIn(List.of(2L, 1L))).willReturn(List.of(post, otherPost));
+
+        //when
+        SearchPostResponseDto responseDto = postsService.searchPosts("test", null, null, 0);
+
+        //then
+        assertEquals(2L, responseDto.getListDtos().get(0).getId());
+        assertEquals(1L, responseDto.getListDtos().get(1).getId());
+        assertEquals(21, responseDto.getTotalCount());
+        assertTrue(responseDto.isHasNext());
+    }
+
+    @DisplayName("범위를 벗어난 페이지 검색 거절 테스트")
+    @Test
+    void searchPostsInvalidPage() {
+        //when, then
+        assertThrows(IllegalArgumentException.class, () -> postsService.searchPosts("test", null, null, -1));
+        assertThrows(IllegalArgumentException.class, () -> postsService.searchPosts("test", null, null, Integer.MAX_VALUE));
+        verify(postsSearchIndex, never()).search(anyString(), any(), any(), anyInt(), anyInt());
     }
 
     @DisplayName("게시물 투표 등록 테스트")
@@ -157,4 +323,79 @@ class PostsServiceTest {
         //then
         assertEquals(responseDto.getId(), post.getId());
     }
-}
\ No newline at end of file
+
+    @DisplayName("메인페이지 게시물 조회 테스트")
+    @Test
+    void getMainPosts() {
+        //given
+        MainPostDto mainPostDto = MainPostDto.of(post);
+        List<MainPostDto> candidates = List.of(mainPostDto);
+        given(mainPostsSnapshotHolder.getSnapshot()).willReturn(new MainPostsSnapshot(candidates, candidates, List.of()));
+
+        //when
+        Map<String, MainPostDto> mainPosts = postsService.getMainPosts();
+
+        //then
+        assertEquals(mainPostDto, mainPosts.get("hotPost"));
+        assertEquals(mainPostDto, mainPosts.get("bestResponsePost"));
+        assertNull(mainPosts.get("neckAndNeckPost"));
+        verify(postsRepository, never()).findPostsTop50Ranked();
+    }
+
+    @DisplayName("마감된 게시글 목록 조회시 엔티티를 변경하지 않는 테스트")
+    @Test
+    void getPostListWithExpiredPost() {
+        //given
+        Posts expiredPost = Posts.builder()
+                .id(2L)
+                .member(member)
+                .title("expired")
+                .content("test content")
+                .isVoted(false)
+                .isPostsEnd(false)
+                .permitCount(0)
+                .rejectCount(0)
+                .rankCount(0)
+                .voteDeadline(LocalDateTime.now().minusDays(1L))
+                .postsDeadline(LocalDateTime.now().plusDays(6L))
+                .build();
+        given(postsRepository.findPostsWithSortType(SortType.CREATED_DATE.getValue(), null, 21)).willReturn(List.of(expiredPost));
+
+        //when
+        AllPostResponseDto responseDto = postsService.getPostListWithSortType(SortType.CREATED_DATE.getValue(), null);
+
+        //then
+        assertEquals(true, responseDto.getListDtos().get(0).getIsVoted());
+        assertEquals(false, expiredPost.getIsVoted());
+    }
+
+    @DisplayName("마감된 게시글 상태 일괄 변경 테스트")
+    @Test
+    void closeExpiredPosts() {
+        //when
+        postsService.closeExpiredPosts();
+
+        //then
+        verify(postsRepository, times(1)).updateVotedStatusByDeadline(any(LocalDateTime.class));
+        verify(postsRepository, times(1)).updatePostsEndStatusByDeadline(any(LocalDateTime.class));
+        verify(postsTrendingRanking, times(1)).prune();
+    }
+
+    @DisplayName("비동기 투표 수집 모드 투표 등록 테스트")
+    @Test
+    void saveVoteAsync() {
+        //given
+        Member voter = Member.builder().id(2L).email("voter@gmail.com").password("1234").role(Role.ROLE_USER).name("voter").build();
+        VoteRequestDto requestDto = new VoteRequestDto(VoteType.PERMIT);
+        given(voteIngestionQueue.isEnabled()).willReturn(true);
+        given(postsRepository.existsById(1L)).willReturn(true);
+
+        //when
+        IdResponseDto responseDto = postsService.saveVote(1L, requestDto, voter);
+
+        //then
+        assertEquals(1L, responseDto.getId());
+        verify(voteIngestionQueue, times(1)).offer(2L, 1L, VoteType.PERMIT);
+        verify(voteService, never()).saveVote(any(), any(), any());
+    }
+}
@@ -0,0 +1,194 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.domain.member.Member;
+import com.dnd5th3.dnd5th3backend.domain.member.Role;
+import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.*;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PostsTrendingRankingTest {
+
+    @Mock
+    private PostsRepository postsRepository;
+
+    private MutableClock clock;
+    private PostsTrendingRanking postsTrendingRanking;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(LocalDateTime.of(2022, 2, 7, 12, 0, 0).toInstant(ZoneOffset.UTC));
+        postsTrendingRanking = new PostsTrendingRanking(postsRepository, clock, 6);
+    }
+
+    @DisplayName("이벤트 가중치에 따른 순위 테스트")
+    @Test
+    void rankByWeight() {
+        //when
+        postsTrendingRanking.recordView(1L);
+        postsTrendingRanking.recordVote(2L);
+        postsTrendingRanking.recordComment(3L);
+        postsTrendingRanking.recordView(1L);
+
+        //then
+        assertEquals(List.of(3L, 2L, 1L), postsTrendingRanking.getTopPostIds(10));
+        assertEquals(List.of(3L, 2L), postsTrendingRanking.getTopPostIds(2));
+    }
+
+    @DisplayName("오래된 이벤트는 감쇠되어 최근 이벤트보다 낮은 순위 테스트")
+    @Test
+    void decayOverTime() {
+        //given
+        for (int i = 0; i < 3; i++) {
+            postsTrendingRanking.recordComment(1L);
+        }
+
+        //when
+        //반감기 6시간 * 5 = 1/32 로 감쇠
+        clock.advance(Duration.ofHours(30));
+        postsTrendingRanking.recordVote(2L);
+
+        //then
+        assertEquals(List.of(2L, 1L), postsTrendingRanking.getTopPostIds(10));
+    }
+
+    @DisplayName("삭제된 게시글 순위 제외 테스트")
+    @Test
+    void remove() {
+        //given
+        postsTrendingRanking.recordVote(1L);
+        postsTrendingRanking.recordView(2L);
+
+        //when
+        postsTrendingRanking.remove(1L);
+
+        //then
+        assertEquals(List.of(2L), postsTrendingRanking.getTopPostIds(10));
+        assertEquals(1, postsTrendingRanking.size());
+    }
+
+    @DisplayName("게시가 종료됐거나 삭제된 게시글 정리 테스트")
+    @Test
+    void prune() {
+        //given
+        postsTrendingRanking.recordVote(1L);
+        postsTrendingRanking.recordView(2L);
+        postsTrendingRanking.recordComment(3L);
+        given(postsRepository.findActivePostIds(anyCollection(), any(LocalDateTime.class))).willReturn(List.of(2L));
+
+        //when
+        int removed = postsTrendingRanking.prune();
+
+        //then
+        assertEquals(2, removed);
+        assertEquals(List.of(2L), postsTrendingRanking.getTopPostIds(10));
+        assertEquals(1, postsTrendingRanking.size());
+    }
+
+    @DisplayName("시작 시 게시 중인 게시글 누적 수치 반영 테스트")
+    @Test
+    void load() {
+        //given
+        Member member = Member.builder().id(1L).email("test@gmail.com").password("1234").role(Role.ROLE_USER).name("닉네임").build();
+        Posts viewedPost = createPosts(1L, member, 10, 0);
+        Posts votedPost = createPosts(2L, member, 0, 5);
+        Posts untouchedPost = createPosts(3L, member, 0, 0);
+        given(postsRepository.findAllByPostsDeadlineAfter(any(LocalDateTime.class))).willReturn(List.of(viewedPost, votedPost, untouchedPost));
+
+        //when
+        postsTrendingRanking.load();
+
+        //then
+        assertEquals(List.of(2L, 1L), postsTrendingRanking.getTopPostIds(10));
+    }
+
+    @DisplayName("동시 갱신시 게시글당 항목 하나만 유지 테스트")
+    @Test
+    void concurrentRecord() throws InterruptedException {
+        //given
+        int threadCount = 8;
+        int eventCount = 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < eventCount; j++) {
+                    postsTrendingRanking.recordView((long) (j % 10));
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executorService.shutdown();
+
+        //then
+        assertEquals(10, postsTrendingRanking.size());
+        assertEquals(10, postsTrendingRanking.getTopPostIds(100).size());
+    }
+
+    private Posts createPosts(Long id, Member member, int rankCount, int voteCount) {
+        Posts posts = Posts.builder()
+                .id(id)
+                .member(member)
+                .title("test")
+                .content("test content")
+                .isVoted(false)
+                .isPostsEnd(false)
+                .permitCount(voteCount)
+                .rejectCount(0)
+                .rankCount(rankCount)
+                .voteDeadline(LocalDateTime.now(clock).plusDays(1L))
+                .postsDeadline(LocalDateTime.now(clock).plusDays(7L))
+                .build();
+        posts.setCreatedDate(LocalDateTime.now(clock));
+        return posts;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
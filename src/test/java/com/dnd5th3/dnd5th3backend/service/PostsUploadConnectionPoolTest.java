@@ -0,0 +1,184 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.controller.dto.post.PostRequestDto;
+import com.dnd5th3.dnd5th3backend.domain.member.Member;
+import com.dnd5th3.dnd5th3backend.domain.member.MemberType;
+import com.dnd5th3.dnd5th3backend.domain.member.Role;
+import com.dnd5th3.dnd5th3backend.repository.image.ProductImageRepository;
+import com.dnd5th3.dnd5th3backend.repository.member.MemberRepository;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import com.dnd5th3.dnd5th3backend.utils.storage.ObjectStorage;
+import com.dnd5th3.dnd5th3backend.utils.storage.StoredObject;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.sql.DataSource;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 느린 저장소로 업로드하는 동안 DB 커넥션을 잡고 있지 않는지 확인
+ * 커넥션 풀(2개)보다 많은 업로드가 동시에 진행돼도 다른 요청이 바로 커넥션을 얻을 수 있어야 한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=1000"
+})
+class PostsUploadConnectionPoolTest {
+
+    private static final int UPLOAD_SIZE = 8;
+    private static final long UPLOAD_DELAY_MILLIS = 1500L;
+
+    @Autowired
+    private PostsService postsService;
+    @Autowired
+    private PostsRepository postsRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private ProductImageRepository productImageRepository;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private SlowObjectStorage slowObjectStorage;
+
+    private Member member;
+
+    @TestConfiguration
+    static class SlowStorageConfig {
+
+        @Primary
+        @Bean
+        public SlowObjectStorage slowObjectStorage() {
+            return new SlowObjectStorage();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .email("uploader@gmail.com")
+                .password("1234")
+                .name("uploader")
+                .role(Role.ROLE_USER)
+                .memberType(MemberType.GENERAL)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        postsRepository.deleteAllInBatch();
+        productImageRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("업로드 중에는 DB 커넥션을 사용하지 않는 테스트")
+    @Test
+    void uploadWithoutHoldingConnection() throws Exception {
+        //given
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        slowObjectStorage.reset(UPLOAD_SIZE);
+        ExecutorService executorService = Executors.newFixedThreadPool(UPLOAD_SIZE);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < UPLOAD_SIZE; i++) {
+            PostRequestDto requestDto = new PostRequestDto("title" + i, "content", new MockMultipartFile("file", "image.jpg", MediaType.IMAGE_JPEG_VALUE, ("image" + i).getBytes(StandardCharsets.UTF_8)));
+            futures.add(executorService.submit(() -> postsService.savePost(requestDto, member)));
+        }
+        assertTrue(slowObjectStorage.awaitAllUploading(5, TimeUnit.SECONDS));
+        int activeConnectionsDuringUpload = pool.getActiveConnections();
+        long start = System.currentTimeMillis();
+        long countDuringUpload = postsRepository.count();
+        long elapsedMillis = System.currentTimeMillis() - start;
+
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        //then
+        assertEquals(0, activeConnectionsDuringUpload);
+        assertEquals(0L, countDuringUpload);
+        assertTrue(elapsedMillis < UPLOAD_DELAY_MILLIS);
+        assertEquals(UPLOAD_SIZE, postsRepository.count());
+    }
+
+    /**
+     * 업로드마다 일정 시간 지연되는 저장소
+     */
+    static class SlowObjectStorage implements ObjectStorage {
+
+        private volatile CountDownLatch uploading = new CountDownLatch(0);
+
+        void reset(int uploadSize) {
+            uploading = new CountDownLatch(uploadSize);
+        }
+
+        boolean awaitAllUploading(long timeout, TimeUnit unit) throws InterruptedException {
+            return uploading.await(timeout, unit);
+        }
+
+        @Override
+        public String put(String key, InputStream inputStream, long contentLength, String contentType) throws IOException {
+            uploading.countDown();
+            inputStream.readAllBytes();
+            try {
+                Thread.sleep(UPLOAD_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            return "http://localhost/" + key;
+        }
+
+        @Override
+        public InputStream get(String key) throws IOException {
+            throw new FileNotFoundException(key);
+        }
+
+        @Override
+        public List<StoredObject> list(String prefix, String startAfter, int maxKeys) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public StoredObject stat(String key) {
+            return null;
+        }
+
+        @Override
+        public void delete(List<String> keys) {
+        }
+
+        @Override
+        public String keyOf(String url) {
+            return url.startsWith("http://localhost/") ? url.substring("http://localhost/".length()) : null;
+        }
+
+        @Override
+        public String urlOf(String key) {
+            return "http://localhost/" + key;
+        }
+    }
+}
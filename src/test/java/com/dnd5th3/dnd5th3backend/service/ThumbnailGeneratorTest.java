@@ -0,0 +1,95 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.utils.storage.LocalObjectStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ThumbnailGeneratorTest {
+
+    private static final String BASE_URL = "http://localhost:8080/local-storage";
+
+    @TempDir
+    Path storageDir;
+
+    @Mock
+    private ProductImageVariantWriter productImageVariantWriter;
+
+    private LocalObjectStorage localObjectStorage;
+    private ThumbnailGenerator thumbnailGenerator;
+
+    @BeforeEach
+    void setUp() {
+        localObjectStorage = new LocalObjectStorage(storageDir.toString(), BASE_URL);
+        thumbnailGenerator = new ThumbnailGenerator(localObjectStorage, productImageVariantWriter, 1, 10, 64L * 1024 * 1024);
+    }
+
+    @AfterEach
+    void tearDown() {
+        thumbnailGenerator.shutdown();
+    }
+
+    @DisplayName("원본 이미지로 썸네일을 만들어 저장하는 테스트")
+    @Test
+    void generate() throws Exception {
+        //given
+        byte[] png = toPng(new BufferedImage(2000, 1500, BufferedImage.TYPE_INT_ARGB));
+        localObjectStorage.put("static/hash.png", new ByteArrayInputStream(png), png.length, "image/png");
+
+        //when
+        thumbnailGenerator.generate(1L, "static/hash.png", png.length);
+
+        //then
+        verify(productImageVariantWriter, timeout(5000).times(1))
+                .write(1L, BASE_URL + "/static/hash_card.jpg", BASE_URL + "/static/hash_detail.jpg");
+        BufferedImage card = ImageIO.read(localObjectStorage.resolve("static/hash_card.jpg").toFile());
+        BufferedImage detail = ImageIO.read(localObjectStorage.resolve("static/hash_detail.jpg").toFile());
+        assertEquals(360, card.getWidth());
+        assertEquals(270, card.getHeight());
+        assertEquals(1080, detail.getWidth());
+        assertEquals(810, detail.getHeight());
+    }
+
+    @DisplayName("원본이 메모리 한도보다 크면 썸네일을 만들지 않는 테스트")
+    @Test
+    void generateOverHeapBudget() throws Exception {
+        //given
+        ThumbnailGenerator smallBudgetGenerator = new ThumbnailGenerator(localObjectStorage, productImageVariantWriter, 1, 10, 4L);
+        byte[] content = "image".getBytes(StandardCharsets.UTF_8);
+        localObjectStorage.put("static/hash.png", new ByteArrayInputStream(content), content.length, "image/png");
+
+        //when
+        smallBudgetGenerator.generate(1L, "static/hash.png", content.length);
+        smallBudgetGenerator.shutdown();
+
+        //then
+        verify(productImageVariantWriter, after(500).never()).write(anyLong(), anyString(), anyString());
+        assertFalse(Files.exists(localObjectStorage.resolve("static/hash_card.jpg")));
+    }
+
+    private byte[] toPng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,119 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.domain.member.Member;
+import com.dnd5th3.dnd5th3backend.domain.member.MemberType;
+import com.dnd5th3.dnd5th3backend.domain.member.Role;
+import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
+import com.dnd5th3.dnd5th3backend.domain.vote.VoteType;
+import com.dnd5th3.dnd5th3backend.exception.DuplicateVoteException;
+import com.dnd5th3.dnd5th3backend.repository.member.MemberRepository;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import com.dnd5th3.dnd5th3backend.repository.vote.VoteRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class VoteConcurrencyTest {
+
+    private static final int VOTER_SIZE = 1000;
+    private static final int THREAD_SIZE = 32;
+
+    @Autowired
+    private VoteService voteService;
+    @Autowired
+    private VoteRepository voteRepository;
+    @Autowired
+    private PostsRepository postsRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private List<Member> voters;
+    private Posts posts;
+
+    @BeforeEach
+    void setUp() {
+        voters = new ArrayList<>();
+        for (int i = 0; i < VOTER_SIZE; i++) {
+            voters.add(Member.builder()
+                    .email("voter" + i + "@gmail.com")
+                    .password("1234")
+                    .name("voter" + i)
+                    .role(Role.ROLE_USER)
+                    .memberType(MemberType.GENERAL)
+                    .build());
+        }
+        voters = memberRepository.saveAll(voters);
+        posts = postsRepository.save(Posts.builder()
+                .member(voters.get(0))
+                .title("concurrency")
+                .content("test content")
+                .isVoted(false)
+                .isPostsEnd(false)
+                .permitCount(0)
+                .rejectCount(0)
+                .rankCount(0)
+                .voteDeadline(LocalDateTime.now().plusDays(1L))
+                .postsDeadline(LocalDateTime.now().plusDays(7L))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        voteRepository.deleteAllInBatch();
+        postsRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("1000명 동시 투표 + 중복 투표시 정확한 투표수 테스트")
+    @Test
+    void concurrentVote() throws Exception {
+        //given
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_SIZE);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger duplicateCount = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < VOTER_SIZE; i++) {
+            Member voter = voters.get(i);
+            VoteType result = i % 2 == 0 ? VoteType.PERMIT : VoteType.REJECT;
+            //모든 투표자가 같은 투표를 두 번 요청
+            for (int attempt = 0; attempt < 2; attempt++) {
+                executorService.execute(() -> {
+                    try {
+                        startLatch.await();
+                        voteService.saveVote(voter, posts, result);
+                    } catch (DuplicateVoteException e) {
+                        duplicateCount.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+        }
+        startLatch.countDown();
+        executorService.shutdown();
+        executorService.awaitTermination(2, TimeUnit.MINUTES);
+
+        //then
+        Posts votedPosts = postsRepository.findById(posts.getId()).orElseThrow();
+        assertEquals(VOTER_SIZE / 2, votedPosts.getPermitCount());
+        assertEquals(VOTER_SIZE / 2, votedPosts.getRejectCount());
+        assertEquals(VOTER_SIZE, voteRepository.count());
+        assertEquals(VOTER_SIZE, duplicateCount.get());
+    }
+}
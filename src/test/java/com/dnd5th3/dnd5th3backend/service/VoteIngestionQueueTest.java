@@ -0,0 +1,101 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.domain.vote.VoteType;
+import com.dnd5th3.dnd5th3backend.domain.vote.vo.PendingVoteVo;
+import com.dnd5th3.dnd5th3backend.exception.DuplicateVoteException;
+import com.dnd5th3.dnd5th3backend.exception.VoteQueueFullException;
+import com.dnd5th3.dnd5th3backend.repository.vote.VoteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VoteIngestionQueueTest {
+
+    @Mock
+    private VoteBatchWriter voteBatchWriter;
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @DisplayName("투표 일괄 저장 및 본인 투표 조회 테스트")
+    @Test
+    void writeBatch() throws Exception {
+        //given
+        VoteIngestionQueue voteIngestionQueue = new VoteIngestionQueue(voteBatchWriter, voteRepository, true, 100, 50, 100);
+
+        //when
+        voteIngestionQueue.offer(1L, 1L, VoteType.PERMIT);
+        voteIngestionQueue.offer(2L, 1L, VoteType.REJECT);
+        voteIngestionQueue.offer(3L, 2L, VoteType.PERMIT);
+        VoteType pendingVoteType = voteIngestionQueue.getPendingVoteType(2L, 1L);
+        voteIngestionQueue.start();
+        voteIngestionQueue.stop();
+
+        //then
+        ArgumentCaptor<List<PendingVoteVo>> captor = ArgumentCaptor.forClass(List.class);
+        verify(voteBatchWriter, atLeastOnce()).write(captor.capture());
+        assertEquals(3, captor.getAllValues().stream().mapToInt(List::size).sum());
+        assertEquals(VoteType.REJECT, pendingVoteType);
+        assertNull(voteIngestionQueue.getPendingVoteType(2L, 1L));
+    }
+
+    @DisplayName("일괄 저장 실패시 개별 저장 재시도 테스트")
+    @Test
+    void retryEach() throws Exception {
+        //given
+        VoteIngestionQueue voteIngestionQueue = new VoteIngestionQueue(voteBatchWriter, voteRepository, true, 100, 50, 100);
+        lenient().doThrow(new RuntimeException("duplicate")).when(voteBatchWriter).write(argThat(votes -> votes.size() > 1));
+
+        //when
+        voteIngestionQueue.offer(1L, 1L, VoteType.PERMIT);
+        voteIngestionQueue.offer(2L, 1L, VoteType.PERMIT);
+        voteIngestionQueue.start();
+        voteIngestionQueue.stop();
+
+        //then
+        verify(voteBatchWriter, times(2)).write(argThat(votes -> votes.size() == 1));
+    }
+
+    @DisplayName("중복 투표 테스트")
+    @Test
+    void duplicateVote() {
+        //given
+        VoteIngestionQueue voteIngestionQueue = new VoteIngestionQueue(voteBatchWriter, voteRepository, true, 100, 50, 100);
+        given(voteRepository.existsByMemberIdAndPostsId(1L, 1L)).willReturn(false);
+        given(voteRepository.existsByMemberIdAndPostsId(2L, 1L)).willReturn(true);
+
+        //when
+        voteIngestionQueue.offer(1L, 1L, VoteType.PERMIT);
+
+        //then
+        assertThrows(DuplicateVoteException.class, () -> voteIngestionQueue.offer(1L, 1L, VoteType.REJECT));
+        assertThrows(DuplicateVoteException.class, () -> voteIngestionQueue.offer(2L, 1L, VoteType.REJECT));
+        assertNull(voteIngestionQueue.getPendingVoteType(2L, 1L));
+    }
+
+    @DisplayName("큐가 가득 찼을 때 요청 거부 테스트")
+    @Test
+    void queueFull() {
+        //given
+        VoteIngestionQueue voteIngestionQueue = new VoteIngestionQueue(voteBatchWriter, voteRepository, true, 100, 50, 1);
+
+        //when
+        voteIngestionQueue.offer(1L, 1L, VoteType.PERMIT);
+
+        //then
+        assertThrows(VoteQueueFullException.class, () -> voteIngestionQueue.offer(2L, 1L, VoteType.PERMIT));
+        assertEquals(1, voteIngestionQueue.getQueueSize());
+        verify(voteBatchWriter, never()).write(anyList());
+    }
+}
@@ -0,0 +1,123 @@
+package com.dnd5th3.dnd5th3backend.service;
+
+import com.dnd5th3.dnd5th3backend.domain.member.Member;
+import com.dnd5th3.dnd5th3backend.domain.member.Role;
+import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
+import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VoteRatioBroadcasterTest {
+
+    @Mock
+    private PostsRepository postsRepository;
+
+    private VoteRatioBroadcaster voteRatioBroadcaster;
+    private Posts posts;
+
+    @BeforeEach
+    void setUp() {
+        voteRatioBroadcaster = new VoteRatioBroadcaster(postsRepository, 60000L, MoreExecutors.newDirectExecutorService());
+        Member member = Member.builder().id(1L).email("test@gmail.com").password("1234").role(Role.ROLE_USER).name("닉네임").build();
+        posts = Posts.builder()
+                .id(1L)
+                .member(member)
+                .title("test")
+                .content("test content")
+                .isVoted(false)
+                .isPostsEnd(false)
+                .permitCount(3)
+                .rejectCount(1)
+                .rankCount(0)
+                .voteDeadline(LocalDateTime.now().plusDays(1L))
+                .postsDeadline(LocalDateTime.now().plusDays(7L))
+                .build();
+    }
+
+    @DisplayName("변경된 게시글은 구독자 수와 무관하게 주기당 한 번만 조회 테스트")
+    @Test
+    void publishOncePerChangedPost() {
+        //given
+        given(postsRepository.findById(1L)).willReturn(Optional.of(posts));
+        voteRatioBroadcaster.subscribe(1L);
+        voteRatioBroadcaster.subscribe(1L);
+
+        //when
+        voteRatioBroadcaster.markChangedAfterCommit(1L);
+        voteRatioBroadcaster.markChangedAfterCommit(1L);
+        voteRatioBroadcaster.publish();
+
+        //then
+        assertEquals(2, voteRatioBroadcaster.getSubscriberCount(1L));
+        //구독 시 2회 + 발행 시 1회
+        verify(postsRepository, times(3)).findById(1L);
+    }
+
+    @DisplayName("변경이 없으면 발행하지 않음 테스트")
+    @Test
+    void skipUnchangedPost() {
+        //given
+        given(postsRepository.findById(1L)).willReturn(Optional.of(posts));
+        voteRatioBroadcaster.subscribe(1L);
+
+        //when
+        voteRatioBroadcaster.publish();
+
+        //then
+        verify(postsRepository, times(1)).findById(1L);
+    }
+
+    @DisplayName("구독자가 없는 게시글은 변경 표시 무시 테스트")
+    @Test
+    void ignoreWithoutSubscriber() {
+        //when
+        voteRatioBroadcaster.markChangedAfterCommit(2L);
+        voteRatioBroadcaster.publish();
+
+        //then
+        assertEquals(0, voteRatioBroadcaster.getSubscriberCount(2L));
+        verify(postsRepository, times(0)).findById(2L);
+    }
+
+    @DisplayName("전송 대기열이 가득 차면 다음 주기에 다시 전송 테스트")
+    @Test
+    void retryWhenQueueFull() {
+        //given
+        ExecutorService executor = mock(ExecutorService.class);
+        willThrow(new RejectedExecutionException())
+                .willAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(0).run();
+                    return null;
+                })
+                .given(executor).execute(any(Runnable.class));
+        VoteRatioBroadcaster busyBroadcaster = new VoteRatioBroadcaster(postsRepository, 60000L, executor);
+        given(postsRepository.findById(1L)).willReturn(Optional.of(posts));
+        busyBroadcaster.subscribe(1L);
+        busyBroadcaster.markChangedAfterCommit(1L);
+
+        //when
+        busyBroadcaster.publish();
+        busyBroadcaster.publish();
+
+        //then
+        //구독 시 1회 + 두 번째 발행 시 1회
+        verify(postsRepository, times(2)).findById(1L);
+    }
+}
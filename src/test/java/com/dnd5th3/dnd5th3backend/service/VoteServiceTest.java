@@ -5,6 +5,7 @@ import com.dnd5th3.dnd5th3backend.domain.member.Role;
 import com.dnd5th3.dnd5th3backend.domain.posts.Posts;
 import com.dnd5th3.dnd5th3backend.domain.vote.Vote;
 import com.dnd5th3.dnd5th3backend.domain.vote.VoteType;
+import com.dnd5th3.dnd5th3backend.exception.DuplicateVoteException;
 import com.dnd5th3.dnd5th3backend.repository.posts.PostsRepository;
 import com.dnd5th3.dnd5th3backend.repository.vote.VoteRepository;
 import org.junit.jupiter.api.Assertions;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -22,7 +24,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class VoteServiceTest {
@@ -33,6 +35,15 @@ class VoteServiceTest {
     @Mock
     private PostsRepository postsRepository;
 
+    @Mock
+    private VoteIngestionQueue voteIngestionQueue;
+
+    @Mock
+    private VoteRatioBroadcaster voteRatioBroadcaster;
+
+    @Mock
+    private PostsTrendingRanking postsTrendingRanking;
+
     @InjectMocks
     private VoteService voteService;
 
@@ -74,16 +85,27 @@ class VoteServiceTest {
     @Test
     void saveVote() {
         //given
-        given(postsRepository.findById(1L)).willReturn(Optional.of(posts));
-        given(voteRepository.save(any(Vote.class))).willReturn(vote);
+        given(voteRepository.saveAndFlush(any(Vote.class))).willReturn(vote);
 
         //when
-        Vote savedVote = voteService.saveVote(member, posts, VoteType.NO_RESULT);
+        Vote savedVote = voteService.saveVote(member, posts, VoteType.PERMIT);
 
         //then
         assertEquals(savedVote.getId(), vote.getId());
         assertEquals(savedVote.getMember(), vote.getMember());
         assertEquals(savedVote.getPosts(), vote.getPosts());
+        verify(postsRepository, times(1)).increaseVoteCount(1L, VoteType.PERMIT);
+    }
+
+    @DisplayName("중복 투표 테스트")
+    @Test
+    void saveDuplicateVote() {
+        //given
+        given(voteRepository.saveAndFlush(any(Vote.class))).willThrow(new DataIntegrityViolationException("uk_vote_member_post"));
+
+        //when & then
+        assertThrows(DuplicateVoteException.class, () -> voteService.saveVote(member, posts, VoteType.PERMIT));
+        verify(postsRepository, never()).increaseVoteCount(any(), any());
     }
 
     @DisplayName("투표 결과 조회 테스트")
@@ -98,4 +120,18 @@ class VoteServiceTest {
         //then
         assertEquals(voteType, vote.getResult());
     }
-}
\ No newline at end of file
+
+    @DisplayName("저장 대기 중인 본인 투표 결과 조회 테스트")
+    @Test
+    void getPendingVoteType() {
+        //given
+        given(voteIngestionQueue.getPendingVoteType(1L, 1L)).willReturn(VoteType.REJECT);
+
+        //when
+        VoteType voteType = voteService.getVoteType(member, posts);
+
+        //then
+        assertEquals(VoteType.REJECT, voteType);
+        verify(voteRepository, never()).findByMemberAndPosts(member, posts);
+    }
+}
@@ -0,0 +1,165 @@
+package com.dnd5th3.dnd5th3backend.utils;
+
+import com.dnd5th3.dnd5th3backend.domain.image.ProductImage;
+import com.dnd5th3.dnd5th3backend.repository.image.ProductImageRepository;
+import com.dnd5th3.dnd5th3backend.service.ThumbnailGenerator;
+import com.dnd5th3.dnd5th3backend.utils.storage.LocalObjectStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3UploaderTest {
+
+    //"image" 의 SHA-256
+    private static final String IMAGE_HASH = "6105d6cc76af400325e94d588ce511be5bfdbb73b437dc51eca43917d7a43e3d";
+
+    @TempDir
+    Path storageDir;
+
+    @Mock
+    private ProductImageRepository productImageRepository;
+    @Mock
+    private ThumbnailGenerator thumbnailGenerator;
+
+    private final Map<String, ProductImage> savedImages = new HashMap<>();
+    private LocalObjectStorage localObjectStorage;
+    private S3Uploader s3Uploader;
+
+    @BeforeEach
+    void setUp() {
+        localObjectStorage = new LocalObjectStorage(storageDir.toString(), "http://localhost:8080/local-storage");
+        s3Uploader = new S3Uploader(localObjectStorage, productImageRepository, thumbnailGenerator);
+        lenient().when(productImageRepository.findByHash(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(savedImages.get(invocation.<String>getArgument(0))));
+        lenient().when(productImageRepository.save(any(ProductImage.class))).thenAnswer(invocation -> {
+            ProductImage image = invocation.getArgument(0);
+            savedImages.put(image.getHash(), image);
+            return image;
+        });
+    }
+
+    @DisplayName("multipart 파일을 저장소로 업로드 테스트")
+    @Test
+    void upload() throws Exception {
+        //given
+        MockMultipartFile file = new MockMultipartFile("file", "test.JPG", MediaType.IMAGE_JPEG_VALUE, "image".getBytes(StandardCharsets.UTF_8));
+
+        //when
+        String url = s3Uploader.upload(file, S3Uploader.DIR_NAME).getUrl();
+
+        //then
+        assertEquals("http://localhost:8080/local-storage/static/" + IMAGE_HASH + ".jpg", url);
+        String key = url.substring("http://localhost:8080/local-storage/".length());
+        assertEquals("image", Files.readString(localObjectStorage.resolve(key)));
+        assertFalse(Files.exists(Path.of(System.getProperty("user.dir"), "test.JPG")));
+        verify(thumbnailGenerator, times(1)).generate(any(), eq(key), eq(5L));
+    }
+
+    @DisplayName("같은 이름의 파일을 업로드해도 저장 경로가 겹치지 않는 테스트")
+    @Test
+    void uploadSameFileName() throws Exception {
+        //given
+        MockMultipartFile first = new MockMultipartFile("file", "test.jpg", MediaType.IMAGE_JPEG_VALUE, "first".getBytes(StandardCharsets.UTF_8));
+        MockMultipartFile second = new MockMultipartFile("file", "test.jpg", MediaType.IMAGE_JPEG_VALUE, "second".getBytes(StandardCharsets.UTF_8));
+
+        //when
+        String firstUrl = s3Uploader.upload(first, S3Uploader.DIR_NAME).getUrl();
+        String secondUrl = s3Uploader.upload(second, S3Uploader.DIR_NAME).getUrl();
+
+        //then
+        assertNotEquals(firstUrl, secondUrl);
+    }
+
+    @DisplayName("확장자가 없는 파일은 업로드하지 않는 테스트")
+    @Test
+    void uploadWithoutExtension() throws Exception {
+        //given
+        MockMultipartFile file = new MockMultipartFile("file", "test", MediaType.IMAGE_JPEG_VALUE, "image".getBytes(StandardCharsets.UTF_8));
+
+        //when
+        ProductImage productImage = s3Uploader.upload(file, S3Uploader.DIR_NAME);
+
+        //then
+        assertNull(productImage);
+    }
+
+    @DisplayName("같은 내용의 이미지는 다시 저장하지 않고 기존 URL 을 재사용하는 테스트")
+    @Test
+    void uploadSameContent() throws Exception {
+        //given
+        MockMultipartFile first = new MockMultipartFile("file", "first.jpg", MediaType.IMAGE_JPEG_VALUE, "image".getBytes(StandardCharsets.UTF_8));
+        MockMultipartFile second = new MockMultipartFile("file", "second.png", MediaType.IMAGE_PNG_VALUE, "image".getBytes(StandardCharsets.UTF_8));
+        given(productImageRepository.updateLastUsedDate(any(), any(LocalDateTime.class))).willReturn(1);
+
+        //when
+        String firstUrl = s3Uploader.upload(first, S3Uploader.DIR_NAME).getUrl();
+        String secondUrl = s3Uploader.upload(second, S3Uploader.DIR_NAME).getUrl();
+
+        //then
+        assertEquals(firstUrl, secondUrl);
+        verify(productImageRepository, times(1)).save(any(ProductImage.class));
+        verify(thumbnailGenerator, times(1)).generate(any(), anyString(), anyLong());
+        verify(productImageRepository, times(1)).updateLastUsedDate(any(), any(LocalDateTime.class));
+        try (Stream<Path> files = Files.list(storageDir.resolve(S3Uploader.DIR_NAME))) {
+            assertEquals(1L, files.count());
+        }
+    }
+
+    @DisplayName("재사용하려던 이미지를 정리 작업이 지웠으면 다시 업로드하는 테스트")
+    @Test
+    void uploadAfterCollected() throws Exception {
+        //given
+        MockMultipartFile first = new MockMultipartFile("file", "first.jpg", MediaType.IMAGE_JPEG_VALUE, "image".getBytes(StandardCharsets.UTF_8));
+        MockMultipartFile second = new MockMultipartFile("file", "second.jpg", MediaType.IMAGE_JPEG_VALUE, "image".getBytes(StandardCharsets.UTF_8));
+        String firstUrl = s3Uploader.upload(first, S3Uploader.DIR_NAME).getUrl();
+        Files.delete(localObjectStorage.resolve(localObjectStorage.keyOf(firstUrl)));
+        given(productImageRepository.updateLastUsedDate(any(), any(LocalDateTime.class))).willReturn(0);
+
+        //when
+        String secondUrl = s3Uploader.upload(second, S3Uploader.DIR_NAME).getUrl();
+
+        //then
+        assertEquals(firstUrl, secondUrl);
+        assertTrue(Files.exists(localObjectStorage.resolve(localObjectStorage.keyOf(secondUrl))));
+        verify(productImageRepository, times(2)).save(any(ProductImage.class));
+    }
+
+    @DisplayName("같은 내용이 동시에 등록되면 먼저 등록된 URL 을 사용하는 테스트")
+    @Test
+    void uploadSameContentConcurrently() throws Exception {
+        //given
+        MockMultipartFile file = new MockMultipartFile("file", "test.jpg", MediaType.IMAGE_JPEG_VALUE, "image".getBytes(StandardCharsets.UTF_8));
+        ProductImage registeredImage = ProductImage.builder().hash(IMAGE_HASH).url("http://localhost:8080/local-storage/static/registered.jpg").size(5L).build();
+        given(productImageRepository.findByHash(IMAGE_HASH)).willReturn(Optional.empty(), Optional.of(registeredImage));
+        given(productImageRepository.save(any(ProductImage.class))).willThrow(new DataIntegrityViolationException("uk_product_image_hash"));
+
+        //when
+        String url = s3Uploader.upload(file, S3Uploader.DIR_NAME).getUrl();
+
+        //then
+        assertEquals(registeredImage.getUrl(), url);
+        verify(thumbnailGenerator, never()).generate(any(), anyString(), anyLong());
+    }
+}
@@ -0,0 +1,86 @@
+package com.dnd5th3.dnd5th3backend.utils.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageResizerTest {
+
+    @DisplayName("비율을 유지해 가로 길이에 맞춰 줄이는 테스트")
+    @Test
+    void resize() {
+        //given
+        BufferedImage source = new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB);
+
+        //when
+        BufferedImage resized = ImageResizer.resize(source, ImageVariant.CARD.getWidth());
+
+        //then
+        assertEquals(360, resized.getWidth());
+        assertEquals(180, resized.getHeight());
+        assertEquals(BufferedImage.TYPE_INT_RGB, resized.getType());
+    }
+
+    @DisplayName("원본이 목표 크기보다 작으면 키우지 않는 테스트")
+    @Test
+    void resizeSmallImage() {
+        //given
+        BufferedImage source = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+
+        //when
+        BufferedImage resized = ImageResizer.resize(source, ImageVariant.DETAIL.getWidth());
+
+        //then
+        assertEquals(200, resized.getWidth());
+        assertEquals(100, resized.getHeight());
+    }
+
+    @DisplayName("메모리 한도를 넘는 이미지는 subsampling 으로 줄여서 읽는 테스트")
+    @Test
+    void readWithHeapBudget() throws IOException {
+        //given
+        byte[] png = toPng(new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB));
+        long maxDecodeBytes = 8L * 1024 * 1024;
+
+        //when
+        BufferedImage image = ImageResizer.read(new ByteArrayInputStream(png), maxDecodeBytes, ImageVariant.maxWidth());
+
+        //then
+        assertTrue((long) image.getWidth() * image.getHeight() * 4 * 2 <= maxDecodeBytes);
+        assertEquals(4, 3000 / image.getHeight(), "가로 세로 같은 비율로 줄어야 한다");
+    }
+
+    @DisplayName("목표 크기의 2배보다 크게 디코딩하지 않는 테스트")
+    @Test
+    void subsamplingForTargetWidth() {
+        //when
+        int subsampling = ImageResizer.subsampling(4000, 3000, Long.MAX_VALUE, 1000);
+
+        //then
+        assertEquals(2, subsampling);
+    }
+
+    @DisplayName("이미지가 아니면 null 을 반환하는 테스트")
+    @Test
+    void readNotImage() throws IOException {
+        //when
+        BufferedImage image = ImageResizer.read(new ByteArrayInputStream("image".getBytes(StandardCharsets.UTF_8)), Long.MAX_VALUE, 360);
+
+        //then
+        assertNull(image);
+    }
+
+    private byte[] toPng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}
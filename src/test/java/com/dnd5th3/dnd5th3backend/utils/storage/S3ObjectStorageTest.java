@@ -0,0 +1,117 @@
+package com.dnd5th3.dnd5th3backend.utils.storage;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3ObjectStorageTest {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    @Mock
+    private AmazonS3Client amazonS3Client;
+
+    private S3ObjectStorage s3ObjectStorage;
+
+    @BeforeEach
+    void setUp() {
+        s3ObjectStorage = new S3ObjectStorage(amazonS3Client, "bucket", PART_SIZE, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3ObjectStorage.shutdown();
+    }
+
+    @DisplayName("part 크기 이하 파일은 길이를 지정해 한 번에 업로드 테스트")
+    @Test
+    void putObject() throws Exception {
+        //given
+        byte[] content = new byte[1024];
+        given(amazonS3Client.getUrl("bucket", "static/a.jpg")).willReturn(new URL("https://bucket.s3.amazonaws.com/static/a.jpg"));
+
+        //when
+        String url = s3ObjectStorage.put("static/a.jpg", new ByteArrayInputStream(content), content.length, "image/jpeg");
+
+        //then
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3Client, times(1)).putObject(captor.capture());
+        assertEquals(1024L, captor.getValue().getMetadata().getContentLength());
+        assertNull(captor.getValue().getFile());
+        assertEquals("https://bucket.s3.amazonaws.com/static/a.jpg", url);
+        verify(amazonS3Client, never()).initiateMultipartUpload(any());
+    }
+
+    @DisplayName("큰 파일은 part 단위 multipart 업로드 테스트")
+    @Test
+    void putMultipart() throws Exception {
+        //given
+        byte[] content = new byte[PART_SIZE * 2 + 100];
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("upload-id");
+        given(amazonS3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).willReturn(initiateResult);
+        given(amazonS3Client.uploadPart(any(UploadPartRequest.class))).willAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+        given(amazonS3Client.getUrl("bucket", "static/large.jpg")).willReturn(new URL("https://bucket.s3.amazonaws.com/static/large.jpg"));
+
+        //when
+        s3ObjectStorage.put("static/large.jpg", new ByteArrayInputStream(content), content.length, "image/jpeg");
+
+        //then
+        ArgumentCaptor<UploadPartRequest> partCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(amazonS3Client, times(3)).uploadPart(partCaptor.capture());
+        List<Long> partSizes = partCaptor.getAllValues().stream()
+                .sorted((a, b) -> Integer.compare(a.getPartNumber(), b.getPartNumber()))
+                .map(UploadPartRequest::getPartSize)
+                .collect(Collectors.toList());
+        assertEquals(List.of((long) PART_SIZE, (long) PART_SIZE, 100L), partSizes);
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(amazonS3Client, times(1)).completeMultipartUpload(completeCaptor.capture());
+        List<Integer> partNumbers = completeCaptor.getValue().getPartETags().stream().map(PartETag::getPartNumber).collect(Collectors.toList());
+        assertEquals(List.of(1, 2, 3), partNumbers);
+        verify(amazonS3Client, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @DisplayName("part 업로드 실패시 multipart 업로드 취소 테스트")
+    @Test
+    void abortMultipart() {
+        //given
+        byte[] content = new byte[PART_SIZE + 1];
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("upload-id");
+        given(amazonS3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).willReturn(initiateResult);
+        given(amazonS3Client.uploadPart(any(UploadPartRequest.class))).willThrow(new IllegalStateException("network error"));
+
+        //when
+        assertThrows(IOException.class, () -> s3ObjectStorage.put("static/large.jpg", new ByteArrayInputStream(content), content.length, "image/jpeg"));
+
+        //then
+        verify(amazonS3Client, times(1)).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(amazonS3Client, never()).completeMultipartUpload(any());
+    }
+}